@@ -0,0 +1,131 @@
+package com.taskapp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time to import tasks into a running backend one POST /api/tasks at a time against
+ * POST /api/tasks/batch. Runs alternate between the two so both see the same database state;
+ * the tasks of each run are deleted again, untimed, through the batch endpoint.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.mainClass=com.taskapp.benchmark.BatchImportBenchmark \
+ *     -Dexec.args="--tasks=1000 --runs=5"
+ * </pre>
+ */
+public class BatchImportBenchmark {
+
+    private final BenchmarkClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int tasks;
+    private final int batchSize;
+
+    public BatchImportBenchmark(BenchmarkClient client, int tasks, int batchSize) {
+        this.client = client;
+        this.tasks = tasks;
+        this.batchSize = batchSize;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        String label = options.get("label", "default");
+        BatchImportBenchmark benchmark = new BatchImportBenchmark(
+                new BenchmarkClient(options.get("base-url", "http://localhost:8080"), BenchmarkClient.newHttpClient()),
+                options.getInt("tasks", 1000),
+                options.getInt("batch-size", 1000));
+
+        Map<String, Object> report = benchmark.run(options.getInt("runs", 5), options.get("user", "bench-import"));
+        report.put("label", label);
+
+        File out = new File(options.get("out", "target/benchmark/batch-import-" + label + ".json"));
+        out.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+        System.out.println("Batch import report written to " + out.getAbsolutePath());
+        System.exit(0);
+    }
+
+    public Map<String, Object> run(int runs, String username) throws Exception {
+        String token = client.registerOrLogin(username);
+        LatencySamples single = new LatencySamples();
+        LatencySamples batched = new LatencySamples();
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            List<Long> ids = importOneByOne(token, run);
+            single.add(System.nanoTime() - start);
+            delete(token, ids);
+
+            start = System.nanoTime();
+            ids = importBatched(token, run);
+            batched.add(System.nanoTime() - start);
+            delete(token, ids);
+
+            System.out.printf("Run %d: one by one %.0f ms, batched %.0f ms%n", run,
+                    single.toArray()[run] / 1e6, batched.toArray()[run] / 1e6);
+        }
+
+        double singleMedian = Percentiles.percentileMillis(single.toArray(), 50);
+        double batchedMedian = Percentiles.percentileMillis(batched.toArray(), 50);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("tasks", tasks);
+        report.put("batchSize", batchSize);
+        report.put("oneByOne", single.summary());
+        report.put("batched", batched.summary());
+        report.put("oneByOneTasksPerSecond", tasks / (singleMedian / 1000));
+        report.put("batchedTasksPerSecond", tasks / (batchedMedian / 1000));
+        report.put("speedup", singleMedian / batchedMedian);
+        System.out.printf("Median speedup for %d tasks: %.1fx%n", tasks, singleMedian / batchedMedian);
+        return report;
+    }
+
+    private List<Long> importOneByOne(String token, int run) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            ids.add(client.createTask(token, title("single", run, i), null).get("id").asLong());
+        }
+        return ids;
+    }
+
+    private List<Long> importBatched(String token, int run) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(tasks);
+        for (int from = 0; from < tasks; from += batchSize) {
+            List<Map<String, Object>> operations = new ArrayList<>();
+            for (int i = from; i < Math.min(tasks, from + batchSize); i++) {
+                operations.add(Map.of("op", "CREATE", "title", title("batch", run, i), "description", "benchmark"));
+            }
+            for (JsonNode result : batch(token, operations).get("results")) {
+                ids.add(result.get("id").asLong());
+            }
+        }
+        return ids;
+    }
+
+    private void delete(String token, List<Long> ids) throws IOException, InterruptedException {
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Map<String, Object>> operations = new ArrayList<>();
+            for (Long id : ids.subList(from, Math.min(ids.size(), from + batchSize))) {
+                operations.add(Map.of("op", "DELETE", "id", id));
+            }
+            batch(token, operations);
+        }
+    }
+
+    private JsonNode batch(String token, List<Map<String, Object>> operations) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.postJson("/api/tasks/batch", token, Map.of("operations", operations));
+        if (response.statusCode() != 200) {
+            throw new IOException("Batch failed: HTTP " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static String title(String mode, int run, int index) {
+        return "Import " + mode + " " + run + "-" + index;
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskapp.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Minimal --key=value argument parser shared by the benchmark entry points.
+ */
+public class BenchmarkArgs {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public BenchmarkArgs(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = values.get(key);
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+
+    /**
+     * Options whose key starts with one of the prefixes, e.g. Spring properties passed through to the app
+     */
+    public Map<String, String> withPrefix(String... prefixes) {
+        Map<String, String> matching = new TreeMap<>();
+        values.forEach((key, value) -> {
+            for (String prefix : prefixes) {
+                if (key.startsWith(prefix)) {
+                    matching.put(key, value);
+                }
+            }
+        });
+        return matching;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,140 @@
+package com.taskapp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Thin REST client for driving a running backend from benchmark tools.
+ */
+public class BenchmarkClient {
+
+    public static final String PASSWORD = "bench-password";
+
+    private final String baseUrl;
+    private final String streamBaseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public BenchmarkClient(String baseUrl, HttpClient httpClient) {
+        this(baseUrl, baseUrl, httpClient);
+    }
+
+    /**
+     * Client whose SSE streams go to a separate stream tier (e.g. pods running the stream-reactive profile).
+     */
+    public BenchmarkClient(String baseUrl, String streamBaseUrl, HttpClient httpClient) {
+        this.baseUrl = baseUrl;
+        this.streamBaseUrl = streamBaseUrl;
+        this.httpClient = httpClient;
+    }
+
+    public static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public HttpClient httpClient() {
+        return httpClient;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Register the user, or log in when it already exists from a previous run. Returns the JWT.
+     */
+    public String registerOrLogin(String username) throws IOException, InterruptedException {
+        HttpResponse<String> register = postJson("/api/auth/register", null, Map.of(
+                "username", username,
+                "email", username + "@bench.local",
+                "password", PASSWORD));
+        if (register.statusCode() == 200) {
+            return objectMapper.readTree(register.body()).get("token").asText();
+        }
+        HttpResponse<String> login = postJson("/api/auth/login", null, Map.of(
+                "username", username,
+                "password", PASSWORD));
+        if (login.statusCode() != 200) {
+            throw new IOException("Could not authenticate " + username + ": HTTP " + login.statusCode());
+        }
+        return objectMapper.readTree(login.body()).get("token").asText();
+    }
+
+    public JsonNode createTask(String token, String title, Long assignedTo) throws IOException, InterruptedException {
+        Map<String, Object> body = assignedTo != null
+                ? Map.of("title", title, "description", "benchmark", "assignedTo", assignedTo)
+                : Map.of("title", title, "description", "benchmark");
+        HttpResponse<String> response = postJson("/api/tasks", token, body);
+        if (response.statusCode() != 200) {
+            throw new IOException("Task creation failed: HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    public JsonNode getJson(String path, String token) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " failed: HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    /**
+     * Build a streaming request for the SSE endpoint using the same token query parameter as the frontend.
+     */
+    public HttpRequest streamRequest(String token) {
+        return HttpRequest.newBuilder(URI.create(streamBaseUrl + "/api/notifications/stream?token=" + token))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+    }
+
+    public HttpResponse<String> postJson(String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    public HttpResponse<String> putJson(String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Read a single-value actuator metric, or -1 when it is not exposed.
+     */
+    public double metric(String token, String name) {
+        try {
+            JsonNode node = getJson("/actuator/metrics/" + name, token);
+            return node.get("measurements").get(0).get("value").asDouble();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+}
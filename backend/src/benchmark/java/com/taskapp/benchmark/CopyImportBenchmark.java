@@ -0,0 +1,126 @@
+package com.taskapp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rows per second through POST /api/tasks/import. Writes --rows generated NDJSON tasks to a
+ * gzipped temp file once, then uploads it --runs times, recording the server's own rows/sec
+ * next to the client's wall time. Every --bad-every'th row is invalid, so the rejection path is
+ * exercised too. Imported tasks are left in place under --user.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.mainClass=com.taskapp.benchmark.CopyImportBenchmark \
+ *     -Dexec.args="--rows=1000000 --runs=3"
+ * </pre>
+ */
+public class CopyImportBenchmark {
+
+    private final BenchmarkClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public CopyImportBenchmark(BenchmarkClient client) {
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        String label = options.get("label", "default");
+        CopyImportBenchmark benchmark = new CopyImportBenchmark(
+                new BenchmarkClient(options.get("base-url", "http://localhost:8080"), BenchmarkClient.newHttpClient()));
+
+        Map<String, Object> report = benchmark.run(options.getInt("rows", 1_000_000), options.getInt("runs", 3),
+                options.getInt("bad-every", 1000), options.get("user", "bench-copy-import"));
+        report.put("label", label);
+
+        File out = new File(options.get("out", "target/benchmark/copy-import-" + label + ".json"));
+        out.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+        System.out.println("Copy import report written to " + out.getAbsolutePath());
+        System.exit(0);
+    }
+
+    public Map<String, Object> run(int rows, int runs, int badEvery, String username) throws Exception {
+        String token = client.registerOrLogin(username);
+        Path input = generate(rows, badEvery);
+        try {
+            LatencySamples wallTimes = new LatencySamples();
+            List<Double> serverRowsPerSecond = new ArrayList<>();
+            long imported = 0;
+            long rejected = 0;
+            for (int run = 0; run < runs; run++) {
+                long start = System.nanoTime();
+                JsonNode result = upload(token, input);
+                wallTimes.add(System.nanoTime() - start);
+                imported = result.get("imported").asLong();
+                rejected = result.get("rejected").asLong();
+                serverRowsPerSecond.add(result.get("rowsPerSecond").asDouble());
+                System.out.printf("Run %d: %d imported, %d rejected, %.0f rows/s on the server%n", run, imported,
+                        rejected, result.get("rowsPerSecond").asDouble());
+            }
+
+            double medianMillis = Percentiles.percentileMillis(wallTimes.toArray(), 50);
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("rows", rows);
+            report.put("uploadBytes", Files.size(input));
+            report.put("imported", imported);
+            report.put("rejected", rejected);
+            report.put("wallTime", wallTimes.summary());
+            report.put("clientRowsPerSecond", rows / (medianMillis / 1000));
+            report.put("serverRowsPerSecond", serverRowsPerSecond);
+            return report;
+        } finally {
+            Files.deleteIfExists(input);
+        }
+    }
+
+    private JsonNode upload(String token, Path input) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(client.baseUrl() + "/api/tasks/import?format=ndjson"))
+                .header("Content-Type", "application/x-ndjson")
+                .header("Content-Encoding", "gzip")
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofHours(1))
+                .POST(HttpRequest.BodyPublishers.ofFile(input))
+                .build();
+        HttpResponse<String> response = client.httpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Import failed: HTTP " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static Path generate(int rows, int badEvery) throws IOException {
+        Path file = Files.createTempFile("task-import", ".ndjson.gz");
+        String[] priorities = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+            for (int i = 0; i < rows; i++) {
+                if (badEvery > 0 && i % badEvery == badEvery - 1) {
+                    writer.write("{\"title\":\"\"}\n");
+                    continue;
+                }
+                writer.write("{\"title\":\"Imported task " + i + "\",\"description\":\"Migrated from the old tracker\","
+                        + "\"priority\":\"" + priorities[i % priorities.length] + "\"}\n");
+            }
+        }
+        return file;
+    }
+}
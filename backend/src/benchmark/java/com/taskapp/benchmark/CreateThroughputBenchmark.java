@@ -0,0 +1,118 @@
+package com.taskapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop task creation against a running backend: --concurrency clients, spread over
+ * --users accounts, each POST /api/tasks back to back for --seconds after a warmup. Reports
+ * creates per second, latency percentiles and, from taskapp.task.write.group, how many
+ * transactions the creations took. Run it once with the write combiner off and once with it on
+ * (TASK_WRITE_COMBINER_ENABLED) and compare; without the combiner every creation is a commit.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.mainClass=com.taskapp.benchmark.CreateThroughputBenchmark \
+ *     -Dexec.args="--label=combiner --concurrency=256 --seconds=30"
+ * </pre>
+ */
+public class CreateThroughputBenchmark {
+
+    private final BenchmarkClient client;
+
+    public CreateThroughputBenchmark(BenchmarkClient client) {
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        String label = options.get("label", "default");
+        CreateThroughputBenchmark benchmark = new CreateThroughputBenchmark(
+                new BenchmarkClient(options.get("base-url", "http://localhost:8080"), BenchmarkClient.newHttpClient()));
+
+        Map<String, Object> report = benchmark.run(
+                options.getInt("concurrency", 256),
+                options.getInt("users", 32),
+                options.getInt("warmup-seconds", 10),
+                options.getInt("seconds", 30));
+        report.put("label", label);
+
+        File out = new File(options.get("out", "target/benchmark/create-throughput-" + label + ".json"));
+        out.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+        System.out.println("Create throughput report written to " + out.getAbsolutePath());
+        System.exit(0);
+    }
+
+    public Map<String, Object> run(int concurrency, int users, int warmupSeconds, int seconds) throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            tokens.add(client.registerOrLogin("bench-create-" + i));
+        }
+
+        drive(tokens, concurrency, TimeUnit.SECONDS.toNanos(warmupSeconds), new LatencySamples(), new AtomicLong());
+
+        double groupsBefore = client.metric(tokens.get(0), "taskapp.task.write.group");
+        LatencySamples latencies = new LatencySamples();
+        AtomicLong failures = new AtomicLong();
+        long measuredNanos = drive(tokens, concurrency, TimeUnit.SECONDS.toNanos(seconds), latencies, failures);
+        double groupsAfter = client.metric(tokens.get(0), "taskapp.task.write.group");
+
+        double elapsedSeconds = measuredNanos / 1e9;
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("concurrency", concurrency);
+        report.put("users", users);
+        report.put("seconds", elapsedSeconds);
+        report.put("createsPerSecond", latencies.count() / elapsedSeconds);
+        report.put("failures", failures.get());
+        report.put("latency", latencies.summary());
+        if (groupsBefore >= 0 && groupsAfter > groupsBefore) {
+            double groups = groupsAfter - groupsBefore;
+            report.put("commitsPerSecond", groups / elapsedSeconds);
+            report.put("tasksPerCommit", latencies.count() / groups);
+        } else {
+            // No groups recorded: the combiner is off and each creation committed on its own
+            report.put("commitsPerSecond", latencies.count() / elapsedSeconds);
+            report.put("tasksPerCommit", 1.0);
+        }
+        System.out.printf("%.0f creates/s, %.0f commits/s, p99 %.1f ms%n", report.get("createsPerSecond"),
+                report.get("commitsPerSecond"), Percentiles.percentileMillis(latencies.toArray(), 99));
+        return report;
+    }
+
+    /**
+     * Run the clients for the given time; returns the elapsed nanos
+     */
+    private long drive(List<String> tokens, int concurrency, long durationNanos, LatencySamples latencies,
+                       AtomicLong failures) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+        AtomicLong sequence = new AtomicLong();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                String token = tokens.get(c % tokens.size());
+                clients.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        long sent = System.nanoTime();
+                        try {
+                            client.createTask(token, "Throughput " + sequence.incrementAndGet(), null);
+                            latencies.add(System.nanoTime() - sent);
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskapp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JmhRunner reports and exits non-zero when a benchmark got slower than the
+ * threshold allows. A regression only counts when it is also outside both error margins, so
+ * noisy results do not fail the comparison on their own.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.mainClass=com.taskapp.benchmark.JmhCompare \
+ *     -Dexec.args="--baseline=jmh-main.json --current=target/benchmark/jmh.json --threshold=0.10"
+ * </pre>
+ */
+public class JmhCompare {
+
+    public static void main(String[] args) throws IOException {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        Map<String, Score> baseline = read(options.get("baseline", "target/benchmark/jmh-baseline.json"));
+        Map<String, Score> current = read(options.get("current", "target/benchmark/jmh.json"));
+        double threshold = options.getDouble("threshold", 0.10);
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %12.3f %-8s (new)%n", entry.getKey(), now.score(), now.unit());
+                continue;
+            }
+            // Lower is better for time per op, higher for throughput
+            double change = (now.score() - before.score()) / before.score();
+            double slowdown = now.higherIsBetter() ? -change : change;
+            boolean beyondError = Math.abs(now.score() - before.score()) > now.error() + before.error();
+            boolean regressed = slowdown > threshold && beyondError;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %12.3f -> %12.3f %-8s %+7.1f%%%s%n", entry.getKey(), before.score(),
+                    now.score(), now.unit(), change * 100, regressed ? "  REGRESSION" : "");
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf("%-90s (not in current run)%n", missing);
+            }
+        }
+
+        System.out.printf("%d regression(s) beyond %.0f%%%n", regressions, threshold * 100);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(String path) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(new File(path))) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            JsonNode params = result.path("params");
+            if (!params.isMissingNode()) {
+                Map<String, String> sorted = new TreeMap<>();
+                params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+                sorted.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            }
+            JsonNode metric = result.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            String mode = result.path("mode").asText();
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText(), "thrpt".equals(mode)));
+        }
+        return scores;
+    }
+
+    private record Score(double score, double error, String unit, boolean higherIsBetter) {
+    }
+}
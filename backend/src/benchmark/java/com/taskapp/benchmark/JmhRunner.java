@@ -0,0 +1,57 @@
+package com.taskapp.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.File;
+
+/**
+ * Runs the JMH benchmarks in src/benchmark/java and writes JMH's JSON report, for comparison
+ * across commits with JmhCompare. Run through exec:exec so the forked JVMs get the test classpath:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *     -Dexec.args="-cp %classpath com.taskapp.benchmark.JmhRunner --include=SseConnectionManager --out=target/benchmark/jmh.json"
+ * </pre>
+ * Without options the iteration counts annotated on each benchmark apply.
+ */
+public class JmhRunner {
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        String out = options.get("out", "target/benchmark/jmh.json");
+        File outFile = new File(out);
+        outFile.getAbsoluteFile().getParentFile().mkdirs();
+
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .include(options.get("include", "com\\.taskapp\\..*Benchmark"))
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(outFile.getAbsolutePath());
+        int forks = options.getInt("forks", -1);
+        if (forks >= 0) {
+            builder.forks(forks);
+        }
+        int warmupIterations = options.getInt("warmup-iterations", -1);
+        if (warmupIterations >= 0) {
+            builder.warmupIterations(warmupIterations);
+        }
+        int iterations = options.getInt("iterations", -1);
+        if (iterations > 0) {
+            builder.measurementIterations(iterations);
+        }
+        String time = options.get("time", null);
+        if (time != null) {
+            builder.warmupTime(TimeValue.fromString(time)).measurementTime(TimeValue.fromString(time));
+        }
+        if (Boolean.parseBoolean(options.get("gc", "false"))) {
+            // Adds gc.alloc.rate.norm (bytes/op) to each result
+            builder.addProfiler("gc");
+        }
+
+        new Runner(builder.build()).run();
+        System.out.println("Report written to " + outFile.getAbsolutePath());
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskapp.benchmark;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe, growable record of latency samples (nanoseconds) with a percentile summary.
+ */
+public class LatencySamples {
+
+    private long[] samples = new long[1024];
+    private int size;
+
+    public synchronized void add(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public synchronized void addAll(LatencySamples other) {
+        long[] theirs = other.toArray();
+        for (long sample : theirs) {
+            add(sample);
+        }
+    }
+
+    public synchronized int count() {
+        return size;
+    }
+
+    public synchronized long[] toArray() {
+        return Arrays.copyOf(samples, size);
+    }
+
+    /**
+     * count, p50/p90/p99/p999 and max in milliseconds
+     */
+    public Map<String, Object> summary() {
+        long[] values = toArray();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", values.length);
+        summary.put("p50Ms", Percentiles.percentileMillis(values, 50));
+        summary.put("p90Ms", Percentiles.percentileMillis(values, 90));
+        summary.put("p99Ms", Percentiles.percentileMillis(values, 99));
+        summary.put("p999Ms", Percentiles.percentileMillis(values, 99.9));
+        summary.put("maxMs", Percentiles.percentileMillis(values, 100));
+        return summary;
+    }
+}
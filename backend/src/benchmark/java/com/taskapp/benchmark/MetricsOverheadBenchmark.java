@@ -0,0 +1,95 @@
+package com.taskapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskapp.service.TaskAppMetrics;
+import com.taskapp.service.TaskAppMetrics.SseSendResult;
+import com.taskapp.service.TaskAppMetrics.TaskOperation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * In-process cost of the TaskAppMetrics hot-path calls, per registry.
+ *
+ * Each case runs the recording call in a tight loop on one thread and reports nanoseconds and
+ * bytes allocated per call, next to a baseline loop that only reads System.nanoTime. Compare
+ * the result with the request latencies from SseConnectionSoak to judge whether the overhead
+ * matters; a non-zero bytes/op means a meter lookup started allocating.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.mainClass=com.taskapp.benchmark.MetricsOverheadBenchmark \
+ *     -Dexec.args="--iterations=5000000 --out=target/benchmark/metrics-overhead.json"
+ * </pre>
+ */
+public class MetricsOverheadBenchmark {
+
+    private static volatile long sink;
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        int iterations = options.getInt("iterations", 5_000_000);
+        int rounds = options.getInt("rounds", 5);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (MeterRegistry registry : List.of(new SimpleMeterRegistry(), new PrometheusMeterRegistry(PrometheusConfig.DEFAULT))) {
+            TaskAppMetrics metrics = new TaskAppMetrics(registry);
+            String registryName = registry.getClass().getSimpleName();
+
+            Map<String, LongConsumer> cases = new LinkedHashMap<>();
+            cases.put("baseline", i -> sink += System.nanoTime());
+            cases.put("taskOperation", i -> metrics.recordTaskOperation(TaskOperation.UPDATE, System.nanoTime(), true));
+            cases.put("fanOut", i -> metrics.recordFanOut(TaskOperation.CREATE, 2));
+            cases.put("redisPublish", i -> metrics.recordRedisPublish("user-notifications", System.nanoTime(), true));
+            cases.put("sseSend", i -> metrics.recordSseSend(SseSendResult.SENT));
+
+            for (Map.Entry<String, LongConsumer> entry : cases.entrySet()) {
+                // Warm-up rounds let the JIT settle before the measured round
+                Map<String, Object> result = null;
+                for (int round = 0; round < rounds; round++) {
+                    result = measure(entry.getValue(), iterations);
+                }
+                result.put("registry", registryName);
+                result.put("case", entry.getKey());
+                results.add(result);
+                System.out.printf("%-24s %-14s %8.1f ns/op %8.2f B/op%n", registryName, entry.getKey(),
+                        result.get("nsPerOp"), result.get("bytesPerOp"));
+            }
+        }
+
+        String out = options.get("out", "target/benchmark/metrics-overhead.json");
+        File outFile = new File(out);
+        outFile.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(outFile, Map.of(
+                "iterations", iterations,
+                "rounds", rounds,
+                "results", results));
+        System.out.println("Report written to " + outFile.getAbsolutePath());
+    }
+
+    private static Map<String, Object> measure(LongConsumer call, int iterations) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            call.accept(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("nsPerOp", (double) elapsed / iterations);
+        result.put("bytesPerOp", (double) allocated / iterations);
+        return result;
+    }
+}
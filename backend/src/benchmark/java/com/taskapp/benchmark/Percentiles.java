@@ -0,0 +1,23 @@
+package com.taskapp.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Nearest-rank percentiles over a recorded set of latency samples (nanoseconds).
+ */
+public final class Percentiles {
+
+    private Percentiles() {
+    }
+
+    public static double percentileMillis(long[] samplesNanos, double percentile) {
+        if (samplesNanos.length == 0) {
+            return 0.0;
+        }
+        long[] sorted = samplesNanos.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        int index = Math.min(Math.max(rank - 1, 0), sorted.length - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,264 @@
+package com.taskapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Step-load soak for the SSE endpoint against a running backend.
+ *
+ * Opens notification streams in steps, and after each step measures connect latency,
+ * end-to-end delivery latency (task created over REST until the event arrives on the
+ * creator's stream) and heap usage. The run stops at the first step that breaks the
+ * error budget or the p99 limit; the last passing step is the max sustainable load.
+ *
+ * Compare thread models by running it twice against the same fixed heap, e.g.
+ * {@code -Xmx512m} with VIRTUAL_THREADS_ENABLED=false and then =true:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.mainClass=com.taskapp.benchmark.SseConnectionSoak \
+ *     -Dexec.args="--base-url=http://localhost:8080 --label=virtual --out=target/benchmark/soak-virtual.json"
+ * </pre>
+ * Admission control limits apply to the soak as to real clients: give the backend a high
+ * SSE_MAX_CONNECTIONS_PER_USER and SSE_CONNECT_RATE (or use enough --users) unless the limits
+ * themselves are under test. Refused streams are reported as refusedStreams.
+ * For the reactive stream tier point --stream-base-url at the stream pods and add --hold-seconds
+ * to keep the plateau open idle and count streams dropped while only heartbeats flow.
+ */
+public class SseConnectionSoak {
+
+    private final BenchmarkClient client;
+    private final List<String> tokens = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Flow.Subscription> openStreams = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<String, Long> pendingProbes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> probeResults = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CountDownLatch> probeLatches = new ConcurrentHashMap<>();
+    private final AtomicInteger failedStreams = new AtomicInteger();
+    private final AtomicInteger refusedStreams = new AtomicInteger();
+
+    public SseConnectionSoak(BenchmarkClient client) {
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        String baseUrl = options.get("base-url", "http://localhost:8080");
+        BenchmarkClient client = new BenchmarkClient(
+                baseUrl, options.get("stream-base-url", baseUrl), BenchmarkClient.newHttpClient());
+        SseConnectionSoak soak = new SseConnectionSoak(client);
+
+        Map<String, Object> report = soak.run(
+                options.getInt("users", 100),
+                options.getInt("step", 500),
+                options.getInt("max-connections", 20000),
+                options.getInt("plateau-seconds", 10),
+                options.getInt("probes", 20),
+                options.getDouble("error-budget", 0.01),
+                options.getDouble("p99-limit-ms", 1000),
+                options.getInt("hold-seconds", 0));
+        report.put("label", options.get("label", "default"));
+
+        File out = new File(options.get("out", "target/benchmark/sse-soak.json"));
+        out.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+        System.out.println("Soak report written to " + out.getAbsolutePath());
+        System.exit(0);
+    }
+
+    public Map<String, Object> run(int users, int step, int maxConnections, int plateauSeconds,
+                                   int probes, double errorBudget, double p99LimitMs,
+                                   int holdSeconds) throws Exception {
+        for (int i = 0; i < users; i++) {
+            tokens.add(client.registerOrLogin("soak-user-" + i));
+        }
+
+        List<Map<String, Object>> steps = new ArrayList<>();
+        int sustainable = 0;
+        int opened = 0;
+
+        while (opened < maxConnections) {
+            int target = Math.min(opened + step, maxConnections);
+            long[] connectNanos = openStreams(opened, target);
+            opened = target;
+
+            TimeUnit.SECONDS.sleep(plateauSeconds);
+            long[] deliveryNanos = probeDelivery(probes);
+
+            double errorRate = (double) failedStreams.get() / opened;
+            double connectP99 = Percentiles.percentileMillis(connectNanos, 99);
+            double deliveryP99 = Percentiles.percentileMillis(deliveryNanos, 99);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("connections", opened);
+            result.put("failedStreams", failedStreams.get());
+            result.put("refusedStreams", refusedStreams.get());
+            result.put("connectP50Ms", Percentiles.percentileMillis(connectNanos, 50));
+            result.put("connectP99Ms", connectP99);
+            result.put("deliveryP50Ms", Percentiles.percentileMillis(deliveryNanos, 50));
+            result.put("deliveryP99Ms", deliveryP99);
+            result.put("heapUsedBytes", client.metric(tokens.get(0), "jvm.memory.used?tag=area:heap"));
+            result.put("liveThreads", client.metric(tokens.get(0), "jvm.threads.live"));
+            steps.add(result);
+            System.out.println(result);
+
+            boolean passed = errorRate <= errorBudget && connectP99 <= p99LimitMs
+                    && deliveryP99 <= p99LimitMs && deliveryNanos.length == probes;
+            if (!passed) {
+                break;
+            }
+            sustainable = opened;
+        }
+
+        // Idle hold: streams should survive on heartbeats alone, any drop here is a server-side close
+        int failedBeforeHold = failedStreams.get();
+        if (holdSeconds > 0) {
+            TimeUnit.SECONDS.sleep(holdSeconds);
+        }
+        int idleDrops = failedStreams.get() - failedBeforeHold;
+
+        openStreams.forEach(Flow.Subscription::cancel);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("maxSustainableConnections", sustainable);
+        report.put("holdSeconds", holdSeconds);
+        report.put("idleDrops", idleDrops);
+        report.put("errorBudget", errorBudget);
+        report.put("p99LimitMs", p99LimitMs);
+        report.put("steps", steps);
+        return report;
+    }
+
+    private long[] openStreams(int from, int to) throws InterruptedException {
+        int count = to - from;
+        long[] connectNanos = new long[count];
+        AtomicInteger recorded = new AtomicInteger();
+        CountDownLatch settled = new CountDownLatch(count);
+
+        for (int i = from; i < to; i++) {
+            String token = tokens.get(i % tokens.size());
+            long start = System.nanoTime();
+            StreamSubscriber subscriber = new StreamSubscriber(connected -> {
+                if (connected) {
+                    int slot = recorded.getAndIncrement();
+                    if (slot < count) {
+                        connectNanos[slot] = System.nanoTime() - start;
+                    }
+                } else {
+                    failedStreams.incrementAndGet();
+                }
+                settled.countDown();
+            });
+            client.httpClient()
+                    .sendAsync(client.streamRequest(token), HttpResponse.BodyHandlers.fromLineSubscriber(subscriber))
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() != 200) {
+                            subscriber.settle(false);
+                        }
+                    });
+        }
+
+        settled.await(60, TimeUnit.SECONDS);
+        int samples = Math.min(recorded.get(), count);
+        long[] result = new long[samples];
+        System.arraycopy(connectNanos, 0, result, 0, samples);
+        return result;
+    }
+
+    private long[] probeDelivery(int probes) throws Exception {
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < probes; i++) {
+            String title = "soak-probe-" + System.nanoTime();
+            CountDownLatch delivered = new CountDownLatch(1);
+            pendingProbes.put(title, System.nanoTime());
+            probeLatches.put(title, delivered);
+
+            client.createTask(tokens.get(0), title, null);
+            if (delivered.await(10, TimeUnit.SECONDS)) {
+                latencies.add(probeResults.remove(title));
+            }
+            pendingProbes.remove(title);
+            probeLatches.remove(title);
+        }
+        return latencies.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void onDataLine(String line) {
+        if (pendingProbes.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Long> probe : pendingProbes.entrySet()) {
+            if (line.contains(probe.getKey()) && pendingProbes.remove(probe.getKey()) != null) {
+                probeResults.put(probe.getKey(), System.nanoTime() - probe.getValue());
+                CountDownLatch latch = probeLatches.get(probe.getKey());
+                if (latch != null) {
+                    latch.countDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * Line subscriber for one stream: the first line counts as connected and scans data lines for probes.
+     */
+    private class StreamSubscriber implements Flow.Subscriber<String> {
+
+        private final Consumer<Boolean> onSettled;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        StreamSubscriber(Consumer<Boolean> onSettled) {
+            this.onSettled = onSettled;
+        }
+
+        void settle(boolean connected) {
+            if (settled.compareAndSet(false, true)) {
+                onSettled.accept(connected);
+            }
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            openStreams.add(subscription);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            // Admission control answers with only a retry hint; count that as a failed connect
+            if (line.startsWith("retry:") && !settled.get()) {
+                refusedStreams.incrementAndGet();
+                settle(false);
+                return;
+            }
+            settle(true);
+            if (line.startsWith("data:")) {
+                onDataLine(line);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (settled.get()) {
+                failedStreams.incrementAndGet();
+            }
+            settle(false);
+        }
+
+        @Override
+        public void onComplete() {
+            settle(false);
+        }
+    }
+}
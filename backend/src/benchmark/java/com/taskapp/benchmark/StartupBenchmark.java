@@ -0,0 +1,257 @@
+package com.taskapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start timing of a backend launched by a shell command, e.g. the plain and the fast-start
+ * image started with docker run.
+ *
+ * Each run starts the command and measures, from process launch:
+ * <ul>
+ *   <li>time until /actuator/health/readiness reports UP;</li>
+ *   <li>the first register/login, first GET /api/tasks and first SSE connected event, each
+ *   against a second call of the same kind to show what is still cold after readiness;</li>
+ *   <li>resident set size at readiness and after the first responses, read from /proc for the
+ *   process tree the command started, or for the PID printed by --pid-command when the backend
+ *   runs elsewhere, e.g. docker inspect -f '{{.State.Pid}}' on a local Docker engine.</li>
+ * </ul>
+ * The command must keep the backend in the foreground; it is stopped with --stop-command, or
+ * by destroying the process, before the next run. Database and Redis are expected to be up.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.mainClass=com.taskapp.benchmark.StartupBenchmark \
+ *     -Dexec.args="--label=fast-start --runs=5 --command='docker run --rm --name startup-bench --network todo_network -p 8080:8080 todo-backend:fast-start' --stop-command='docker stop startup-bench'"
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    private final String baseUrl;
+    private final String command;
+    private final String stopCommand;
+    private final String pidCommand;
+    private final long timeoutNanos;
+    private final HttpClient httpClient = BenchmarkClient.newHttpClient();
+
+    public StartupBenchmark(String baseUrl, String command, String stopCommand, String pidCommand,
+                            int timeoutSeconds) {
+        this.baseUrl = baseUrl;
+        this.command = command;
+        this.stopCommand = stopCommand;
+        this.pidCommand = pidCommand;
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        String command = options.get("command", null);
+        if (command == null) {
+            throw new IllegalArgumentException("--command is required");
+        }
+        String label = options.get("label", "default");
+        new File("target/benchmark").mkdirs();
+        StartupBenchmark benchmark = new StartupBenchmark(
+                options.get("base-url", "http://localhost:8080"),
+                unquote(command),
+                unquote(options.get("stop-command", "")),
+                unquote(options.get("pid-command", "")),
+                options.getInt("timeout-seconds", 180));
+
+        Map<String, Object> report = benchmark.run(options.getInt("runs", 5), label);
+        report.put("label", label);
+
+        File out = new File(options.get("out", "target/benchmark/startup-" + label + ".json"));
+        out.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+        System.out.println("Startup report written to " + out.getAbsolutePath());
+        System.exit(0);
+    }
+
+    public Map<String, Object> run(int runs, String label) throws Exception {
+        Map<String, LatencySamples> samples = new LinkedHashMap<>();
+        Map<String, List<Integer>> rss = new LinkedHashMap<>();
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int run = 0; run < runs; run++) {
+            Map<String, Object> result = runOnce(label + "-" + run);
+            results.add(result);
+            result.forEach((metric, value) -> {
+                if (value instanceof Long nanos) {
+                    samples.computeIfAbsent(metric, key -> new LatencySamples()).add(nanos);
+                } else if (value instanceof Integer kib && kib >= 0) {
+                    rss.computeIfAbsent(metric, key -> new ArrayList<>()).add(kib);
+                }
+            });
+            System.out.println("Run " + run + ": " + millis(result));
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        samples.forEach((metric, values) -> summary.put(metric, values.summary()));
+        rss.forEach((metric, values) -> summary.put(metric.replace("Kib", "Mb"), Map.of(
+                "min", values.stream().mapToInt(Integer::intValue).min().orElse(0) / 1024.0,
+                "max", values.stream().mapToInt(Integer::intValue).max().orElse(0) / 1024.0)));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("command", command);
+        report.put("runs", results.stream().map(StartupBenchmark::millis).toList());
+        report.put("summary", summary);
+        return report;
+    }
+
+    private Map<String, Object> runOnce(String username) throws Exception {
+        Map<String, Object> result = new LinkedHashMap<>();
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder("sh", "-c", command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File("target/benchmark/startup-" + username + ".log"))
+                .start();
+        try {
+            result.put("timeToReady", awaitReady(process) - launched);
+            result.put("rssAtReadyKib", residentKib(process));
+
+            BenchmarkClient client = new BenchmarkClient(baseUrl, httpClient);
+            long start = System.nanoTime();
+            String token = client.registerOrLogin(username);
+            result.put("firstAuth", System.nanoTime() - start);
+            start = System.nanoTime();
+            client.registerOrLogin(username);
+            result.put("secondAuth", System.nanoTime() - start);
+
+            start = System.nanoTime();
+            client.getJson("/api/tasks", token);
+            result.put("firstTaskList", System.nanoTime() - start);
+            start = System.nanoTime();
+            client.getJson("/api/tasks", token);
+            result.put("secondTaskList", System.nanoTime() - start);
+
+            result.put("firstStreamConnect", connectStream(client, token));
+            result.put("secondStreamConnect", connectStream(client, token));
+            result.put("timeToFirstResponses", System.nanoTime() - launched);
+            result.put("rssAfterFirstResponsesKib", residentKib(process));
+        } finally {
+            stop(process);
+        }
+        return result;
+    }
+
+    /**
+     * Poll readiness every 20 ms; returns the nanoTime it first answered UP
+     */
+    private long awaitReady(Process process) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with " + process.exitValue() + " before becoming ready");
+            }
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    return System.nanoTime();
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        throw new IllegalStateException("Backend not ready after " + TimeUnit.NANOSECONDS.toSeconds(timeoutNanos) + " s");
+    }
+
+    /**
+     * Time from request until the stream's connected event, then close it
+     */
+    private long connectStream(BenchmarkClient client, String token) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = httpClient.send(client.streamRequest(token),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Stream refused: HTTP " + response.statusCode());
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("event:") && line.contains("connected")) {
+                    return System.nanoTime() - start;
+                }
+            }
+        }
+        throw new IOException("Stream closed before the connected event");
+    }
+
+    /**
+     * Summed VmRSS in KiB of the backend's process tree; -1 where /proc is not available
+     */
+    private int residentKib(Process process) throws Exception {
+        List<ProcessHandle> processes;
+        if (pidCommand.isEmpty()) {
+            processes = Stream.concat(Stream.of(process.toHandle()), process.descendants()).toList();
+        } else {
+            Process lookup = new ProcessBuilder("sh", "-c", pidCommand).start();
+            String pid = new String(lookup.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            lookup.waitFor(30, TimeUnit.SECONDS);
+            processes = ProcessHandle.of(Long.parseLong(pid))
+                    .map(root -> Stream.concat(Stream.of(root), root.descendants()).toList())
+                    .orElse(List.of());
+        }
+        int total = 0;
+        for (ProcessHandle handle : processes) {
+            Path status = Path.of("/proc", Long.toString(handle.pid()), "status");
+            if (!Files.isReadable(status)) {
+                return -1;
+            }
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    total += Integer.parseInt(line.replaceAll("\\D", ""));
+                }
+            }
+        }
+        return total;
+    }
+
+    private void stop(Process process) throws Exception {
+        if (!stopCommand.isEmpty()) {
+            new ProcessBuilder("sh", "-c", stopCommand).inheritIO().start().waitFor(60, TimeUnit.SECONDS);
+        }
+        process.destroy();
+        if (!process.waitFor(60, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static Map<String, Object> millis(Map<String, Object> result) {
+        Map<String, Object> converted = new LinkedHashMap<>();
+        result.forEach((metric, value) -> {
+            if (value instanceof Long nanos) {
+                converted.put(metric + "Ms", nanos / 1_000_000.0);
+            } else {
+                converted.put(metric, value);
+            }
+        });
+        return converted;
+    }
+
+    private static String unquote(String value) {
+        return value.length() >= 2 && value.startsWith("'") && value.endsWith("'")
+                ? value.substring(1, value.length() - 1) : value;
+    }
+}
@@ -0,0 +1,319 @@
+package com.taskapp.benchmark.db;
+
+import com.taskapp.benchmark.ZipfSampler;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic users and tasks for TaskQueryBenchmark, bulk loaded into PostgreSQL with COPY.
+ *
+ * Users are db-0..db-(n-1) with ids 1..n. User activity is Zipf-distributed over a seeded
+ * permutation of the users, so the busiest users are spread over the id range instead of being
+ * the lowest ids. Each task's creator is drawn from that distribution. With probability
+ * selfAssignRatio the creator is also the assignee, otherwise the assignee is drawn from the same
+ * distribution, so at 0.5 the creator and assignee sides of a user's task list weigh the same.
+ * Timestamps, statuses and text come from the seed too: the same arguments give the same rows.
+ *
+ * Secondary indexes and foreign keys on tasks are dropped for the load and recreated from their
+ * own definitions afterwards, so whatever index set is under test survives a reload.
+ */
+public class SeedDataset {
+
+    public static final String USERNAME_PREFIX = "db-";
+
+    private static final int COPY_CHUNK = 1_000_000;
+    private static final int WRITE_BUFFER = 1 << 16;
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long SPREAD_SECONDS = 365L * 24 * 3600;
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED", "CANCELLED"};
+    private static final double[] STATUS_WEIGHTS = {0.40, 0.25, 0.30, 0.05};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+    private static final double[] PRIORITY_WEIGHTS = {0.25, 0.50, 0.20, 0.05};
+    private static final String[] WORDS = {
+            "review", "deploy", "invoice", "customer", "report", "migrate", "database", "backlog",
+            "release", "design", "meeting", "budget", "incident", "onboarding", "security", "audit",
+            "frontend", "backend", "schedule", "contract", "feedback", "roadmap", "support", "billing",
+            "quarterly", "estimate", "cleanup", "refactor", "metrics", "dashboard", "training", "vendor"};
+
+    private final int users;
+    private final long tasks;
+    private final double activityExponent;
+    private final double selfAssignRatio;
+    private final long seed;
+    private final int[] userAtRank;
+    private final ZipfSampler activity;
+
+    public SeedDataset(int users, long tasks, double activityExponent, double selfAssignRatio, long seed) {
+        if (users <= 1) {
+            throw new IllegalArgumentException("The dataset needs at least two users");
+        }
+        this.users = users;
+        this.tasks = tasks;
+        this.activityExponent = activityExponent;
+        this.selfAssignRatio = selfAssignRatio;
+        this.seed = seed;
+        this.activity = new ZipfSampler(users, activityExponent);
+
+        Random random = new Random(seed);
+        userAtRank = new int[users];
+        for (int i = 0; i < users; i++) {
+            userAtRank[i] = i;
+        }
+        for (int i = users - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = userAtRank[i];
+            userAtRank[i] = userAtRank[j];
+            userAtRank[j] = swap;
+        }
+    }
+
+    public int users() {
+        return users;
+    }
+
+    public long tasks() {
+        return tasks;
+    }
+
+    /**
+     * User index at an activity rank; rank 0 is the busiest user
+     */
+    public int userAtRank(int rank) {
+        return userAtRank[rank];
+    }
+
+    /**
+     * A word from the task text vocabulary, for search probes
+     */
+    public static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    public static String username(int userIndex) {
+        return USERNAME_PREFIX + userIndex;
+    }
+
+    public static long userId(int userIndex) {
+        return userIndex + 1L;
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("users", users);
+        description.put("tasks", tasks);
+        description.put("activityExponent", activityExponent);
+        description.put("selfAssignRatio", selfAssignRatio);
+        description.put("seed", seed);
+        return description;
+    }
+
+    /**
+     * True when the tables hold exactly this dataset's row counts and naming, so a run can reuse
+     * them. Rows changed by earlier update probes are not detected.
+     */
+    public boolean isLoaded(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT (SELECT count(*) FROM users), "
+                     + "(SELECT username FROM users WHERE id = 1), (SELECT count(*) FROM tasks), "
+                     + "(SELECT max(id) FROM tasks)")) {
+            rs.next();
+            return rs.getLong(1) == users && username(0).equals(rs.getString(2))
+                    && rs.getLong(3) == tasks && rs.getLong(4) == tasks;
+        }
+    }
+
+    public boolean isEmpty(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT NOT EXISTS (SELECT 1 FROM users) AND NOT EXISTS (SELECT 1 FROM tasks)")) {
+            rs.next();
+            return rs.getBoolean(1);
+        }
+    }
+
+    /**
+     * Truncate users and tasks and load the dataset. Every user gets the same password hash.
+     */
+    public Map<String, Object> load(DataSource dataSource, String passwordHash) throws SQLException, IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            execute(connection, "TRUNCATE tasks, users RESTART IDENTITY CASCADE");
+
+            long start = System.nanoTime();
+            copyUsers(pgConnection, passwordHash);
+            report.put("userSeconds", seconds(start));
+
+            List<String> restore = dropTaskIndexesAndForeignKeys(connection);
+            try {
+                start = System.nanoTime();
+                copyTasks(pgConnection);
+                double taskSeconds = seconds(start);
+                report.put("taskSeconds", taskSeconds);
+                report.put("taskRowsPerSecond", tasks / Math.max(taskSeconds, 1e-9));
+            } finally {
+                start = System.nanoTime();
+                for (String statement : restore) {
+                    System.out.println("Restoring: " + statement);
+                    execute(connection, statement);
+                }
+                report.put("indexAndForeignKeySeconds", seconds(start));
+            }
+
+            start = System.nanoTime();
+            execute(connection, "SELECT setval(pg_get_serial_sequence('users', 'id'), " + users + ")");
+            execute(connection, "SELECT setval(pg_get_serial_sequence('tasks', 'id'), " + Math.max(tasks, 1) + ")");
+            // VACUUM as well as ANALYZE so the visibility map allows index-only scans straight away
+            execute(connection, "VACUUM ANALYZE users");
+            execute(connection, "VACUUM ANALYZE tasks");
+            report.put("vacuumAnalyzeSeconds", seconds(start));
+        }
+        return report;
+    }
+
+    private void copyUsers(PGConnection connection, String passwordHash) throws SQLException, IOException {
+        StringBuilder line = new StringBuilder(256);
+        try (Writer out = copyWriter(connection, "COPY users (id, username, email, password_hash, created_at) FROM STDIN")) {
+            for (int i = 0; i < users; i++) {
+                line.setLength(0);
+                line.append(userId(i)).append('\t')
+                        .append(username(i)).append('\t')
+                        .append(username(i)).append("@db.local").append('\t')
+                        .append(passwordHash).append('\t')
+                        .append(EPOCH.minusSeconds(users - i)).append('\n');
+                out.append(line);
+            }
+        }
+        System.out.printf("  users %,d%n", users);
+    }
+
+    private void copyTasks(PGConnection connection) throws SQLException, IOException {
+        Random random = new Random(seed + 1);
+        StringBuilder line = new StringBuilder(512);
+        long id = 1;
+        // One COPY (and transaction) per chunk keeps progress visible and the WAL per commit bounded
+        while (id <= tasks) {
+            long chunkEnd = Math.min(id + COPY_CHUNK - 1, tasks);
+            try (Writer out = copyWriter(connection, "COPY tasks (id, title, description, status, priority, "
+                    + "created_by, assigned_to, created_at, updated_at) FROM STDIN")) {
+                for (; id <= chunkEnd; id++) {
+                    appendTask(line, id, random);
+                    out.append(line);
+                }
+            }
+            System.out.printf("  tasks %,d / %,d%n", chunkEnd, tasks);
+        }
+    }
+
+    private void appendTask(StringBuilder line, long id, Random random) {
+        int creator = userAtRank(activity.next(random));
+        int assignee = random.nextDouble() < selfAssignRatio ? creator : userAtRank(activity.next(random));
+        Instant createdAt = EPOCH.plusSeconds((id - 1) * SPREAD_SECONDS / Math.max(tasks, 1));
+        Instant updatedAt = createdAt.plusSeconds(random.nextInt(7 * 24 * 3600));
+
+        line.setLength(0);
+        line.append(id).append('\t');
+        appendWords(line, random, 3 + random.nextInt(4));
+        line.append(" #").append(id).append('\t');
+        appendWords(line, random, 8 + random.nextInt(33));
+        line.append('\t')
+                .append(pick(STATUSES, STATUS_WEIGHTS, random.nextDouble())).append('\t')
+                .append(pick(PRIORITIES, PRIORITY_WEIGHTS, random.nextDouble())).append('\t')
+                .append(userId(creator)).append('\t')
+                .append(userId(assignee)).append('\t')
+                .append(createdAt).append('\t')
+                .append(updatedAt).append('\n');
+    }
+
+    private static void appendWords(StringBuilder line, Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                line.append(' ');
+            }
+            line.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+    }
+
+    private static String pick(String[] values, double[] weights, double draw) {
+        double cumulative = 0;
+        for (int i = 0; i < values.length - 1; i++) {
+            cumulative += weights[i];
+            if (draw < cumulative) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * Drops the non-constraint indexes and the foreign keys on tasks and returns the statements
+     * that recreate them, indexes first. The statements are printed before anything is dropped
+     * so an interrupted load can be repaired by hand.
+     */
+    private static List<String> dropTaskIndexesAndForeignKeys(Connection connection) throws SQLException {
+        List<String> drop = new ArrayList<>();
+        List<String> restoreIndexes = new ArrayList<>();
+        List<String> restoreForeignKeys = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT i.indexrelid::regclass::text, pg_get_indexdef(i.indexrelid) "
+                    + "FROM pg_index i WHERE i.indrelid = 'tasks'::regclass "
+                    + "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid)")) {
+                while (rs.next()) {
+                    drop.add("DROP INDEX " + rs.getString(1));
+                    restoreIndexes.add(rs.getString(2));
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT quote_ident(conname), pg_get_constraintdef(oid) "
+                    + "FROM pg_constraint WHERE conrelid = 'tasks'::regclass AND contype = 'f'")) {
+                while (rs.next()) {
+                    drop.add("ALTER TABLE tasks DROP CONSTRAINT " + rs.getString(1));
+                    restoreForeignKeys.add("ALTER TABLE tasks ADD CONSTRAINT " + rs.getString(1) + " " + rs.getString(2));
+                }
+            }
+        }
+
+        List<String> restore = new ArrayList<>(restoreIndexes);
+        restore.addAll(restoreForeignKeys);
+        System.out.println("Dropping tasks indexes and foreign keys for the load; restored afterwards with:");
+        restore.forEach(sql -> System.out.println("  " + sql + ";"));
+        for (String sql : drop) {
+            execute(connection, sql);
+        }
+        return restore;
+    }
+
+    private static Writer copyWriter(PGConnection connection, String sql) throws SQLException {
+        return new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection, sql), StandardCharsets.UTF_8), WRITE_BUFFER);
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1e9;
+    }
+}
@@ -0,0 +1,459 @@
+package com.taskapp.benchmark.db;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskapp.TaskAppApplication;
+import com.taskapp.benchmark.BenchmarkArgs;
+import com.taskapp.benchmark.BenchmarkClient;
+import com.taskapp.benchmark.LatencySamples;
+import com.taskapp.benchmark.load.InProcessMessaging;
+import com.taskapp.entity.Task;
+import com.taskapp.enums.TaskStatus;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.security.JwtTokenProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Latency of the task and user queries at production-like scale, against a local PostgreSQL.
+ *
+ * SeedDataset loads a deterministic dataset (100k users and 10M tasks by default) with COPY,
+ * then the backend is booted in this JVM against it, with in-process messaging instead of Redis.
+ * Each probe runs sequentially after a warmup and reports a latency distribution:
+ * <ul>
+ *   <li>UserRepository.findByUsername</li>
+ *   <li>TaskRepository.findByAssignedToOrCreatedBy in a read-only transaction</li>
+ *   <li>a repository task update: findById, status change and flush, committed</li>
+ *   <li>GET /api/tasks and PUT /api/tasks/{id} over HTTP, JWT filter included</li>
+ *   <li>GET /api/tasks/search with a two-word query, first page</li>
+ * </ul>
+ * Users are sampled per activity cohort (hot, warm, cold Zipf ranks), because task list cost
+ * follows the user's task count; rows and bytes per call are reported with the latencies.
+ * EXPLAIN (ANALYZE, BUFFERS) plans of the equivalent SQL are captured for one user per cohort.
+ *
+ * Point it at a scratch database: --load=always truncates users and tasks. The default
+ * --load=auto reuses an already loaded dataset of the same size and refuses to touch tables
+ * that hold anything else.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *     -Dexec.args="-Xmx4g -cp %classpath com.taskapp.benchmark.db.TaskQueryBenchmark --label=baseline"
+ * </pre>
+ * Options starting with spring., app. or logging. are passed to the application.
+ */
+public class TaskQueryBenchmark {
+
+    private static final String[] STATUS_CYCLE = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+
+    private static final String FIND_USER_SQL = "select u1_0.id,u1_0.created_at,u1_0.email,u1_0.password_hash,"
+            + "u1_0.username from users u1_0 where u1_0.username=?";
+    private static final String FIND_TASKS_SQL = "select t1_0.id,t1_0.assigned_to,t1_0.created_at,t1_0.created_by,"
+            + "t1_0.description,t1_0.priority,t1_0.status,t1_0.title,t1_0.updated_at from tasks t1_0 "
+            + "where t1_0.assigned_to=? or t1_0.created_by=?";
+    private static final String SEARCH_MATCHES_SQL = "SELECT t.id FROM tasks t WHERE t.created_by = ? "
+            + "AND t.search_vector @@ websearch_to_tsquery('english', ?) UNION "
+            + "SELECT t.id FROM tasks t WHERE t.assigned_to = ? AND t.search_vector @@ websearch_to_tsquery('english', ?)";
+    private static final String UPDATE_TASK_SQL = "update tasks set assigned_to=assigned_to,created_at=created_at,"
+            + "created_by=created_by,description=description,priority=priority,status=?,title=title,updated_at=now() "
+            + "where id=?";
+
+    private final SeedDataset dataset;
+    private final ConfigurableApplicationContext context;
+    private final DataSource dataSource;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnly;
+    private final TransactionTemplate readWrite;
+    private final JwtTokenProvider tokenProvider;
+    private final HttpClient httpClient = BenchmarkClient.newHttpClient();
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Integer, String> tokens = new HashMap<>();
+
+    TaskQueryBenchmark(SeedDataset dataset, ConfigurableApplicationContext context) {
+        this.dataset = dataset;
+        this.context = context;
+        this.dataSource = context.getBean(DataSource.class);
+        this.userRepository = context.getBean(UserRepository.class);
+        this.taskRepository = context.getBean(TaskRepository.class);
+        this.tokenProvider = context.getBean(JwtTokenProvider.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        SeedDataset dataset = new SeedDataset(
+                options.getInt("users", 100_000),
+                options.getLong("tasks", 10_000_000),
+                options.getDouble("activity-exponent", 1.0),
+                options.getDouble("self-assign-ratio", 0.5),
+                options.getLong("seed", 42));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskAppApplication.class, InProcessMessaging.class)
+                .run(applicationArgs(options));
+        Map<String, Object> report = new LinkedHashMap<>();
+        try {
+            TaskQueryBenchmark benchmark = new TaskQueryBenchmark(dataset, context);
+            report.put("label", options.get("label", "default"));
+            report.put("dataset", dataset.describe());
+            report.put("load", benchmark.prepare(options.get("load", "auto")));
+            report.put("storage", benchmark.storage());
+            report.put("plans", benchmark.plans(new Random(options.getLong("seed", 42))));
+            report.put("probes", benchmark.probes(new Random(options.getLong("seed", 42) + 2),
+                    options.getInt("warmup", 20),
+                    options.getInt("iterations", 200),
+                    options.getInt("hot-iterations", 10)));
+        } finally {
+            context.close();
+        }
+
+        File out = new File(options.get("out", "target/benchmark/task-queries.json"));
+        out.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+        System.out.println("Query benchmark report written to " + out.getAbsolutePath());
+        System.exit(0);
+    }
+
+    static String[] applicationArgs(BenchmarkArgs options) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:postgresql://localhost:5432/taskapp_bench");
+        properties.put("spring.datasource.username", "todo_user");
+        properties.put("spring.datasource.password", "todo_password");
+        properties.put("messaging.provider", "in-process");
+        properties.put("server.port", "0");
+        properties.put("management.health.redis.enabled", "false");
+        // The dev logback config sets these loggers explicitly, so each needs its own override
+        for (String logger : List.of("root", "com.taskapp", "com.taskapp.service", "com.taskapp.controller",
+                "com.taskapp.security", "org.hibernate.SQL", "business-events")) {
+            properties.put("logging.level." + logger, "WARN");
+        }
+        properties.putAll(options.withPrefix("spring.", "app.", "logging."));
+
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Load the dataset as the mode asks: always, never, or auto (load into empty tables, reuse a
+     * matching dataset, refuse anything else)
+     */
+    Map<String, Object> prepare(String mode) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        boolean load = switch (mode) {
+            case "always" -> true;
+            case "never" -> false;
+            case "auto" -> {
+                if (dataset.isLoaded(dataSource)) {
+                    yield false;
+                }
+                if (!dataset.isEmpty(dataSource)) {
+                    throw new IllegalStateException("users/tasks hold other data; use a scratch database "
+                            + "or --load=always to truncate and reload");
+                }
+                yield true;
+            }
+            default -> throw new IllegalArgumentException("--load must be auto, always or never: " + mode);
+        };
+        report.put("loaded", load);
+        if (load) {
+            System.out.printf("Loading %,d users and %,d tasks%n", dataset.users(), dataset.tasks());
+            // One hash for everyone; BCrypt per user would dominate the load
+            String passwordHash = context.getBean(PasswordEncoder.class).encode(BenchmarkClient.PASSWORD);
+            report.putAll(dataset.load(dataSource, passwordHash));
+        }
+        System.out.println("Dataset: " + report);
+        return report;
+    }
+
+    Map<String, Object> storage() throws SQLException {
+        Map<String, Object> storage = new LinkedHashMap<>();
+        Map<String, Object> indexes = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT pg_relation_size('tasks'), pg_indexes_size('tasks'), "
+                    + "pg_relation_size('users'), pg_indexes_size('users')")) {
+                rs.next();
+                storage.put("tasksTableBytes", rs.getLong(1));
+                storage.put("tasksIndexBytes", rs.getLong(2));
+                storage.put("usersTableBytes", rs.getLong(3));
+                storage.put("usersIndexBytes", rs.getLong(4));
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT indexrelname, pg_relation_size(indexrelid) "
+                    + "FROM pg_stat_user_indexes WHERE relname IN ('tasks', 'users') ORDER BY indexrelname")) {
+                while (rs.next()) {
+                    indexes.put(rs.getString(1), rs.getLong(2));
+                }
+            }
+        }
+        storage.put("indexes", indexes);
+        return storage;
+    }
+
+    /**
+     * EXPLAIN (ANALYZE, BUFFERS) of the SQL Hibernate issues for each probed query, for the first
+     * user of each cohort. The update is rolled back.
+     */
+    Map<String, Object> plans(Random random) throws SQLException {
+        Map<String, Object> plans = new LinkedHashMap<>();
+        for (Cohort cohort : Cohort.of(dataset)) {
+            int user = cohort.pick(random, dataset);
+            plans.put("findByUsername/" + cohort.name(), explain(FIND_USER_SQL, SeedDataset.username(user)));
+            long id = SeedDataset.userId(user);
+            plans.put("findByAssignedToOrCreatedBy/" + cohort.name(), explain(FIND_TASKS_SQL, id, id));
+            // Drawn from its own generator so the plans sample the same users as before
+            String query = searchQuery(new Random(user));
+            plans.put("searchMatches/" + cohort.name(), explain(SEARCH_MATCHES_SQL, id, query, id, query));
+        }
+        long taskId = 1 + (long) (random.nextDouble() * dataset.tasks());
+        plans.put("updateTask", explain(UPDATE_TASK_SQL, "IN_PROGRESS", taskId));
+        return plans;
+    }
+
+    private Map<String, Object> explain(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    JsonNode result = objectMapper.readTree(rs.getString(1)).get(0);
+                    List<String> outline = new ArrayList<>();
+                    outline(result.get("Plan"), 0, outline);
+                    Map<String, Object> plan = new LinkedHashMap<>();
+                    plan.put("outline", outline);
+                    plan.put("planningMs", result.path("Planning Time").asDouble());
+                    plan.put("executionMs", result.path("Execution Time").asDouble());
+                    plan.put("plan", result.get("Plan"));
+                    return plan;
+                } catch (JsonProcessingException e) {
+                    throw new SQLException("Could not read plan for: " + sql, e);
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    /**
+     * One line per plan node, e.g. "  Bitmap Index Scan on idx_tasks_created_by rows=812"
+     */
+    private static void outline(JsonNode node, int depth, List<String> lines) {
+        StringBuilder line = new StringBuilder("  ".repeat(depth)).append(node.path("Node Type").asText());
+        if (node.has("Index Name")) {
+            line.append(" on ").append(node.get("Index Name").asText());
+        } else if (node.has("Relation Name")) {
+            line.append(" on ").append(node.get("Relation Name").asText());
+        }
+        line.append(" rows=").append(node.path("Actual Rows").asLong())
+                .append(" time=").append(node.path("Actual Total Time").asDouble()).append("ms");
+        lines.add(line.toString());
+        for (JsonNode child : node.path("Plans")) {
+            outline(child, depth + 1, lines);
+        }
+    }
+
+    Map<String, Object> probes(Random random, int warmup, int iterations, int hotIterations) throws Exception {
+        Map<String, Object> probes = new LinkedHashMap<>();
+        for (Cohort cohort : Cohort.of(dataset)) {
+            int listIterations = cohort.hot() ? hotIterations : iterations;
+            int listWarmup = cohort.hot() ? Math.min(warmup, hotIterations) : warmup;
+            System.out.println("Cohort " + cohort.name() + ": ranks " + cohort.fromRank() + ".." + (cohort.toRank() - 1));
+
+            probes.put("findByUsername/" + cohort.name(), measure(random, warmup, iterations, sample -> {
+                int user = cohort.pick(sample, dataset);
+                return userRepository.findByUsername(SeedDataset.username(user)).isPresent() ? 1 : 0;
+            }));
+            probes.put("findByAssignedToOrCreatedBy/" + cohort.name(), measure(random, listWarmup, listIterations, sample -> {
+                long id = SeedDataset.userId(cohort.pick(sample, dataset));
+                return readOnly.execute(status -> (long) taskRepository.findByAssignedToOrCreatedBy(
+                        userRepository.getReferenceById(id), userRepository.getReferenceById(id)).size());
+            }));
+            probes.put("GET /api/tasks/" + cohort.name(), measure(random, listWarmup, listIterations,
+                    sample -> get("/api/tasks", token(cohort.pick(sample, dataset)))));
+            probes.put("GET /api/tasks/search/" + cohort.name(), measure(random, warmup, iterations,
+                    sample -> get("/api/tasks/search?q=" + URLEncoder.encode(searchQuery(sample), StandardCharsets.UTF_8),
+                            token(cohort.pick(sample, dataset)))));
+        }
+
+        List<long[]> targets = updateTargets(random, warmup + iterations);
+        int[] next = {0};
+        probes.put("updateTask", measure(random, warmup, iterations, sample -> {
+            long taskId = targets.get(next[0]++ % targets.size())[0];
+            readWrite.executeWithoutResult(status -> {
+                Task task = taskRepository.findById(taskId).orElseThrow();
+                task.setStatus(task.getStatus() == TaskStatus.COMPLETED ? TaskStatus.PENDING : TaskStatus.COMPLETED);
+                taskRepository.flush();
+            });
+            return 1;
+        }));
+        probes.put("PUT /api/tasks/{id}", measure(random, warmup, iterations, sample -> {
+            int index = next[0]++;
+            long[] target = targets.get(index % targets.size());
+            return put("/api/tasks/" + target[0], token((int) target[1]), Map.of(
+                    "title", "query benchmark " + index,
+                    "status", STATUS_CYCLE[index % STATUS_CYCLE.length]));
+        }));
+        return probes;
+    }
+
+    /**
+     * Two words of the task text, both required, as a user narrowing a search would type them
+     */
+    private static String searchQuery(Random random) {
+        return SeedDataset.word(random) + " " + SeedDataset.word(random);
+    }
+
+    /**
+     * Uniformly drawn task ids with their creator's user index, resolved before timing starts
+     */
+    private List<long[]> updateTargets(Random random, int count) throws SQLException {
+        List<long[]> targets = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT created_by FROM tasks WHERE id = ?")) {
+            for (int attempt = 0; targets.size() < count && attempt < count * 4; attempt++) {
+                long taskId = 1 + (long) (random.nextDouble() * dataset.tasks());
+                statement.setLong(1, taskId);
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (rs.next()) {
+                        targets.add(new long[]{taskId, rs.getLong(1) - 1});
+                    }
+                }
+            }
+        }
+        if (targets.isEmpty()) {
+            throw new IllegalStateException("No tasks to update");
+        }
+        return targets;
+    }
+
+    private Map<String, Object> measure(Random random, int warmup, int iterations, Probe probe) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            probe.run(random);
+        }
+        LatencySamples latency = new LatencySamples();
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            long size = probe.run(random);
+            latency.add(System.nanoTime() - start);
+            total += size;
+            max = Math.max(max, size);
+        }
+        Map<String, Object> result = new LinkedHashMap<>(latency.summary());
+        result.put("sizeAvg", iterations > 0 ? (double) total / iterations : 0);
+        result.put("sizeMax", max);
+        System.out.println("  " + result);
+        return result;
+    }
+
+    /**
+     * Response bytes of a GET, read and discarded
+     */
+    private long get(String path, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofMinutes(5))
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    private long put(String path, String token, Object body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofMinutes(1))
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        return send(request);
+    }
+
+    private long send(HttpRequest request) throws Exception {
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            long bytes = body.transferTo(OutputStream.nullOutputStream());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(request.method() + " " + request.uri().getPath()
+                        + " failed: HTTP " + response.statusCode());
+            }
+            return bytes;
+        }
+    }
+
+    private String token(int userIndex) {
+        return tokens.computeIfAbsent(userIndex, index -> tokenProvider.generateToken(
+                org.springframework.security.core.userdetails.User.withUsername(SeedDataset.username(index))
+                        .password("").authorities(List.of()).build()));
+    }
+
+    @FunctionalInterface
+    private interface Probe {
+        /**
+         * One timed call; returns its size (rows or response bytes)
+         */
+        long run(Random random) throws Exception;
+    }
+
+    /**
+     * Band of Zipf activity ranks; hot users own the largest task lists
+     */
+    record Cohort(String name, int fromRank, int toRank) {
+
+        static List<Cohort> of(SeedDataset dataset) {
+            int users = dataset.users();
+            List<Cohort> cohorts = new ArrayList<>();
+            cohorts.add(new Cohort("hot", 0, Math.min(10, users)));
+            if (users > 10) {
+                cohorts.add(new Cohort("warm", 10, Math.min(1000, users)));
+            }
+            if (users > 1000) {
+                cohorts.add(new Cohort("cold", 1000, users));
+            }
+            return cohorts;
+        }
+
+        boolean hot() {
+            return fromRank == 0;
+        }
+
+        int pick(Random random, SeedDataset dataset) {
+            return dataset.userAtRank(fromRank + random.nextInt(toRank - fromRank));
+        }
+    }
+}
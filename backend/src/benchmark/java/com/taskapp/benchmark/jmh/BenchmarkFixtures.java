@@ -0,0 +1,51 @@
+package com.taskapp.benchmark.jmh;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.User;
+import com.taskapp.enums.TaskPriority;
+import com.taskapp.enums.TaskStatus;
+import org.slf4j.LoggerFactory;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Shared setup for the JMH benchmarks.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Without Spring, logback falls back to DEBUG on the console; benchmarks run at WARN
+     */
+    public static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+
+    public static User user(long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPasswordHash("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm");
+        user.setCreatedAt(ZonedDateTime.now());
+        return user;
+    }
+
+    public static Task task(long id, User creator, User assignee) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Review quarterly roadmap " + id);
+        task.setDescription("Go through the roadmap draft and leave comments on the milestones that slipped.");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setPriority(TaskPriority.HIGH);
+        task.setCreatedBy(creator);
+        task.setAssignedTo(assignee);
+        task.setCreatedAt(ZonedDateTime.now());
+        task.setUpdatedAt(ZonedDateTime.now());
+        return task;
+    }
+}
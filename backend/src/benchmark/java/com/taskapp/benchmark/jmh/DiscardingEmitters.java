@@ -0,0 +1,95 @@
+package com.taskapp.benchmark.jmh;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitterReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Binds emitters the way Spring MVC does when a controller returns one, through
+ * ResponseBodyEmitterReturnValueHandler, to a response whose body discards every byte. The
+ * emitters then behave as if their client were infinitely fast.
+ */
+public final class DiscardingEmitters {
+
+    private static final List<HttpMessageConverter<?>> CONVERTERS =
+            List.of(new StringHttpMessageConverter(), new MappingJackson2HttpMessageConverter());
+    private static final ResponseBodyEmitterReturnValueHandler HANDLER =
+            new ResponseBodyEmitterReturnValueHandler(CONVERTERS);
+    private static final MethodParameter RETURN_TYPE = streamReturnType();
+
+    private DiscardingEmitters() {
+    }
+
+    /**
+     * Hand the emitter to Spring MVC as a controller's return value would be
+     */
+    public static SseEmitter bind(SseEmitter emitter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/notifications/stream");
+        request.setAsyncSupported(true);
+        HttpServletResponse response = new DiscardingResponse(new MockHttpServletResponse());
+        StandardServletAsyncWebRequest webRequest = new StandardServletAsyncWebRequest(request, response);
+        WebAsyncUtils.getAsyncManager(webRequest).setAsyncWebRequest(webRequest);
+        HANDLER.handleReturnValue(emitter, RETURN_TYPE, new ModelAndViewContainer(), webRequest);
+        return emitter;
+    }
+
+    /**
+     * Stands in for the controller method whose return type the handler inspects
+     */
+    private static SseEmitter stream() {
+        return null;
+    }
+
+    private static MethodParameter streamReturnType() {
+        try {
+            return new MethodParameter(DiscardingEmitters.class.getDeclaredMethod("stream"), -1);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class DiscardingResponse extends HttpServletResponseWrapper {
+
+        private final ServletOutputStream body = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+            }
+        };
+
+        DiscardingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return body;
+        }
+    }
+}
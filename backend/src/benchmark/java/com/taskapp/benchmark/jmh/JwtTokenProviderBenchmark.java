@@ -0,0 +1,63 @@
+package com.taskapp.benchmark.jmh;
+
+import com.taskapp.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and the parse/verify done by JwtAuthenticationFilter on every API request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogging();
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "benchmark-secret-key-of-at-least-32-bytes-for-hs256");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 86_400_000L);
+        userDetails = new User("alice", "unused", List.of());
+        token = tokenProvider.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String parse() {
+        return tokenProvider.getUsernameFromToken(token);
+    }
+
+    /**
+     * Parses the token twice, once for the subject and once for the expiry
+     */
+    @Benchmark
+    public boolean validate() {
+        return tokenProvider.validateToken(token, userDetails);
+    }
+}
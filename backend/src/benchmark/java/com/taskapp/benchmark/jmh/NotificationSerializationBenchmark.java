@@ -0,0 +1,92 @@
+package com.taskapp.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskapp.config.JacksonConfig;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.dto.NotificationTrace;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.User;
+import com.taskapp.service.NotificationFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and (de)serializing a notification: the work done once per recipient on the
+ * publishing pod, once per message in the Redis consumer, and once per stream on SSE writes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationSerializationBenchmark {
+
+    private final NotificationFactory notificationFactory = new NotificationFactory();
+    private ObjectMapper objectMapper;
+    private ObjectWriter clientWriter;
+    private Task task;
+    private User recipient;
+    private NotificationEvent notification;
+    private String json;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkFixtures.quietLogging();
+        objectMapper = new JacksonConfig().objectMapper();
+        clientWriter = objectMapper.writerWithView(NotificationEvent.Views.Client.class);
+        User creator = BenchmarkFixtures.user(1, "bob");
+        recipient = BenchmarkFixtures.user(2, "alice");
+        task = BenchmarkFixtures.task(42, creator, recipient);
+
+        notification = notificationFactory.createTaskUpdatedNotification(task, recipient);
+        NotificationTrace trace = new NotificationTrace();
+        trace.setPublishedNanos(System.nanoTime());
+        notification.setTrace(trace);
+        json = objectMapper.writeValueAsString(notification);
+    }
+
+    /**
+     * Message template formatting and event construction
+     */
+    @Benchmark
+    public NotificationEvent create() {
+        return notificationFactory.createTaskUpdatedNotification(task, recipient);
+    }
+
+    /**
+     * Internal view, as published to Redis
+     */
+    @Benchmark
+    public String writeInternal() throws IOException {
+        return objectMapper.writeValueAsString(notification);
+    }
+
+    /**
+     * Client view, as written to each SSE stream
+     */
+    @Benchmark
+    public String writeClient() throws IOException {
+        return clientWriter.writeValueAsString(notification);
+    }
+
+    /**
+     * Redis consumer side
+     */
+    @Benchmark
+    public NotificationEvent read() throws IOException {
+        return objectMapper.readValue(json, NotificationEvent.class);
+    }
+}
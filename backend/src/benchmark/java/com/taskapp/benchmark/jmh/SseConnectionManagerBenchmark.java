@@ -0,0 +1,133 @@
+package com.taskapp.benchmark.jmh;
+
+import com.taskapp.config.JacksonConfig;
+import com.taskapp.config.SseProperties;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.messaging.ReplayBufferStore;
+import com.taskapp.messaging.config.MessagingProperties;
+import com.taskapp.service.NotificationLatencyRecorder;
+import com.taskapp.service.SSEConnectionManager;
+import com.taskapp.service.SseAdmissionControl;
+import com.taskapp.service.SseEmitterWriter;
+import com.taskapp.service.SseHeartbeatWheel;
+import com.taskapp.service.TaskAppMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSEConnectionManager fan-out and Last-Event-ID replay through its public methods. Fan-out
+ * writes to emitters bound to a response that discards every byte, so the numbers cover
+ * serialization, bookkeeping and the emitter path but not the socket. Replay runs inside
+ * createConnection, before Spring binds the new emitter, as it does in production.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SseConnectionManagerBenchmark {
+
+    private static final String USER = "alice";
+
+    @State(Scope.Thread)
+    public static class FanOut {
+
+        @Param({"1", "10", "100"})
+        public int connectionsPerUser;
+
+        SSEConnectionManager manager;
+        NotificationEvent notification;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            manager = newManager(connectionsPerUser);
+            for (int i = 0; i < connectionsPerUser; i++) {
+                DiscardingEmitters.bind(manager.createConnection(USER, null));
+            }
+            notification = NotificationEvent.createTaskNotification("TASK_UPDATED",
+                    "Task updated: Review quarterly roadmap", USER, "42", "Review quarterly roadmap", "bob", USER);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Replay {
+
+        private static final int BUFFERED = 100;
+
+        @Param({"1", "10", "99"})
+        public int missedEvents;
+
+        SSEConnectionManager manager;
+        String lastEventId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // One stream per user: each reconnect evicts the previous one, so streams do not pile up
+            manager = newManager(1);
+            // Fills the replay buffer; with nobody connected nothing is written
+            for (int i = 0; i < BUFFERED; i++) {
+                manager.sendToUserLocal(USER, NotificationEvent.create("TASK_CREATED", "Task created: " + i, USER));
+            }
+            List<NotificationEvent> buffer = manager.getReplayBuffers().get(USER);
+            lastEventId = buffer.get(BUFFERED - 1 - missedEvents).getId();
+        }
+    }
+
+    /**
+     * One notification to every stream of a user; the replay buffer stays at its cap
+     */
+    @Benchmark
+    public void fanOut(FanOut state) {
+        state.manager.sendToUserLocal(USER, state.notification);
+    }
+
+    /**
+     * Reconnect with lastEventId: admission, eviction of the previous stream, lookup in a full
+     * replay buffer and write of the events after it
+     */
+    @Benchmark
+    public Object replay(Replay state) {
+        return state.manager.createConnection(USER, state.lastEventId);
+    }
+
+    private static SSEConnectionManager newManager(int maxConnectionsPerUser) {
+        BenchmarkFixtures.quietLogging();
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getAdmission().setMaxConnectionsPerUser(maxConnectionsPerUser);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MessagingProperties messagingProperties = new MessagingProperties();
+        // The wheel is never started, so no heartbeats interleave with the measured writes
+        return new SSEConnectionManager(new JacksonConfig().objectMapper(), messagingProperties,
+                new SseHeartbeatWheel(sseProperties),
+                new SseEmitterWriter(sseProperties, new StandardEnvironment()),
+                new NoOpReplayBufferStore(), new SseAdmissionControl(sseProperties, meterRegistry), sseProperties,
+                new NotificationLatencyRecorder(meterRegistry, messagingProperties), new TaskAppMetrics(meterRegistry));
+    }
+
+    private static final class NoOpReplayBufferStore implements ReplayBufferStore {
+        @Override
+        public void save(Map<String, List<NotificationEvent>> buffers) {
+        }
+
+        @Override
+        public List<NotificationEvent> load(String username) {
+            return List.of();
+        }
+    }
+}
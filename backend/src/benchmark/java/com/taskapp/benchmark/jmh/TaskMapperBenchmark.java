@@ -0,0 +1,65 @@
+package com.taskapp.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.config.JacksonConfig;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.mapper.TaskMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping and serializing the task list returned by GET /api/tasks, without the query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    @Param({"1", "50", "500"})
+    public int tasks;
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private ObjectMapper objectMapper;
+    private List<Task> entities;
+    private List<TaskResponse> responses;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogging();
+        objectMapper = new JacksonConfig().objectMapper();
+        entities = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            entities.add(BenchmarkFixtures.task(i, BenchmarkFixtures.user(1, "bob"),
+                    BenchmarkFixtures.user(2 + i % 20, "user" + i % 20)));
+        }
+        responses = entities.stream().map(taskMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<TaskResponse> toResponse() {
+        return entities.stream().map(taskMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
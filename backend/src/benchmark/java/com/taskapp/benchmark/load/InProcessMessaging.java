@@ -0,0 +1,123 @@
+package com.taskapp.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.messaging.MessagePublisher;
+import com.taskapp.messaging.ReplayBufferStore;
+import com.taskapp.messaging.config.MessagingProperties;
+import com.taskapp.messaging.redis.RedisMessageConsumer;
+import com.taskapp.messaging.redis.SystemEventConsumer;
+import com.taskapp.service.TaskAppMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for Redis when LoadHarness runs with messaging.provider=in-process. Messages are
+ * serialized as RedisMessagePublisher does and handed to the same listeners the Redis container
+ * would call, on one dispatch thread per topic like a Redis subscription connection.
+ *
+ * Registered as a source of the harness application only, so component scanning never picks it up.
+ */
+public class InProcessMessaging {
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.provider", havingValue = "in-process")
+    public LoopbackPublisher loopbackPublisher(ObjectMapper objectMapper, MessagingProperties messagingProperties,
+                                               RedisMessageConsumer messageConsumer, SystemEventConsumer systemEventConsumer,
+                                               TaskAppMetrics metrics) {
+        return new LoopbackPublisher(objectMapper, metrics, Map.of(
+                messagingProperties.getTopics().getUserNotifications(), messageConsumer,
+                messagingProperties.getTopics().getSystemEvents(), systemEventConsumer));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.provider", havingValue = "in-process")
+    public ReplayBufferStore inMemoryReplayBufferStore() {
+        Map<String, List<NotificationEvent>> store = new ConcurrentHashMap<>();
+        return new ReplayBufferStore() {
+            @Override
+            public void save(Map<String, List<NotificationEvent>> buffers) {
+                buffers.forEach((username, events) -> store.put(username, List.copyOf(events)));
+            }
+
+            @Override
+            public List<NotificationEvent> load(String username) {
+                List<NotificationEvent> events = store.remove(username);
+                return events != null ? events : List.of();
+            }
+        };
+    }
+
+    /**
+     * Publisher that loops messages back to this pod's listeners
+     */
+    public static class LoopbackPublisher implements MessagePublisher, DisposableBean {
+
+        private final ObjectMapper objectMapper;
+        private final TaskAppMetrics metrics;
+        private final Map<String, MessageListener> listeners;
+        private final Map<String, ExecutorService> dispatchers = new ConcurrentHashMap<>();
+        private volatile Consumer<NotificationEvent> publishListener = notification -> { };
+
+        LoopbackPublisher(ObjectMapper objectMapper, TaskAppMetrics metrics, Map<String, MessageListener> listeners) {
+            this.objectMapper = objectMapper;
+            this.metrics = metrics;
+            this.listeners = listeners;
+        }
+
+        /**
+         * Called on the publishing thread for every notification, before it is dispatched
+         */
+        public void onPublish(Consumer<NotificationEvent> listener) {
+            this.publishListener = listener;
+        }
+
+        @Override
+        public void publishMessage(String topic, Object message) {
+            publishMessage(topic, message, Map.of());
+        }
+
+        @Override
+        public void publishMessage(String topic, Object message, Map<String, String> attributes) {
+            long start = System.nanoTime();
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(message);
+                if (message instanceof NotificationEvent notification) {
+                    publishListener.accept(notification);
+                }
+                MessageListener listener = listeners.get(topic);
+                if (listener != null) {
+                    DefaultMessage redisMessage = new DefaultMessage(topic.getBytes(StandardCharsets.UTF_8), body);
+                    dispatchers.computeIfAbsent(topic, key -> Executors.newSingleThreadExecutor(
+                                    Thread.ofPlatform().name("loopback-" + key).daemon().factory()))
+                            .execute(() -> listener.onMessage(redisMessage, null));
+                }
+                metrics.recordRedisPublish(topic, start, true);
+            } catch (Exception e) {
+                metrics.recordRedisPublish(topic, start, false);
+                throw new RuntimeException("Message publishing failed", e);
+            }
+        }
+
+        @Override
+        public boolean isHealthy() {
+            return true;
+        }
+
+        @Override
+        public void destroy() {
+            dispatchers.values().forEach(ExecutorService::shutdownNow);
+        }
+    }
+}
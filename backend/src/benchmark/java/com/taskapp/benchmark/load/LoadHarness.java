@@ -0,0 +1,583 @@
+package com.taskapp.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskapp.TaskAppApplication;
+import com.taskapp.benchmark.BenchmarkArgs;
+import com.taskapp.benchmark.BenchmarkClient;
+import com.taskapp.benchmark.LatencySamples;
+import com.taskapp.benchmark.ZipfSampler;
+import com.taskapp.benchmark.load.LoadScenario.Mutation;
+import com.taskapp.benchmark.load.LoadScenario.Phase;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.User;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.security.JwtTokenProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load run against the backend booted in this JVM.
+ *
+ * By default the app runs on an in-memory H2 database (PostgreSQL mode) with Redis replaced by
+ * InProcessMessaging, so it needs no local services. Users, tokens and seed tasks are written
+ * through the repositories. Then every user opens streamsPerUser SSE streams over HTTP, and each
+ * scenario phase drives creates, updates and reassignments through TaskController at its rate.
+ *
+ * Every mutation puts a sequence number in the task title. Notifications are matched back to
+ * the request that caused them, and delivery latency is measured from the moment the request
+ * was sent. With in-process messaging, every published notification is recorded. Each one is
+ * expected once on every connected stream of its recipient, which gives the dropped and
+ * duplicate counts. Heap and GC figures cover the whole JVM, clients included.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *     -Dexec.args="-Xmx2g -cp %classpath com.taskapp.benchmark.load.LoadHarness --scenario=src/benchmark/scenarios/steady.json"
+ * </pre>
+ * Options starting with spring., server., app., messaging., management. or logging. are passed
+ * to the application, e.g. --spring.datasource.url=jdbc:postgresql://localhost:5432/todo_db
+ * --messaging.provider=redis to run against local services. Drop and duplicate counts need
+ * in-process messaging.
+ */
+public class LoadHarness {
+
+    private static final String TITLE_PREFIX = "lt-";
+    private static final String DESCRIPTION = "Load harness task";
+    private static final String[] STATUS_CYCLE = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+    private static final int CONNECT_BATCH = 500;
+
+    private final LoadScenario scenario;
+    private final ConfigurableApplicationContext context;
+    private final BenchmarkClient client;
+    private final HttpClient streamClient = BenchmarkClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<SeededUser> users = new ArrayList<>();
+    private final Map<String, List<LoadStream>> streamsByUser = new HashMap<>();
+    private final List<PhaseStats> phaseStats = new ArrayList<>();
+    private final ConcurrentHashMap<Long, SentMutation> sentMutations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> published = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder unmatchedDeliveries = new LongAdder();
+    private final ExecutorService refetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final JvmSampler jvmSampler = new JvmSampler();
+
+    LoadHarness(LoadScenario scenario, ConfigurableApplicationContext context) {
+        this.scenario = scenario;
+        this.context = context;
+        String port = context.getEnvironment().getProperty("local.server.port");
+        this.client = new BenchmarkClient("http://localhost:" + port, BenchmarkClient.newHttpClient());
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkArgs options = new BenchmarkArgs(args);
+        LoadScenario scenario = LoadScenario.read(new File(options.get("scenario", "src/benchmark/scenarios/steady.json")));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskAppApplication.class, InProcessMessaging.class)
+                .run(applicationArgs(scenario, options));
+        Map<String, Object> report;
+        try {
+            report = new LoadHarness(scenario, context).run();
+        } finally {
+            context.close();
+        }
+        report.put("label", options.get("label", "default"));
+
+        File out = new File(options.get("out", "target/benchmark/load-" + scenario.name() + ".json"));
+        out.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+        System.out.println("Load report written to " + out.getAbsolutePath());
+        System.exit(0);
+    }
+
+    /**
+     * Self-contained defaults sized to the scenario, overridden by pass-through options
+     */
+    static String[] applicationArgs(LoadScenario scenario, BenchmarkArgs options) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:loadharness;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("messaging.provider", "in-process");
+        properties.put("server.port", "0");
+        properties.put("server.tomcat.max-connections", String.valueOf(scenario.streams() + scenario.maxInFlight() + 1000));
+        properties.put("server.tomcat.accept-count", String.valueOf(CONNECT_BATCH * 2));
+        properties.put("management.health.redis.enabled", "false");
+        properties.put("app.sse.admission.max-connections-per-user", String.valueOf(scenario.streamsPerUser()));
+        properties.put("app.sse.admission.max-connections-per-pod", String.valueOf(scenario.streams() + 100));
+        properties.put("app.sse.admission.connect-rate", String.valueOf(Math.max(scenario.streams(), 1000)));
+        properties.put("app.sse.admission.connect-burst", String.valueOf(Math.max(scenario.streams(), 1000)));
+        // The dev logback config sets these loggers explicitly, so each needs its own override
+        for (String logger : List.of("root", "com.taskapp", "com.taskapp.service", "com.taskapp.controller",
+                "com.taskapp.security", "org.hibernate.SQL", "business-events")) {
+            properties.put("logging.level." + logger, "WARN");
+        }
+        properties.putAll(options.withPrefix("spring.", "server.", "app.", "messaging.", "management.", "logging."));
+        if (properties.get("spring.datasource.url").startsWith("jdbc:h2:")) {
+            properties.putIfAbsent("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        }
+
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    Map<String, Object> run() throws Exception {
+        Random random = new Random(scenario.seed());
+        seed(random);
+        context.getBeanProvider(InProcessMessaging.LoopbackPublisher.class).ifAvailable(publisher ->
+                publisher.onPublish(notification -> published.put(notification.getId(), notification.getUsername())));
+        Map<String, Object> streamReport = openStreams();
+
+        ZipfSampler activity = new ZipfSampler(users.size(), scenario.activityExponent());
+        Semaphore inFlight = new Semaphore(scenario.maxInFlight());
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("load-jvm-sampler").daemon().factory());
+        sampler.scheduleAtFixedRate(jvmSampler::sample, 0, 250, TimeUnit.MILLISECONDS);
+        Map<String, long[]> gcBefore = gcSnapshot();
+
+        // Closing the executor waits for the requests still in flight
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Phase phase : scenario.phases()) {
+                PhaseStats stats = new PhaseStats(phase);
+                phaseStats.add(stats);
+                jvmSampler.phase = stats;
+                System.out.printf("Phase %s: %d s at %.1f mutations/s%n", phase.name(), phase.durationSeconds(),
+                        phase.mutationsPerSecond());
+                runPhase(stats, random, activity, inFlight, executor);
+            }
+        }
+        awaitDeliveries();
+        // Waits for reloads still in flight
+        refetchExecutor.close();
+        jvmSampler.sample();
+        sampler.shutdownNow();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", scenario);
+        report.put("streams", streamReport);
+        report.put("phases", phaseStats.stream().map(PhaseStats::report).toList());
+        report.put("totals", totals());
+        report.put("jvm", jvmReport(gcBefore));
+        streamsByUser.values().forEach(streams -> streams.forEach(LoadStream::cancel));
+        return report;
+    }
+
+    private void seed(Random random) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        JwtTokenProvider tokenProvider = context.getBean(JwtTokenProvider.class);
+        // One hash for everyone; BCrypt per user would dominate setup time
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(BenchmarkClient.PASSWORD);
+        String run = Long.toString(System.currentTimeMillis(), 36);
+
+        List<User> entities = new ArrayList<>();
+        for (int i = 0; i < scenario.users(); i++) {
+            User user = new User();
+            user.setUsername(TITLE_PREFIX + run + "-" + i);
+            user.setEmail(user.getUsername() + "@load.local");
+            user.setPasswordHash(passwordHash);
+            entities.add(user);
+        }
+        for (User user : userRepository.saveAll(entities)) {
+            String token = tokenProvider.generateToken(org.springframework.security.core.userdetails.User
+                    .withUsername(user.getUsername()).password(passwordHash).authorities(List.of()).build());
+            users.add(new SeededUser(user.getId(), user.getUsername(), token, Collections.synchronizedList(new ArrayList<>())));
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        List<SeededUser> owners = new ArrayList<>();
+        for (int i = 0; i < scenario.users(); i++) {
+            for (int t = 0; t < scenario.seedTasksPerUser(); t++) {
+                Task task = new Task();
+                task.setTitle("seed-" + i + "-" + t);
+                task.setDescription(DESCRIPTION);
+                task.setCreatedBy(entities.get(i));
+                task.setAssignedTo(random.nextDouble() < scenario.selfAssignRatio()
+                        ? entities.get(i) : entities.get(random.nextInt(entities.size())));
+                tasks.add(task);
+                owners.add(users.get(i));
+            }
+        }
+        List<Task> saved = taskRepository.saveAll(tasks);
+        for (int i = 0; i < saved.size(); i++) {
+            owners.get(i).tasks().add(new TaskRef(saved.get(i).getId()));
+        }
+        System.out.printf("Seeded %d users and %d tasks%n", users.size(), saved.size());
+    }
+
+    private Map<String, Object> openStreams() throws InterruptedException {
+        long start = System.nanoTime();
+        List<LoadStream> all = new ArrayList<>();
+        for (int offset = 0; offset < scenario.streams(); offset += CONNECT_BATCH) {
+            int batch = Math.min(CONNECT_BATCH, scenario.streams() - offset);
+            CountDownLatch settled = new CountDownLatch(batch);
+            for (int i = offset; i < offset + batch; i++) {
+                SeededUser user = users.get(i / scenario.streamsPerUser());
+                LoadStream stream = new LoadStream(user.username(), settled,
+                        (notification, receivedNanos) -> onNotification(user, notification, receivedNanos));
+                streamsByUser.computeIfAbsent(user.username(), key -> new ArrayList<>()).add(stream);
+                all.add(stream);
+                streamClient.sendAsync(client.streamRequest(user.token()), HttpResponse.BodyHandlers.fromLineSubscriber(stream))
+                        .whenComplete((response, error) -> {
+                            if (error != null || response.statusCode() != 200) {
+                                stream.settle(LoadStream.State.FAILED);
+                            }
+                        });
+            }
+            if (!settled.await(60, TimeUnit.SECONDS)) {
+                System.out.println("Streams still connecting after 60 s: " + settled.getCount());
+            }
+        }
+
+        Map<LoadStream.State, Integer> states = new HashMap<>();
+        all.forEach(stream -> states.merge(stream.state(), 1, Integer::sum));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requested", scenario.streams());
+        report.put("connected", states.getOrDefault(LoadStream.State.CONNECTED, 0));
+        report.put("refused", states.getOrDefault(LoadStream.State.REFUSED, 0));
+        report.put("failed", states.getOrDefault(LoadStream.State.FAILED, 0)
+                + states.getOrDefault(LoadStream.State.CONNECTING, 0));
+        report.put("connectSeconds", (System.nanoTime() - start) / 1e9);
+        System.out.println("Streams: " + report);
+        return report;
+    }
+
+    private void runPhase(PhaseStats stats, Random random, ZipfSampler activity, Semaphore inFlight,
+                          ExecutorService executor) throws InterruptedException {
+        Phase phase = stats.phase;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(phase.durationSeconds());
+        if (phase.mutationsPerSecond() <= 0) {
+            TimeUnit.SECONDS.sleep(phase.durationSeconds());
+            return;
+        }
+        long intervalNanos = (long) (1e9 / phase.mutationsPerSecond());
+        for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            // All random draws happen here, in schedule order, so a seed replays the same traffic
+            SeededUser actor = users.get(activity.next(random));
+            Mutation kind = phase.mix().pick(random.nextDouble());
+            SeededUser assignee = random.nextDouble() < scenario.selfAssignRatio()
+                    ? actor : users.get(random.nextInt(users.size()));
+            int taskPick = random.nextInt(Integer.MAX_VALUE);
+            long scheduledNanos = scheduled;
+            executor.execute(() -> {
+                try {
+                    mutate(stats, scheduledNanos, actor, kind, assignee, taskPick);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void mutate(PhaseStats stats, long scheduledNanos, SeededUser actor, Mutation kind,
+                        SeededUser assignee, int taskPick) {
+        TaskRef task = null;
+        synchronized (actor.tasks()) {
+            if (!actor.tasks().isEmpty()) {
+                task = actor.tasks().get(taskPick % actor.tasks().size());
+            }
+        }
+        Mutation effective = task == null ? Mutation.CREATE : kind;
+        long seq = sequence.incrementAndGet();
+        String title = TITLE_PREFIX + seq + " " + effective.name().toLowerCase();
+        sentMutations.put(seq, new SentMutation(System.nanoTime(), stats));
+        try {
+            HttpResponse<String> response = switch (effective) {
+                case CREATE -> client.postJson("/api/tasks", actor.token(),
+                        Map.of("title", title, "description", DESCRIPTION, "assignedTo", assignee.id()));
+                case UPDATE -> client.putJson("/api/tasks/" + task.id, actor.token(),
+                        Map.of("title", title, "description", DESCRIPTION, "status", task.advanceStatus()));
+                case REASSIGN -> client.putJson("/api/tasks/" + task.id, actor.token(),
+                        Map.of("title", title, "description", DESCRIPTION, "status", task.status(),
+                                "assignedTo", assignee.id()));
+            };
+            stats.mutationLatency.add(System.nanoTime() - scheduledNanos);
+            if (response.statusCode() == 200) {
+                stats.completed.increment();
+                if (effective == Mutation.CREATE) {
+                    actor.tasks().add(new TaskRef(objectMapper.readTree(response.body()).get("id").asLong()));
+                }
+            } else {
+                stats.errors.computeIfAbsent("HTTP " + response.statusCode(), key -> new LongAdder()).increment();
+            }
+        } catch (Exception e) {
+            stats.mutationLatency.add(System.nanoTime() - scheduledNanos);
+            stats.errors.computeIfAbsent(e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+        }
+    }
+
+    private void onNotification(SeededUser recipient, JsonNode notification, long receivedNanos) {
+        if (scenario.refetchOnNotification()) {
+            refetchOrPatch(recipient, notification);
+        }
+        String title = notification.path("taskTitle").asText("");
+        int space = title.indexOf(' ');
+        if (title.startsWith(TITLE_PREFIX) && space > TITLE_PREFIX.length()) {
+            try {
+                SentMutation mutation = sentMutations.get(Long.parseLong(title.substring(TITLE_PREFIX.length(), space)));
+                if (mutation != null) {
+                    mutation.phase().deliveryLatency.add(receivedNanos - mutation.sentNanos());
+                    return;
+                }
+            } catch (NumberFormatException e) {
+                // Falls through to unmatched
+            }
+        }
+        unmatchedDeliveries.increment();
+    }
+
+    /**
+     * What the frontend does with a notification: patch its list, or reload it
+     */
+    private void refetchOrPatch(SeededUser recipient, JsonNode notification) {
+        PhaseStats stats = jvmSampler.phase;
+        if (stats == null) {
+            return;
+        }
+        if (notification.hasNonNull("task") || notification.hasNonNull("changes")
+                || "TASK_DELETED".equals(notification.path("type").asText())) {
+            stats.patchedInPlace.increment();
+            return;
+        }
+        stats.taskListRequests.increment();
+        refetchExecutor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                client.getJson("/api/tasks", recipient.token());
+                stats.taskListLatency.add(System.nanoTime() - start);
+            } catch (Exception e) {
+                stats.errors.computeIfAbsent("refetch " + e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+            }
+        });
+    }
+
+    private void awaitDeliveries() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(scenario.drainSeconds());
+        while (System.nanoTime() < deadline) {
+            long[] counts = deliveryCounts();
+            if (counts[0] == counts[1]) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(200);
+        }
+    }
+
+    /**
+     * Expected and delivered (notification, stream) pairs over streams still connected
+     */
+    private long[] deliveryCounts() {
+        long expected = 0;
+        long delivered = 0;
+        for (Map.Entry<String, String> notification : published.entrySet()) {
+            for (LoadStream stream : streamsByUser.getOrDefault(notification.getValue(), List.of())) {
+                if (stream.state() == LoadStream.State.CONNECTED) {
+                    expected++;
+                    if (stream.hasReceived(notification.getKey())) {
+                        delivered++;
+                    }
+                }
+            }
+        }
+        return new long[]{expected, delivered};
+    }
+
+    private Map<String, Object> totals() {
+        LatencySamples mutationLatency = new LatencySamples();
+        LatencySamples deliveryLatency = new LatencySamples();
+        LatencySamples taskListLatency = new LatencySamples();
+        long completed = 0;
+        long taskListRequests = 0;
+        long patchedInPlace = 0;
+        long measuredSeconds = 0;
+        for (PhaseStats stats : phaseStats) {
+            if (!stats.phase.warmup()) {
+                mutationLatency.addAll(stats.mutationLatency);
+                deliveryLatency.addAll(stats.deliveryLatency);
+                taskListLatency.addAll(stats.taskListLatency);
+                completed += stats.completed.sum();
+                taskListRequests += stats.taskListRequests.sum();
+                patchedInPlace += stats.patchedInPlace.sum();
+                measuredSeconds += stats.phase.durationSeconds();
+            }
+        }
+
+        int duplicates = 0;
+        int disconnected = 0;
+        for (List<LoadStream> streams : streamsByUser.values()) {
+            for (LoadStream stream : streams) {
+                duplicates += stream.duplicates();
+                if (stream.state() == LoadStream.State.FAILED) {
+                    disconnected++;
+                }
+            }
+        }
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("mutations", sequence.get());
+        totals.put("measuredMutationsPerSecond", measuredSeconds > 0 ? (double) completed / measuredSeconds : 0);
+        totals.put("measuredDeliveriesPerSecond", measuredSeconds > 0 ? (double) deliveryLatency.count() / measuredSeconds : 0);
+        totals.put("mutationLatency", mutationLatency.summary());
+        totals.put("deliveryLatency", deliveryLatency.summary());
+        if (scenario.refetchOnNotification()) {
+            totals.put("taskListRequestsPerSecond", measuredSeconds > 0 ? (double) taskListRequests / measuredSeconds : 0);
+            totals.put("patchedInPlace", patchedInPlace);
+            totals.put("taskListLatency", taskListLatency.summary());
+        }
+        if (context.getBeanProvider(InProcessMessaging.LoopbackPublisher.class).getIfAvailable() != null) {
+            long[] counts = deliveryCounts();
+            totals.put("publishedNotifications", published.size());
+            totals.put("expectedDeliveries", counts[0]);
+            totals.put("dropped", counts[0] - counts[1]);
+        }
+        totals.put("duplicates", duplicates);
+        totals.put("unmatchedDeliveries", unmatchedDeliveries.sum());
+        totals.put("streamsDisconnected", disconnected);
+        return totals;
+    }
+
+    private Map<String, Object> jvmReport(Map<String, long[]> gcBefore) {
+        Map<String, Object> collectors = new LinkedHashMap<>();
+        gcSnapshot().forEach((name, after) -> {
+            long[] before = gcBefore.getOrDefault(name, new long[2]);
+            collectors.put(name, Map.of("count", after[0] - before[0], "timeMs", after[1] - before[1]));
+        });
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        Map<String, Object> jvm = new LinkedHashMap<>();
+        jvm.put("heapMaxBytes", memory.getHeapMemoryUsage().getMax());
+        jvm.put("heapPeakBytes", jvmSampler.heapPeak);
+        jvm.put("heapUsedAtEndBytes", memory.getHeapMemoryUsage().getUsed());
+        jvm.put("threadsPeak", jvmSampler.threadsPeak);
+        jvm.put("gc", collectors);
+        return jvm;
+    }
+
+    private static Map<String, long[]> gcSnapshot() {
+        Map<String, long[]> snapshot = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            snapshot.put(collector.getName(), new long[]{collector.getCollectionCount(), collector.getCollectionTime()});
+        }
+        return snapshot;
+    }
+
+    private record SeededUser(long id, String username, String token, List<TaskRef> tasks) {
+    }
+
+    private record SentMutation(long sentNanos, PhaseStats phase) {
+    }
+
+    /**
+     * Harness-side view of a task; status cycles so every update is a status change
+     */
+    private static final class TaskRef {
+
+        final long id;
+        private int status;
+
+        TaskRef(long id) {
+            this.id = id;
+        }
+
+        synchronized String status() {
+            return STATUS_CYCLE[status];
+        }
+
+        synchronized String advanceStatus() {
+            status = (status + 1) % STATUS_CYCLE.length;
+            return STATUS_CYCLE[status];
+        }
+    }
+
+    private static final class PhaseStats {
+
+        final Phase phase;
+        final LatencySamples mutationLatency = new LatencySamples();
+        final LatencySamples deliveryLatency = new LatencySamples();
+        final LatencySamples taskListLatency = new LatencySamples();
+        final LongAdder completed = new LongAdder();
+        final LongAdder taskListRequests = new LongAdder();
+        final LongAdder patchedInPlace = new LongAdder();
+        final ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+        volatile long heapPeak;
+
+        PhaseStats(Phase phase) {
+            this.phase = phase;
+        }
+
+        Map<String, Object> report() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("name", phase.name());
+            report.put("warmup", phase.warmup());
+            report.put("durationSeconds", phase.durationSeconds());
+            report.put("targetMutationsPerSecond", phase.mutationsPerSecond());
+            report.put("mutationsPerSecond", phase.durationSeconds() > 0
+                    ? completed.sum() / (double) phase.durationSeconds() : 0);
+            report.put("deliveriesPerSecond", phase.durationSeconds() > 0
+                    ? deliveryLatency.count() / (double) phase.durationSeconds() : 0);
+            report.put("mutationLatency", mutationLatency.summary());
+            report.put("deliveryLatency", deliveryLatency.summary());
+            if (taskListRequests.sum() + patchedInPlace.sum() > 0) {
+                report.put("taskListRequestsPerSecond", phase.durationSeconds() > 0
+                        ? taskListRequests.sum() / (double) phase.durationSeconds() : 0);
+                report.put("patchedInPlace", patchedInPlace.sum());
+                report.put("taskListLatency", taskListLatency.summary());
+            }
+            Map<String, Long> errorCounts = new LinkedHashMap<>();
+            errors.forEach((kind, count) -> errorCounts.put(kind, count.sum()));
+            report.put("errors", errorCounts);
+            report.put("heapPeakBytes", heapPeak);
+            return report;
+        }
+    }
+
+    private static final class JvmSampler {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        volatile PhaseStats phase;
+        volatile long heapPeak;
+        volatile int threadsPeak;
+
+        void sample() {
+            long heap = memory.getHeapMemoryUsage().getUsed();
+            int threads = ManagementFactory.getThreadMXBean().getThreadCount();
+            heapPeak = Math.max(heapPeak, heap);
+            threadsPeak = Math.max(threadsPeak, threads);
+            PhaseStats current = phase;
+            if (current != null) {
+                current.heapPeak = Math.max(current.heapPeak, heap);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskapp.benchmark.load;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Traffic shape for LoadHarness, read from a JSON scenario file (see src/benchmark/scenarios).
+ *
+ * Users hold streamsPerUser SSE streams each for the whole run. Mutations are issued open-loop
+ * at each phase's rate, by users drawn with Zipf skew (activityExponent, 0 = uniform), and their
+ * latency is measured from the scheduled send time so a stalled server cannot hide behind a
+ * slowed-down client.
+ *
+ * With refetchOnNotification, clients behave like the frontend: a task notification without
+ * task state makes the stream's client reload GET /api/tasks, one that carries it is applied
+ * in place. The report then gives the task list request rate each payload mode causes.
+ */
+public record LoadScenario(
+        String name,
+        long seed,
+        int users,
+        int streamsPerUser,
+        int seedTasksPerUser,
+        double activityExponent,
+        double selfAssignRatio,
+        int maxInFlight,
+        int drainSeconds,
+        boolean refetchOnNotification,
+        List<Phase> phases) {
+
+    public LoadScenario {
+        if (users <= 1) {
+            throw new IllegalArgumentException("A scenario needs at least two users");
+        }
+        if (phases == null || phases.isEmpty()) {
+            throw new IllegalArgumentException("A scenario needs at least one phase");
+        }
+        streamsPerUser = Math.max(streamsPerUser, 1);
+        maxInFlight = maxInFlight > 0 ? maxInFlight : 256;
+        drainSeconds = drainSeconds > 0 ? drainSeconds : 5;
+    }
+
+    public static LoadScenario read(File file) throws IOException {
+        return new ObjectMapper()
+                .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(file, LoadScenario.class);
+    }
+
+    public int streams() {
+        return users * streamsPerUser;
+    }
+
+    /**
+     * A stretch of constant mutation rate. Warm-up phases are left out of the latency totals.
+     */
+    public record Phase(String name, int durationSeconds, double mutationsPerSecond, Mix mix, boolean warmup) {
+
+        public Phase {
+            mix = mix != null ? mix : new Mix(0.4, 0.4, 0.2);
+        }
+    }
+
+    /**
+     * Relative weights of the mutation kinds; users without tasks of their own create one instead
+     */
+    public record Mix(double create, double update, double reassign) {
+
+        Mutation pick(double uniform) {
+            double total = create + update + reassign;
+            double point = uniform * total;
+            if (point < create) {
+                return Mutation.CREATE;
+            }
+            return point < create + update ? Mutation.UPDATE : Mutation.REASSIGN;
+        }
+    }
+
+    public enum Mutation {
+        CREATE, UPDATE, REASSIGN
+    }
+}
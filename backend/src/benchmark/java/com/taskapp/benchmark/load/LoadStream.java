@@ -0,0 +1,115 @@
+package com.taskapp.benchmark.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * One simulated SSE client. Counts every notification ID it sees, so drops and duplicates can
+ * be checked against what the server published, and hands each delivery to the harness.
+ */
+class LoadStream implements Flow.Subscriber<String> {
+
+    enum State { CONNECTING, CONNECTED, REFUSED, FAILED }
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String username;
+    private final BiConsumer<JsonNode, Long> onNotification;
+    private final CountDownLatch settled;
+    private final Set<String> received = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger duplicates = new AtomicInteger();
+
+    private volatile State state = State.CONNECTING;
+    private volatile Flow.Subscription subscription;
+
+    LoadStream(String username, CountDownLatch settled, BiConsumer<JsonNode, Long> onNotification) {
+        this.username = username;
+        this.settled = settled;
+        this.onNotification = onNotification;
+    }
+
+    String username() {
+        return username;
+    }
+
+    State state() {
+        return state;
+    }
+
+    boolean hasReceived(String notificationId) {
+        return received.contains(notificationId);
+    }
+
+    int receivedCount() {
+        return received.size();
+    }
+
+    int duplicates() {
+        return duplicates.get();
+    }
+
+    void settle(State result) {
+        if (state == State.CONNECTING) {
+            state = result;
+            settled.countDown();
+        } else if (result == State.FAILED && state == State.CONNECTED) {
+            state = State.FAILED;
+        }
+    }
+
+    void cancel() {
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        long receivedNanos = System.nanoTime();
+        if (state == State.CONNECTING) {
+            // Admission control answers with only a retry hint
+            settle(line.startsWith("retry:") ? State.REFUSED : State.CONNECTED);
+        }
+        if (!line.startsWith("data:")) {
+            return;
+        }
+        try {
+            JsonNode data = OBJECT_MAPPER.readTree(line.substring(5));
+            JsonNode id = data.get("id");
+            if (id == null || data.get("type") == null) {
+                return;
+            }
+            if (!received.add(id.asText())) {
+                duplicates.incrementAndGet();
+                return;
+            }
+            onNotification.accept(data, receivedNanos);
+        } catch (Exception e) {
+            // Not a notification payload
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        settle(State.FAILED);
+    }
+
+    @Override
+    public void onComplete() {
+        settle(State.FAILED);
+    }
+}
@@ -4,9 +4,11 @@ import com.taskapp.messaging.config.MessagingProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableConfigurationProperties(MessagingProperties.class)
+@EnableScheduling
 public class TaskAppApplication {
     
     public static void main(String[] args) {
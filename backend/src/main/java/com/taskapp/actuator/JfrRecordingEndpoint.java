@@ -0,0 +1,142 @@
+package com.taskapp.actuator;
+
+import com.taskapp.config.JfrProperties;
+import com.taskapp.jfr.NotificationFanOutEvent;
+import com.taskapp.jfr.SseReplayEvent;
+import com.taskapp.jfr.SseWriteEvent;
+import com.taskapp.jfr.TaskMutationEvent;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/jfr: starts (POST) and stops (DELETE) a Flight Recorder recording with the TaskApp
+ * events enabled at the app.jfr.thresholds durations. Stopping dumps the recording to
+ * app.jfr.directory and returns its path and size, not its contents; GET reports the current
+ * recording. Requires ROLE_ADMIN (app.admin.usernames).
+ */
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JfrProperties jfrProperties;
+
+    private Recording recording;
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        return describe(recording);
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start() throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return describe(recording);
+        }
+        closeRecording();
+
+        Recording newRecording = jfrProperties.isIncludeJdkDefaults()
+                ? new Recording(Configuration.getConfiguration("default"))
+                : new Recording();
+        newRecording.setName("taskapp");
+        JfrProperties.Thresholds thresholds = jfrProperties.getThresholds();
+        enable(newRecording, TaskMutationEvent.class, thresholds.getTaskMutation());
+        enable(newRecording, NotificationFanOutEvent.class, thresholds.getNotificationFanOut());
+        enable(newRecording, SseWriteEvent.class, thresholds.getSseWrite());
+        enable(newRecording, SseReplayEvent.class, thresholds.getSseReplay());
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(jfrProperties.getMaxAge());
+        newRecording.setMaxSize(jfrProperties.getMaxSize());
+        // A forgotten recording still ends and lands in the directory
+        newRecording.setDuration(jfrProperties.getMaxDuration());
+
+        Path directory = Path.of(jfrProperties.getDirectory());
+        Files.createDirectories(directory);
+        newRecording.setDestination(directory.resolve("taskapp-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr"));
+        newRecording.start();
+        recording = newRecording;
+
+        log.info("Started JFR recording {} to {}", newRecording.getId(), newRecording.getDestination());
+        return describe(newRecording);
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() throws IOException {
+        if (recording == null) {
+            return describe(null);
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            // Writes the recording to its destination
+            recording.stop();
+        }
+        Map<String, Object> result = describe(recording);
+        Path file = recording.getDestination();
+        if (file != null && Files.exists(file)) {
+            result.put("sizeBytes", Files.size(file));
+        }
+        log.info("Stopped JFR recording {}, written to {}", recording.getId(), file);
+        closeRecording();
+        return result;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() throws IOException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            stop();
+        }
+        closeRecording();
+    }
+
+    private static void enable(Recording recording, Class<? extends Event> eventClass, Duration threshold) {
+        recording.enable(eventClass).withThreshold(threshold);
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Map<String, Object> describe(Recording current) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (current == null) {
+            result.put("state", "NONE");
+            return result;
+        }
+        result.put("id", current.getId());
+        result.put("state", current.getState().name());
+        result.put("startTime", current.getStartTime());
+        result.put("file", String.valueOf(current.getDestination()));
+        JfrProperties.Thresholds thresholds = jfrProperties.getThresholds();
+        result.put("thresholds", Map.of(
+                "taskMutation", thresholds.getTaskMutation().toString(),
+                "notificationFanOut", thresholds.getNotificationFanOut().toString(),
+                "sseWrite", thresholds.getSseWrite().toString(),
+                "sseReplay", thresholds.getSseReplay().toString()));
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskapp.actuator;
+
+import com.taskapp.service.NotificationLatencyRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/notificationlatency: p50/p99/p999 per pipeline stage and event type on this pod,
+ * in milliseconds over the recent percentile window.
+ */
+@Component
+@Endpoint(id = "notificationlatency")
+@RequiredArgsConstructor
+public class NotificationLatencyEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, Map<String, Map<String, Object>>> latency() {
+        Map<String, Map<String, Map<String, Object>>> stages = new TreeMap<>();
+        for (Timer timer : meterRegistry.find(NotificationLatencyRecorder.METRIC_NAME).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", snapshot.count());
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                summary.put(percentileName(percentile.percentile()), percentile.value(TimeUnit.MILLISECONDS));
+            }
+            summary.put("max", snapshot.max(TimeUnit.MILLISECONDS));
+            stages.computeIfAbsent(timer.getId().getTag("stage"), key -> new TreeMap<>())
+                    .put(timer.getId().getTag("type"), summary);
+        }
+        return stages;
+    }
+
+    // 0.5 -> p50, 0.99 -> p99, 0.999 -> p999
+    private static String percentileName(double percentile) {
+        return "p" + BigDecimal.valueOf(percentile * 100).stripTrailingZeros().toPlainString().replace(".", "");
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskapp.actuator;
+
+import com.taskapp.service.SseMemoryAccountant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/ssememory: the latest SSE memory accounting pass on this pod, including the
+ * names of the heaviest users, which the gauges only report by rank. Requires ROLE_ADMIN.
+ */
+@Component
+@Endpoint(id = "ssememory")
+@RequiredArgsConstructor
+public class SseMemoryEndpoint {
+
+    private final SseMemoryAccountant sseMemoryAccountant;
+
+    @ReadOperation
+    public SseMemoryAccountant.Report memory() {
+        return sseMemoryAccountant.getReport();
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for operators allowed onto the diagnostic actuator endpoints.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.admin")
+@Data
+public class AdminProperties {
+
+    /**
+     * Users granted ROLE_ADMIN, which /actuator/jfr and /actuator/ssememory require
+     */
+    private List<String> usernames = new ArrayList<>();
+}
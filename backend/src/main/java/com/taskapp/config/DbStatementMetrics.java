@@ -0,0 +1,87 @@
+package com.taskapp.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the SQL statements Hibernate prepares on each request thread and records them per
+ * request as taskapp.db.statements{method,uri}, where uri is the matched route pattern.
+ * Runs ahead of Spring Security so the user lookup in the JWT filter is counted too.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class DbStatementMetrics extends OncePerRequestFilter
+        implements StatementInspector, HibernatePropertiesCustomizer, Ordered {
+
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, DistributionSummary>> summaries = new ConcurrentHashMap<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get()[0]++;
+        return sql;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Difference of a running per-thread count, so nothing needs resetting between requests
+        long[] statements = STATEMENTS.get();
+        long before = statements[0];
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            summary(request.getMethod(), pattern instanceof String uri ? uri : "UNKNOWN")
+                    .record(statements[0] - before);
+        }
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        ConcurrentHashMap<String, DistributionSummary> byUri = summaries.get(method);
+        if (byUri == null) {
+            byUri = summaries.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        DistributionSummary summary = byUri.get(uri);
+        if (summary == null) {
+            summary = byUri.computeIfAbsent(uri, key -> DistributionSummary.builder("taskapp.db.statements")
+                    .description("SQL statements executed per HTTP request")
+                    .baseUnit("statements")
+                    .tag("method", method)
+                    .tag("uri", key)
+                    .register(meterRegistry));
+        }
+        return summary;
+    }
+
+    @Override
+    public int getOrder() {
+        return SecurityProperties.DEFAULT_FILTER_ORDER - 1;
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for Flight Recorder recordings started through /actuator/jfr.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.jfr")
+@Data
+public class JfrProperties {
+
+    /**
+     * Directory recordings are dumped to when stopped
+     */
+    private String directory = "logs/jfr";
+
+    /**
+     * Also enable the JDK's "default" settings (GC, locks, I/O, sampling), under 1% overhead
+     */
+    private boolean includeJdkDefaults = true;
+
+    /**
+     * Recording is dropped after this long if nobody stops it
+     */
+    private Duration maxDuration = Duration.ofMinutes(30);
+
+    /**
+     * Oldest data kept in the recording buffer
+     */
+    private Duration maxAge = Duration.ofMinutes(10);
+
+    /**
+     * Size cap of the recording buffer in bytes
+     */
+    private long maxSize = 100L * 1024 * 1024;
+
+    /**
+     * Minimum duration for each TaskApp event to be recorded
+     */
+    private Thresholds thresholds = new Thresholds();
+
+    @Data
+    public static class Thresholds {
+        private Duration taskMutation = Duration.ZERO;
+        private Duration notificationFanOut = Duration.ZERO;
+        /**
+         * Fires per recipient stream, so only slow writes are kept
+         */
+        private Duration sseWrite = Duration.ofMillis(5);
+        private Duration sseReplay = Duration.ZERO;
+    }
+}
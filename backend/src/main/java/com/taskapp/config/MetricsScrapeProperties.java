@@ -0,0 +1,24 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the HTTP Basic credential Prometheus scrapes /actuator/prometheus with.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.metrics.scrape")
+@Data
+public class MetricsScrapeProperties {
+
+    /**
+     * Username the scraper sends
+     */
+    private String username = "prometheus";
+
+    /**
+     * Password the scraper sends. While empty, every scrape is refused.
+     */
+    private String password = "";
+}
@@ -0,0 +1,117 @@
+package com.taskapp.config;
+
+import com.taskapp.dto.AuthResponse;
+import com.taskapp.dto.ClusterStatusResponse;
+import com.taskapp.dto.LoginRequest;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.dto.NotificationTrace;
+import com.taskapp.dto.PodHeartbeat;
+import com.taskapp.dto.RegisterRequest;
+import com.taskapp.dto.TaskBatchOperation;
+import com.taskapp.dto.TaskBatchRequest;
+import com.taskapp.dto.TaskBatchResponse;
+import com.taskapp.dto.TaskImportResponse;
+import com.taskapp.dto.TaskSearchResponse;
+import com.taskapp.dto.TaskChangesResponse;
+import com.taskapp.dto.TaskPatchRequest;
+import com.taskapp.dto.TaskRequest;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.dto.UserDirectoryResponse;
+import com.taskapp.dto.UserRegisteredEvent;
+import com.taskapp.dto.UserResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskSyncHorizon;
+import com.taskapp.entity.TaskTombstone;
+import com.taskapp.entity.User;
+import com.taskapp.enums.TaskPriority;
+import com.taskapp.enums.TaskStatus;
+import com.taskapp.exception.ErrorResponse;
+import com.taskapp.exception.ValidationErrorResponse;
+import com.taskapp.messaging.PubSubMessage;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.UserRepository;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.projection.TargetAware;
+
+import java.util.List;
+
+/**
+ * Reachability metadata for the GraalVM native image (mvn -Pnative native:compile), declared
+ * here so that Spring AOT generates it at build time instead of it being kept in hand-written
+ * reflect-config.json files. The application reaches these types reflectively outside what
+ * AOT discovers by itself:
+ * <ul>
+ *   <li>DTOs that ObjectMapper reads and writes on the Redis and SSE paths rather than as
+ *   controller signatures, including the Lombok builder Jackson uses for PubSubMessage;</li>
+ *   <li>the JPA entities and the enums Hibernate maps by name;</li>
+ *   <li>the interface projections native repository queries return, which are JDK proxies;</li>
+ *   <li>jjwt, whose API module loads its implementation classes by name.</li>
+ * </ul>
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageHints.Registrar.class)
+@RegisterReflectionForBinding({
+        NotificationEvent.class, NotificationTrace.class, PodHeartbeat.class, ClusterStatusResponse.class,
+        TaskRequest.class, TaskPatchRequest.class, TaskResponse.class, TaskChangesResponse.class, UserResponse.class,
+        TaskBatchRequest.class, TaskBatchOperation.class, TaskBatchResponse.class, TaskBatchResponse.Result.class,
+        TaskImportResponse.class, TaskImportResponse.RowError.class, TaskSearchResponse.class,
+        TaskSearchResponse.Hit.class, UserDirectoryResponse.class, UserDirectoryResponse.Entry.class,
+        UserRegisteredEvent.class,
+        AuthResponse.class, LoginRequest.class, RegisterRequest.class, ErrorResponse.class,
+        ValidationErrorResponse.class, PubSubMessage.class})
+public class NativeImageHints {
+
+    /**
+     * jjwt-impl classes instantiated through io.jsonwebtoken.lang.Classes by the jjwt-api facade
+     */
+    static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Jackson finds the builder through @JsonDeserialize and calls its with-prefix-less setters
+            hints.reflection().registerType(PubSubMessage.PubSubMessageBuilder.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            for (Class<?> entity : List.of(Task.class, User.class, TaskTombstone.class, TaskSyncHorizon.class)) {
+                hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            for (Class<?> projection : List.of(TaskRepository.UpdatedTask.class, TaskRepository.DeletedTask.class,
+                    TaskRepository.SearchHit.class, UserRepository.DirectoryRow.class, UserRepository.UserRow.class)) {
+                hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_METHODS);
+                hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(projection, TargetAware.class));
+            }
+            for (Class<?> enumType : List.of(TaskStatus.class, TaskPriority.class)) {
+                hints.reflection().registerType(enumType, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            for (String type : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerTypeIfPresent(classLoader, type,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for task notification content.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.notifications")
+@Data
+public class NotificationProperties {
+
+    /**
+     * Task state carried by task notifications besides the task ID and title
+     */
+    private Payload payload = Payload.IDS;
+
+    public enum Payload {
+        /**
+         * IDs, title and usernames only; clients reload the task list
+         */
+        IDS,
+        /**
+         * The whole task and its version
+         */
+        SNAPSHOT,
+        /**
+         * Only the changed fields of an update and the version; the whole task where the
+         * recipient has no copy yet (created, reassigned to them)
+         */
+        DELTA
+    }
+}
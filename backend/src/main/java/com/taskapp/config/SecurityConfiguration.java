@@ -2,13 +2,18 @@ package com.taskapp.config;
 
 import com.taskapp.security.JwtAuthenticationFilter;
 import com.taskapp.security.CustomUserDetailsService;
+import com.taskapp.security.MetricsScrapeAuthorization;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.authentication.configuration.EnableGlobalAuthentication;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -21,12 +26,23 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 @Configuration
-@EnableWebSecurity
+@EnableGlobalAuthentication
 @RequiredArgsConstructor
 public class SecurityConfiguration {
+
+    /**
+     * Servlet web security is only enabled on servlet pods; reactive stream pods
+     * use ReactiveStreamSecurityConfiguration instead.
+     */
+    @Configuration
+    @EnableWebSecurity
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletWebSecurity {
+    }
     
     private final JwtAuthenticationFilter jwtAuthFilter;
-    private final CustomUserDetailsService userDetailsService;    @Bean
+    private final CustomUserDetailsService userDetailsService;
+    private final MetricsScrapeAuthorization metricsScrapeAuthorization;    @Bean
     @SuppressWarnings("deprecation")
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
@@ -44,6 +60,7 @@ public class SecurityConfiguration {
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -52,6 +69,9 @@ public class SecurityConfiguration {
                 .requestMatchers("/ws/**").permitAll()
                 .requestMatchers("/api/notifications/stream").permitAll() // Allow SSE without JWT filter
                 .requestMatchers("/actuator/health", "/actuator/health/**").permitAll() // Allow health check endpoints
+                .requestMatchers("/actuator/jfr", "/actuator/jfr/**", "/actuator/ssememory", "/actuator/ssememory/**").hasRole("ADMIN") // Diagnostics list usernames and write files
+                .requestMatchers("/actuator/prometheus").access((authentication, context) -> new AuthorizationDecision(
+                    metricsScrapeAuthorization.isAuthorized(context.getRequest().getHeader(HttpHeaders.AUTHORIZATION)))) // Scraped with app.metrics.scrape credentials, no JWT
                 .anyRequest().authenticated() // Users endpoint requires authentication
             )
             .sessionManagement(session -> session
@@ -1,23 +1,47 @@
 package com.taskapp.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
+@RequiredArgsConstructor
 public class SseConfiguration implements WebMvcConfigurer {
 
+    private final Environment environment;
+    private final TaskExportProperties exportProperties;
+
     @Override
     public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
-        configurer.setDefaultTimeout(60000); // 1 minute timeout
+        // SSE emitters set their own (none) and the task export its own app.tasks.export.timeout
+        configurer.setDefaultTimeout(environment.getProperty("spring.mvc.async.request-timeout", Duration.class,
+                Duration.ofMinutes(1)).toMillis());
         configurer.setTaskExecutor(sseTaskExecutor());
     }
 
+    /**
+     * Executor for async MVC work. With spring.threads.virtual.enabled=true every task
+     * gets its own virtual thread, so blocking JDBC/Redis calls no longer queue behind
+     * the bounded platform pool.
+     */
     @Bean(name = "sseTaskExecutor")
     public AsyncTaskExecutor sseTaskExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("SSE-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(30000);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(10);
@@ -29,4 +53,34 @@ public class SseConfiguration implements WebMvcConfigurer {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Executor for task exports, kept apart so that long exports neither queue behind nor starve
+     * other async work. It runs at most app.tasks.export.max-concurrent exports and rejects the
+     * rest rather than queueing them, since each export holds a database connection.
+     */
+    @Bean(name = "taskExportExecutor")
+    public AsyncTaskExecutor taskExportExecutor() {
+        int maxConcurrent = exportProperties.getMaxConcurrent();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("export-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrent);
+            executor.setRejectTasksWhenLimitReached(true);
+            executor.setTaskTerminationTimeout(30000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("export-");
+        executor.setKeepAliveSeconds(60);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
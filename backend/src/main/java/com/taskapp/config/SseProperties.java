@@ -0,0 +1,218 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for SSE notification streams.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.sse")
+@Data
+public class SseProperties {
+
+    /**
+     * Events kept per user for Last-Event-ID replay
+     */
+    private int replayBufferSize = 100;
+
+    /**
+     * Platform threads that write notifications and close streams for virtual-thread callers in
+     * virtual thread mode; callers park while all of them are busy
+     */
+    private int maxWriters = 64;
+
+    /**
+     * Keep-alive settings for idle streams
+     */
+    private Heartbeat heartbeat = new Heartbeat();
+
+    /**
+     * Limits on new and concurrent streams
+     */
+    private Admission admission = new Admission();
+
+    /**
+     * Shedding of excess streams to less loaded pods
+     */
+    private Rebalance rebalance = new Rebalance();
+
+    /**
+     * Shutdown drain of open streams
+     */
+    private Drain drain = new Drain();
+
+    /**
+     * Accounting and budget for the memory held by streams and replay buffers
+     */
+    private Memory memory = new Memory();
+
+    /**
+     * Settings for the reactive (WebFlux/Netty) stream endpoint
+     */
+    private Reactive reactive = new Reactive();
+
+    @Data
+    public static class Heartbeat {
+        /**
+         * Interval between SSE comment frames on an otherwise idle stream
+         */
+        private Duration interval = Duration.ofSeconds(30);
+
+        /**
+         * Resolution of the heartbeat wheel; connections fall due at most one tick late
+         */
+        private Duration tick = Duration.ofSeconds(1);
+
+        /**
+         * Threads writing heartbeats, with as many writes queued behind them. A connection whose
+         * heartbeat finds no room is reaped rather than growing the pool.
+         */
+        private int maxWriters = 64;
+    }
+
+    @Data
+    public static class Admission {
+        /**
+         * Open streams allowed per user on this pod
+         */
+        private int maxConnectionsPerUser = 5;
+
+        /**
+         * What happens to a new stream over the per-user cap
+         */
+        private UserLimitPolicy userLimitPolicy = UserLimitPolicy.EVICT_OLDEST;
+
+        /**
+         * Open streams allowed on this pod
+         */
+        private int maxConnectionsPerPod = 10000;
+
+        /**
+         * Sustained rate of new streams per second accepted by this pod
+         */
+        private double connectRate = 200;
+
+        /**
+         * New streams accepted in a burst above the sustained rate
+         */
+        private int connectBurst = 400;
+
+        /**
+         * Lower bound of the jittered retry hint sent to refused streams
+         */
+        private Duration minRetry = Duration.ofSeconds(1);
+
+        /**
+         * Upper bound of the jittered retry hint sent to refused streams
+         */
+        private Duration maxRetry = Duration.ofSeconds(10);
+    }
+
+    public enum UserLimitPolicy {
+        EVICT_OLDEST,
+        REJECT
+    }
+
+    @Data
+    public static class Rebalance {
+        /**
+         * Whether overloaded pods shed streams to their peers
+         */
+        private boolean enabled = true;
+
+        /**
+         * Time between rebalance rounds
+         */
+        private Duration interval = Duration.ofSeconds(10);
+
+        /**
+         * Allowed load above the cluster mean before streams are shed, as a fraction
+         */
+        private double tolerance = 0.2;
+
+        /**
+         * Upper bound on streams closed per second of rebalance interval
+         */
+        private int maxClosesPerSecond = 50;
+    }
+
+    @Data
+    public static class Drain {
+        /**
+         * Time over which open streams are closed on shutdown
+         */
+        private Duration window = Duration.ofSeconds(20);
+
+        /**
+         * Number of waves the open streams are split into across the window
+         */
+        private int waves = 5;
+
+        /**
+         * Lower bound of the jittered SSE retry hint sent to closed and refused streams
+         */
+        private Duration minRetry = Duration.ofSeconds(1);
+
+        /**
+         * Upper bound of the jittered SSE retry hint
+         */
+        private Duration maxRetry = Duration.ofSeconds(15);
+
+        /**
+         * How long handed-off replay buffers stay readable by peer pods
+         */
+        private Duration handoffTtl = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Memory {
+        /**
+         * Time between accounting passes
+         */
+        private Duration interval = Duration.ofSeconds(10);
+
+        /**
+         * Budget for stream and replay state; when unset, heap-fraction of the max heap
+         */
+        private DataSize budget;
+
+        /**
+         * Budget as a fraction of the max heap when no explicit budget is set
+         */
+        private double heapFraction = 0.25;
+
+        /**
+         * Estimated retained bytes per open stream: emitter, Tomcat request, async context and socket buffers
+         */
+        private DataSize connectionOverhead = DataSize.ofKilobytes(32);
+
+        /**
+         * Heaviest users reported by the gauges and /actuator/ssememory
+         */
+        private int topUsers = 10;
+
+        /**
+         * Events kept in a connected user's buffer when buffers are trimmed over budget
+         */
+        private int trimTo = 10;
+
+        /**
+         * Upper bound on streams closed per pass when trimming buffers is not enough
+         */
+        private int maxShedPerPass = 100;
+    }
+
+    @Data
+    public static class Reactive {
+        /**
+         * Events buffered per subscriber before the oldest are dropped
+         */
+        private int subscriberBufferSize = 256;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for bulk task operations (POST /api/tasks/batch).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.tasks.batch")
+@Data
+public class TaskBatchProperties {
+
+    /**
+     * Upper bound on the operations in one request. A batch is one transaction, so this also
+     * bounds how long it holds its row locks.
+     */
+    private int maxOperations = 1000;
+}
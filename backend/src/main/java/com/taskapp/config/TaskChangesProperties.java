@@ -0,0 +1,36 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the task change feed (GET /api/tasks/changes).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.tasks.changes")
+@Data
+public class TaskChangesProperties {
+
+    /**
+     * Changes returned per request when the client does not ask for a size
+     */
+    private int defaultLimit = 500;
+
+    /**
+     * Upper bound on the changes returned per request
+     */
+    private int maxLimit = 2000;
+
+    /**
+     * Tombstones older than this are purged; clients synced before them must reload
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /**
+     * Time between tombstone purges
+     */
+    private Duration purgeInterval = Duration.ofHours(1);
+}
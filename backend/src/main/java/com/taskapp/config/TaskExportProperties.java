@@ -0,0 +1,39 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the streaming task export (GET /api/tasks/export).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.tasks.export")
+@Data
+public class TaskExportProperties {
+
+    /**
+     * Rows the JDBC driver fetches per round trip from the export cursor. Only this many rows
+     * are held in memory at a time, however many the user has.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Bytes of encoded rows buffered before they are written (and gzipped) to the response
+     */
+    private int bufferSize = 64 * 1024;
+
+    /**
+     * Exports streaming at once on this pod. Each holds a pooled JDBC connection and an open
+     * transaction (holding back vacuum) until it finishes; requests over the limit get 503.
+     */
+    private int maxConcurrent = 4;
+
+    /**
+     * How long one export may stream before it is cut off. Applies to the export endpoint only;
+     * other async requests keep spring.mvc.async.request-timeout.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,30 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the bulk task import (POST /api/tasks/import).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.tasks.import")
+@Data
+public class TaskImportProperties {
+
+    /**
+     * Rows per COPY. Each chunk commits on its own, so a failure loses at most one chunk, and
+     * only one chunk of parsed rows is held in memory.
+     */
+    private int chunkSize = 5000;
+
+    /**
+     * Rejected rows described in the response; the rest are only counted
+     */
+    private int maxReportedErrors = 100;
+
+    /**
+     * Longest input record accepted, in characters
+     */
+    private int maxRecordChars = 16 * 1024;
+}
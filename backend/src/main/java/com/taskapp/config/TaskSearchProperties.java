@@ -0,0 +1,29 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for full-text task search (GET /api/tasks/search).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.tasks.search")
+@Data
+public class TaskSearchProperties {
+
+    /**
+     * Results per page when the client does not ask for a size
+     */
+    private int defaultLimit = 20;
+
+    /**
+     * Upper bound on the results per page; headlines are built for every result returned
+     */
+    private int maxLimit = 100;
+
+    /**
+     * Longest query accepted, in characters
+     */
+    private int maxQueryLength = 200;
+}
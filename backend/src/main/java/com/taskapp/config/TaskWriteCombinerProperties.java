@@ -0,0 +1,43 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the task write combiner, which commits concurrent task
+ * creations in shared transactions.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.tasks.write-combiner")
+@Data
+public class TaskWriteCombinerProperties {
+
+    /**
+     * Group concurrent creations into shared transactions; off means one transaction per request
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long the first creation of a group waits for others to join it
+     */
+    private Duration linger = Duration.ofMillis(2);
+
+    /**
+     * Creations per group; a full group commits without waiting out the linger
+     */
+    private int maxBatch = 64;
+
+    /**
+     * Creations waiting for a group; when full, further requests run in their own transaction
+     */
+    private int queueCapacity = 4096;
+
+    /**
+     * Longest a request waits for its group. A creation still queued by then runs on its own;
+     * one already in a group fails with its outcome unknown.
+     */
+    private Duration awaitTimeout = Duration.ofSeconds(30);
+}
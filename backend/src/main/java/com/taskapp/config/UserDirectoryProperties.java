@@ -0,0 +1,41 @@
+package com.taskapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory user directory behind GET /api/users.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.users.directory")
+@Data
+public class UserDirectoryProperties {
+
+    /**
+     * Users per page when the client does not ask for a size
+     */
+    private int defaultLimit = 20;
+
+    /**
+     * Upper bound on the users per page
+     */
+    private int maxLimit = 100;
+
+    /**
+     * Rows per query when loading the directory
+     */
+    private int loadPageSize = 5000;
+
+    /**
+     * Users returned by the deprecated unpaged GET /api/users, lowest ids first
+     */
+    private int legacyListLimit = 1000;
+
+    /**
+     * How often the directory is reloaded to pick up registrations whose message this pod missed
+     */
+    private Duration reloadInterval = Duration.ofMinutes(10);
+}
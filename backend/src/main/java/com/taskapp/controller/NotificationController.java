@@ -1,9 +1,15 @@
 package com.taskapp.controller;
 
 import com.taskapp.config.CorsProperties;
+import com.taskapp.dto.ClusterStatusResponse;
+import com.taskapp.exception.AuthenticationException;
+import com.taskapp.exception.ConnectionRejectedException;
+import com.taskapp.service.ClusterView;
 import com.taskapp.service.NotificationService;
+import com.taskapp.service.SseEmitterWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -18,12 +24,17 @@ import java.util.Arrays;
 
 @RestController
 @RequestMapping("/api/notifications")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationController {
     
     private final NotificationService notificationService;
-    private final CorsProperties corsProperties;@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    private final CorsProperties corsProperties;
+    private final ClusterView clusterView;
+    private final SseEmitterWriter emitterWriter;
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public ResponseEntity<SseEmitter> streamNotifications(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
@@ -69,13 +80,13 @@ public class NotificationController {
             
             // Send initial connection event (no data to avoid interfering with Last-Event-ID)
             try {
-                emitter.send(SseEmitter.event()
+                emitterWriter.send(emitter, SseEmitter.event()
                     .name("connected")
                     .data("{\"status\":\"connected\"}")
                 );
             } catch (IOException e) {
                 log.debug("Failed to send initial connection event: {}", e.getMessage());
-                emitter.completeWithError(e);
+                emitterWriter.completeWithError(emitter, e);
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
             }
             
@@ -89,6 +100,16 @@ public class NotificationController {
                 .headers(headers)
                 .body(emitter);
                 
+        } catch (AuthenticationException e) {
+            // Same status as the reactive stream endpoint
+            log.debug("Rejected SSE connection with invalid token: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        } catch (ConnectionRejectedException e) {
+            // Answer with a retry hint instead of an error status: EventSource gives up on non-200 responses
+            log.debug("SSE connection refused ({}), retry in {} ms", e.getMessage(), e.getRetryMillis());
+            return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(notificationService.createRetryOnlyConnection(e.getRetryMillis()));
         } catch (Exception e) {
             log.error("Error creating SSE connection", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -101,6 +122,14 @@ public class NotificationController {
         return ResponseEntity.ok(new NotificationStatus(activeConnections, messagingHealthy));
     }
     
+    /**
+     * Cluster-wide stream statistics from the heartbeat view, no calls to other pods
+     */
+    @GetMapping("/cluster")
+    public ResponseEntity<ClusterStatusResponse> getClusterStatus() {
+        return ResponseEntity.ok(clusterView.getClusterStatus());
+    }
+    
     // DTO for status response
     public static class NotificationStatus {
         private final int activeConnections;
@@ -1,33 +1,126 @@
 package com.taskapp.controller;
 
+import com.taskapp.config.TaskExportProperties;
+import com.taskapp.dto.TaskBatchRequest;
+import com.taskapp.dto.TaskBatchResponse;
+import com.taskapp.dto.TaskChangesResponse;
+import com.taskapp.dto.TaskImportResponse;
+import com.taskapp.dto.TaskPatchRequest;
 import com.taskapp.dto.TaskRequest;
 import com.taskapp.dto.TaskResponse;
+import com.taskapp.dto.TaskSearchResponse;
+import com.taskapp.enums.TaskExportFormat;
+import com.taskapp.service.TaskExportService;
+import com.taskapp.service.TaskImportService;
+import com.taskapp.service.TaskSearchService;
 import com.taskapp.service.TaskService;
+import com.taskapp.service.TaskSyncService;
+import com.taskapp.service.TaskWriteCombiner;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
 public class TaskController {
     private final TaskService taskService;
+    private final TaskSyncService taskSyncService;
+    private final TaskWriteCombiner taskWriteCombiner;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskSearchService taskSearchService;
+    private final TaskExportProperties exportProperties;
+    private final AsyncTaskExecutor taskExportExecutor;
 
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(
             @Valid @RequestBody TaskRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(taskService.createTask(request, userDetails.getUsername()));
-    }    @GetMapping
+        return ResponseEntity.ok(taskWriteCombiner.createTask(request, userDetails.getUsername()));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> applyBatch(
+            @Valid @RequestBody TaskBatchRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(taskService.applyBatch(request, userDetails.getUsername()));
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        TaskExportFormat importFormat = TaskExportFormat.fromValue(format);
+        InputStream in = "gzip".equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(body, 64 * 1024) : body;
+        return ResponseEntity.ok(taskImportService.importTasks(userDetails.getUsername(), importFormat, in));
+    }
+
+    @GetMapping
     public ResponseEntity<List<TaskResponse>> getTasks(@AuthenticationPrincipal UserDetails userDetails) {
         return ResponseEntity.ok(taskService.getTasksForUser(userDetails.getUsername()));
     }
 
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") String since,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(taskSyncService.getChanges(userDetails.getUsername(), since, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(taskSearchService.search(userDetails.getUsername(), q, cursor, limit));
+    }
+
+    @GetMapping("/export")
+    public WebAsyncTask<ResponseEntity<Void>> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) {
+        TaskExportFormat exportFormat = TaskExportFormat.fromValue(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String username = userDetails.getUsername();
+
+        // Runs on the export executor, which rejects exports over app.tasks.export.max-concurrent
+        return new WebAsyncTask<>(exportProperties.getTimeout().toMillis(), taskExportExecutor, () -> {
+            response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getValue() + "\"");
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            OutputStream out = response.getOutputStream();
+            taskExportService.export(username, exportFormat, gzip, out);
+            out.flush();
+            // The body is written; there is nothing left to render
+            return null;
+        });
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
@@ -36,6 +129,14 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTask(id, request, userDetails.getUsername()));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponse> patchTask(
+            @PathVariable Long id,
+            @Valid @RequestBody TaskPatchRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(taskService.patchTask(id, request, userDetails.getUsername()));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(
             @PathVariable Long id,
@@ -1,8 +1,11 @@
 package com.taskapp.controller;
 
+import com.taskapp.dto.UserDirectoryResponse;
 import com.taskapp.dto.UserResponse;
 import com.taskapp.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,13 +14,33 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
 
-    @GetMapping
+    /**
+     * Without prefix, cursor or limit: up to app.users.directory.legacy-list-limit users with their
+     * email, lowest ids first
+     *
+     * @deprecated use the paged directory, GET /api/users?prefix=&limit=
+     */
+    @Deprecated
+    @GetMapping(params = {"!prefix", "!cursor", "!limit"})
     public ResponseEntity<List<UserResponse>> getAllUsers(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(userService.getAllUsers());
+        return ResponseEntity.ok()
+                .header("Deprecation", "true")
+                .header(HttpHeaders.LINK, "</api/users?prefix=>; rel=\"successor-version\"")
+                .body(userService.getAllUsers());
+    }
+
+    @GetMapping
+    public ResponseEntity<UserDirectoryResponse> getUserDirectory(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(userService.getDirectory(prefix, cursor, limit));
     }
 }
@@ -0,0 +1,30 @@
+package com.taskapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Cluster-wide SSE statistics assembled from pod heartbeats.
+ */
+@Data
+@AllArgsConstructor
+public class ClusterStatusResponse {
+    private int totalConnections;
+    private double totalDeliveryRatePerSecond;
+    private List<PodStatus> pods;
+
+    @Data
+    @AllArgsConstructor
+    public static class PodStatus {
+        private String podId;
+        private int activeConnections;
+        private long eventsDelivered;
+        private long eventsReplayed;
+        private long deliveryFailures;
+        private double deliveryRatePerSecond;
+        private long heartbeatAgeMillis;
+        private boolean draining;
+    }
+}
@@ -3,11 +3,13 @@ package com.taskapp.dto;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonView;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * Simple notification event for Redis pub/sub messaging.
@@ -18,6 +20,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonView(NotificationEvent.Views.Client.class)
 public class NotificationEvent {
     private String id;
     private String type;
@@ -27,6 +30,25 @@ public class NotificationEvent {
     private LocalDateTime timestamp;
     private String creatorUsername;
     private String assignedUsername;
+    
+    // Task state for clients to patch in place instead of reloading their list, set by
+    // app.notifications.payload: the full task, or only the fields that changed
+    private Long taskVersion;
+    private TaskResponse task;
+    private Map<String, Object> changes;
+    
+    // Latency tracing across hops, internal only
+    @JsonView(Views.Internal.class)
+    private NotificationTrace trace;
+    
+    /**
+     * Jackson views: SSE clients are written with Client, which leaves out the trace.
+     * Declared on the class too, since Spring's ObjectMapper disables default view inclusion.
+     */
+    public static final class Views {
+        public interface Client {}
+        public interface Internal extends Client {}
+    }
       /**
      * Create a new notification with basic fields
      */
@@ -37,6 +59,7 @@ public class NotificationEvent {
         event.setMessage(message);
         event.setUsername(username);
         event.setTimestamp(LocalDateTime.now().withNano(0)); // Truncate to seconds for consistent serialization
+        event.setTrace(NotificationTrace.start());
         return event;
     }
       /**
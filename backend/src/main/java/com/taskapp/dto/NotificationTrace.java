@@ -0,0 +1,50 @@
+package com.taskapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Per-hop timestamps of a notification, in nanoseconds since the epoch. Zero means the hop
+ * has not been reached. Travels with the event over Redis; never sent to SSE clients.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public class NotificationTrace {
+
+    // Wall clock anchored once, advanced with nanoTime: nanosecond resolution and monotonic within
+    // a pod; across pods the accuracy is that of clock synchronisation (NTP)
+    private static final long ANCHOR_EPOCH_NANOS = epochNanos(Instant.now());
+    private static final long ANCHOR_NANO_TIME = System.nanoTime();
+
+    private long createdNanos;
+    private long publishedNanos;
+    private long receivedNanos;
+    private long queuedNanos;
+    private long writtenNanos;
+
+    /**
+     * Start a trace stamped as created now
+     */
+    public static NotificationTrace start() {
+        NotificationTrace trace = new NotificationTrace();
+        trace.setCreatedNanos(now());
+        return trace;
+    }
+
+    /**
+     * Current time in nanoseconds since the epoch
+     */
+    public static long now() {
+        return ANCHOR_EPOCH_NANOS + (System.nanoTime() - ANCHOR_NANO_TIME);
+    }
+
+    private static long epochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
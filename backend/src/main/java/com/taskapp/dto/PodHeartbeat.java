@@ -0,0 +1,26 @@
+package com.taskapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Periodic load report a pod publishes on the system-events topic.
+ * Counters are cumulative since the pod started; receivers derive rates from consecutive heartbeats.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PodHeartbeat {
+    private String podId;
+    private int activeConnections;
+    private boolean draining;
+    private long eventsDelivered;
+    private long eventsReplayed;
+    private long deliveryFailures;
+    private long timestamp;
+}
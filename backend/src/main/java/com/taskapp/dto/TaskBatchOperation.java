@@ -0,0 +1,32 @@
+package com.taskapp.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * One operation of a batch. Creates need a title; updates and deletes need the task id, and
+ * updates keep the fields left null, as PATCH does.
+ */
+@Data
+public class TaskBatchOperation {
+
+    public enum Op { CREATE, UPDATE, DELETE }
+
+    @NotNull(message = "Operation is required")
+    private Op op;
+
+    private Long id; // Required for UPDATE and DELETE
+
+    @Size(max = 100, message = "Title must not exceed 100 characters")
+    private String title;
+
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    private String description;
+
+    private String status;
+
+    private String priority;
+
+    private Long assignedTo; // Creates default to the caller; updates ignore it unless the caller created the task
+}
@@ -0,0 +1,13 @@
+package com.taskapp.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBatchRequest {
+    @NotEmpty(message = "At least one operation is required")
+    private List<@Valid TaskBatchOperation> operations;
+}
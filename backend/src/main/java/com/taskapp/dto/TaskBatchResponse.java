@@ -0,0 +1,21 @@
+package com.taskapp.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a batch, one result per operation in request order
+ */
+@Data
+public class TaskBatchResponse {
+    private List<Result> results = new ArrayList<>();
+
+    @Data
+    public static class Result {
+        private TaskBatchOperation.Op op;
+        private Long id;
+        private TaskResponse task; // Null for deletes
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskapp.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tasks changed since a client's feed position. A task appears once, in upserts or deletions,
+ * by its latest change. Clients store nextSince, an opaque string, and pass it as since on their
+ * next sync.
+ */
+@Data
+public class TaskChangesResponse {
+    private List<TaskResponse> upserts = new ArrayList<>();
+    private List<Long> deletions = new ArrayList<>();
+    private String nextSince;
+    // More changes are ready: ask again right away with nextSince
+    private boolean hasMore;
+    // Newer changes belong to transactions that may still be running: ask again shortly
+    private boolean pending;
+    // The position predates purged tombstones, or is not one: reload the full list and sync from 0
+    private boolean resetRequired;
+}
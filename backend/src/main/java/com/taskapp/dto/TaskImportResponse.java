@@ -0,0 +1,31 @@
+package com.taskapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: rows loaded and rejected, and the first rejections with their lines
+ */
+@Data
+public class TaskImportResponse {
+    private long imported;
+    private long rejected;
+    private int chunks;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private boolean completed;
+    private String error; // Why the import stopped early; chunks before it stay committed
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskapp.dto;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Partial task update: fields left null keep their current value
+ */
+@Data
+public class TaskPatchRequest {
+    @Pattern(regexp = "(?s).*\\S.*", message = "Title must not be blank")
+    @Size(max = 100, message = "Title must not exceed 100 characters")
+    private String title;
+
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    private String description;
+
+    private String status;
+
+    private String priority;
+
+    private Long assignedTo; // Ignored unless the caller created the task
+}
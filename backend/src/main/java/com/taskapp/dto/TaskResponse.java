@@ -16,4 +16,5 @@ public class TaskResponse {
     private String assignedToUsername;
     private ZonedDateTime createdAt;
     private ZonedDateTime updatedAt;
+    private Long version;
 }
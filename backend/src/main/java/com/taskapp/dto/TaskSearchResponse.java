@@ -0,0 +1,23 @@
+package com.taskapp.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of search results, best match first
+ */
+@Data
+public class TaskSearchResponse {
+    private List<Hit> results = new ArrayList<>();
+    private String nextCursor; // Pass back as cursor for the next page; null on the last one
+
+    @Data
+    public static class Hit {
+        private TaskResponse task;
+        private float rank;
+        private String titleHighlight; // HTML-escaped title with matched terms in <mark>
+        private String snippet; // HTML-escaped description fragments with matched terms in <mark>; null without a description
+    }
+}
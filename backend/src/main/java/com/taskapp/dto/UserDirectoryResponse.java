@@ -0,0 +1,25 @@
+package com.taskapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of the user directory, in case-insensitive username order
+ */
+@Data
+public class UserDirectoryResponse {
+    private List<Entry> users = new ArrayList<>();
+    private String nextCursor; // Pass back as cursor for the next page; null on the last one
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long id;
+        private String username;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Published on the user-directory topic after a registration, so every pod adds the user to
+ * its directory without querying the database
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserRegisteredEvent {
+    private Long id;
+    private String username;
+}
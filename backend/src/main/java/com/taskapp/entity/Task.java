@@ -13,8 +13,11 @@ import java.time.ZonedDateTime;
 @NoArgsConstructor
 @Entity
 @Table(name = "tasks")
-public class Task {    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+public class Task {    // Drawn from the SERIAL's own sequence, 50 at a time (db/init/03_task_batch.sql sets its
+    // increment to match), so inserts can be JDBC-batched, which IDENTITY rules out
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Task title cannot be blank")
@@ -50,14 +53,29 @@ public class Task {    @Id
     @Column(name = "updated_at")
     private ZonedDateTime updatedAt;
 
+    // Bumped on every change, so clients patching local copies can skip stale notifications.
+    // Not a JPA @Version: concurrent writers keep last-write-wins rather than failing.
+    @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long version;
+
+    // Position in the change feed, (change_xid, change_version), assigned by the database on every
+    // write (db/init/02_task_changes.sql)
+    @Column(name = "change_xid", insertable = false, updatable = false)
+    private Long changeXid;
+
+    @Column(name = "change_version", insertable = false, updatable = false)
+    private Long changeVersion;
+
     @PrePersist
     protected void onCreate() {
         createdAt = ZonedDateTime.now();
         updatedAt = ZonedDateTime.now();
+        version = 1;
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = ZonedDateTime.now();
+        version++;
     }
 }
@@ -0,0 +1,22 @@
+package com.taskapp.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single row recording the highest transaction (change_xid) whose tombstones have been purged
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "task_sync_horizon")
+public class TaskSyncHorizon {
+    public static final short ID = 1;
+
+    @Id
+    private Short id;
+
+    @Column(name = "purged_through_xid", nullable = false)
+    private long purgedThroughXid;
+}
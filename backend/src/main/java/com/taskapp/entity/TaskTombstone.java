@@ -0,0 +1,36 @@
+package com.taskapp.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.ZonedDateTime;
+
+/**
+ * A task leaving a user's view, by deletion or reassignment away from them. Written by a
+ * trigger on tasks (db/init/02_task_changes.sql) so that no code path can skip it.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "task_tombstones")
+public class TaskTombstone {
+    @Id
+    @Column(name = "change_version")
+    private Long changeVersion;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private ZonedDateTime deletedAt;
+
+    // Transaction that removed the task; orders the feed together with changeVersion
+    @Column(name = "change_xid", nullable = false)
+    private Long changeXid;
+}
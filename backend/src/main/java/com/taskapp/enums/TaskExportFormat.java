@@ -0,0 +1,40 @@
+package com.taskapp.enums;
+
+public enum TaskExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String value;
+    private final String contentType;
+
+    TaskExportFormat(String value, String contentType) {
+        this.value = value;
+        this.contentType = contentType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static TaskExportFormat fromValue(String value) {
+        if (value == null) {
+            return NDJSON;
+        }
+
+        for (TaskExportFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Invalid export format: " + value);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
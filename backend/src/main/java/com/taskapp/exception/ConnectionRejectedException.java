@@ -0,0 +1,18 @@
+package com.taskapp.exception;
+
+/**
+ * Thrown when a new SSE stream is not admitted. Carries the reconnect delay to hint to the client.
+ */
+public class ConnectionRejectedException extends RuntimeException {
+    
+    private final long retryMillis;
+    
+    public ConnectionRejectedException(String message, long retryMillis) {
+        super(message);
+        this.retryMillis = retryMillis;
+    }
+    
+    public long getRetryMillis() {
+        return retryMillis;
+    }
+}
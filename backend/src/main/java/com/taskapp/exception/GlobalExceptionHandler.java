@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.core.task.TaskRejectedException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -69,6 +70,13 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex, request, HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage());
     }
 
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedTaskExceptions(TaskRejectedException ex, WebRequest request) {
+        log.warn("Async work rejected: {}", ex.getMessage());
+        return buildErrorResponse(ex, request, HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+            "Too many requests of this kind in progress, try again later");
+    }
+
     @ExceptionHandler({UsernameNotFoundException.class, TaskNotFoundException.class, UserNotFoundException.class})
     public ResponseEntity<ErrorResponse> handleNotFoundExceptions(Exception ex, WebRequest request) {
         log.warn("Resource not found: {}", ex.getMessage());
@@ -0,0 +1,27 @@
+package com.taskapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Publishing the notifications for one task mutation.
+ */
+@Name("com.taskapp.NotificationFanOut")
+@Label("Notification Fan-Out")
+@Category({"TaskApp", "Notifications"})
+@Description("Notifications published to Redis for one task mutation")
+@StackTrace(false)
+public class NotificationFanOutEvent extends jdk.jfr.Event {
+
+    @Label("Mutation")
+    public String mutation;
+
+    @Label("Task Id")
+    public long taskId;
+
+    @Label("Recipients")
+    public int recipients;
+}
@@ -0,0 +1,34 @@
+package com.taskapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Replay of missed notifications to a stream that reconnected with Last-Event-ID.
+ */
+@Name("com.taskapp.SseReplay")
+@Label("SSE Replay")
+@Category({"TaskApp", "SSE"})
+@Description("Missed notifications replayed on reconnect")
+@StackTrace(false)
+public class SseReplayEvent extends jdk.jfr.Event {
+
+    @Label("Username")
+    public String username;
+
+    @Label("Last Event Id")
+    public String lastEventId;
+
+    @Label("Source")
+    @Description("local, handoff, or none when the Last-Event-ID was not found")
+    public String source;
+
+    @Label("Missed Events")
+    public int missed;
+
+    @Label("Sent Events")
+    public int sent;
+}
@@ -0,0 +1,57 @@
+package com.taskapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Serializing and writing one notification to one SSE stream. Fires once per recipient
+ * stream, so it only records writes slower than the threshold by default.
+ */
+@Name("com.taskapp.SseWrite")
+@Label("SSE Write")
+@Category({"TaskApp", "SSE"})
+@Description("Notification written to an SSE stream")
+@StackTrace(false)
+@Threshold("5 ms")
+public class SseWriteEvent extends jdk.jfr.Event {
+
+    @Label("Notification Id")
+    public String notificationId;
+
+    @Label("Notification Type")
+    public String notificationType;
+
+    @Label("Bytes Written")
+    @Description("UTF-8 size of the data payload, excluding SSE framing")
+    @DataAmount
+    public long bytes;
+
+    @Label("Result")
+    public String result;
+
+    /**
+     * UTF-8 length of the payload without encoding it
+     */
+    public static long utf8Length(CharSequence text) {
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskapp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One TaskService create, update or delete, timed inside its transaction.
+ */
+@Name("com.taskapp.TaskMutation")
+@Label("Task Mutation")
+@Category({"TaskApp", "Tasks"})
+@Description("TaskService create, update or delete")
+@StackTrace(false)
+public class TaskMutationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Task Id")
+    public long taskId;
+
+    @Label("Username")
+    public String username;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -8,8 +8,27 @@ import com.taskapp.enums.TaskPriority;
 import com.taskapp.enums.TaskStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
 @Component
-public class TaskMapper {    public TaskResponse toResponse(Task task) {
+public class TaskMapper {
+
+    // Fields an update can change, by JSON property name
+    private static final List<Map.Entry<String, Function<TaskResponse, Object>>> MUTABLE_FIELDS = List.of(
+            Map.entry("title", TaskResponse::getTitle),
+            Map.entry("description", TaskResponse::getDescription),
+            Map.entry("status", TaskResponse::getStatus),
+            Map.entry("priority", TaskResponse::getPriority),
+            Map.entry("assignedToId", TaskResponse::getAssignedToId),
+            Map.entry("assignedToUsername", TaskResponse::getAssignedToUsername),
+            Map.entry("updatedAt", TaskResponse::getUpdatedAt),
+            Map.entry("version", TaskResponse::getVersion));
+
+    public TaskResponse toResponse(Task task) {
         TaskResponse response = new TaskResponse();
         response.setId(task.getId());
         response.setTitle(task.getTitle());
@@ -22,8 +41,25 @@ public class TaskMapper {    public TaskResponse toResponse(Task task) {
         response.setAssignedToUsername(task.getAssignedTo().getUsername());
         response.setCreatedAt(task.getCreatedAt());
         response.setUpdatedAt(task.getUpdatedAt());
+        response.setVersion(task.getVersion());
         return response;
-    }    public Task toEntity(TaskRequest request, User creator, User assignee) {
+    }
+
+    /**
+     * Fields that differ between two states of the same task, with their new values
+     */
+    public Map<String, Object> changes(TaskResponse before, TaskResponse after) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, Function<TaskResponse, Object>> field : MUTABLE_FIELDS) {
+            Object value = field.getValue().apply(after);
+            if (!Objects.equals(field.getValue().apply(before), value)) {
+                changes.put(field.getKey(), value);
+            }
+        }
+        return changes;
+    }
+
+    public Task toEntity(TaskRequest request, User creator, User assignee) {
         Task task = new Task();
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -0,0 +1,22 @@
+package com.taskapp.messaging;
+
+import com.taskapp.dto.NotificationEvent;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared storage for Last-Event-ID replay buffers handed off by a draining pod.
+ */
+public interface ReplayBufferStore {
+    
+    /**
+     * Store the replay buffers of this pod, keyed by username
+     */
+    void save(Map<String, List<NotificationEvent>> buffers);
+    
+    /**
+     * Load the handed-off replay buffer for a user, empty when none is stored
+     */
+    List<NotificationEvent> load(String username);
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for Redis messaging system.
  */
@@ -22,6 +24,16 @@ public class MessagingProperties {
      */
     private String podId = "default-pod";
     
+    /**
+     * How often each pod publishes its heartbeat on the system-events topic
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(5);
+    
+    /**
+     * Start the Redis listener container after startup instead of during it (fast-start images)
+     */
+    private boolean lazyListenerStartup = false;
+    
     /**
      * Topic names for different message types
      */
@@ -32,5 +44,6 @@ public class MessagingProperties {
         private String userNotifications = "user-notifications";
         private String systemEvents = "system-events";
         private String taskLifecycle = "task-lifecycle";
+        private String userDirectory = "user-directory";
     }
 }
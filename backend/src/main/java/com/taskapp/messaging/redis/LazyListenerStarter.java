@@ -0,0 +1,67 @@
+package com.taskapp.messaging.redis;
+
+import com.taskapp.messaging.config.MessagingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Starts the Redis listener container when messaging.lazy-listener-startup keeps it out of
+ * context startup: in the background once the application is ready, or earlier on the thread of
+ * the first SSE stream opened on this pod. Until then the pod has no local streams to deliver to,
+ * so it misses nothing but other pods' heartbeats and registrations, which the next
+ * UserDirectory reload picks up. The flag is read at runtime rather than in a condition, so
+ * Spring AOT builds honour it either way.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@Slf4j
+public class LazyListenerStarter {
+
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final MessagingProperties messagingProperties;
+    private final ReentrantLock startLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startAfterReady() {
+        if (messagingProperties.isLazyListenerStartup()) {
+            Thread.ofVirtual().name("redis-listener-start").start(this::ensureStarted);
+        }
+    }
+
+    /**
+     * Start the container if it exists and is not running yet; cheap once it is
+     */
+    public void ensureStarted() {
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (container == null || container.isRunning()) {
+            return;
+        }
+        // A lock, not a monitor: start() blocks on Redis, and callers may be virtual threads
+        startLock.lock();
+        try {
+            if (container.isRunning()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                container.start();
+                log.info("Started Redis listener container on pod {} in {} ms",
+                        messagingProperties.getPodId(), (System.nanoTime() - start) / 1_000_000);
+            } catch (Exception e) {
+                log.warn("Redis listener container failed to start on pod {}: {}",
+                        messagingProperties.getPodId(), e.getMessage());
+            }
+        } finally {
+            startLock.unlock();
+        }
+    }
+}
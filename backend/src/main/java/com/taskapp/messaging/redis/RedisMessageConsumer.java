@@ -2,7 +2,10 @@ package com.taskapp.messaging.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskapp.dto.NotificationEvent;
+import com.taskapp.dto.NotificationTrace;
 import com.taskapp.service.SSEConnectionManager;
+import com.taskapp.service.TaskAppMetrics;
+import com.taskapp.service.TaskAppMetrics.ConsumeOutcome;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
@@ -20,9 +23,11 @@ public class RedisMessageConsumer implements MessageListener {
     
     private final SSEConnectionManager sseConnectionManager;
     private final ObjectMapper objectMapper;
+    private final TaskAppMetrics metrics;
     
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        long start = System.nanoTime();
         try {
             String messageBody = new String(message.getBody());
             String channel = new String(message.getChannel());
@@ -31,17 +36,23 @@ public class RedisMessageConsumer implements MessageListener {
             
             // Parse the notification event
             NotificationEvent notification = objectMapper.readValue(messageBody, NotificationEvent.class);
+            if (notification.getTrace() != null) {
+                notification.getTrace().setReceivedNanos(NotificationTrace.now());
+            }
             
             // Forward to SSE connection manager for local delivery
             String username = notification.getUsername();
             if (username != null && !username.trim().isEmpty()) {
                 sseConnectionManager.sendToUserLocal(username, notification);
+                metrics.recordRedisConsume(ConsumeOutcome.DELIVERED, start);
                 log.debug("Forwarded Redis notification to local SSE connections for user: {}", username);
             } else {
+                metrics.recordRedisConsume(ConsumeOutcome.SKIPPED, start);
                 log.warn("Received notification without username, skipping: {}", notification);
             }
             
         } catch (Exception e) {
+            metrics.recordRedisConsume(ConsumeOutcome.FAILED, start);
             log.error("Error processing Redis message: {}", e.getMessage(), e);
         }
     }
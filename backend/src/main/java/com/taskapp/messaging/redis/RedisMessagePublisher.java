@@ -2,6 +2,7 @@ package com.taskapp.messaging.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskapp.messaging.MessagePublisher;
+import com.taskapp.service.TaskAppMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -22,6 +23,7 @@ public class RedisMessagePublisher implements MessagePublisher {
     
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final TaskAppMetrics metrics;
     
     @Override
     public void publishMessage(String topic, Object message) {
@@ -29,12 +31,16 @@ public class RedisMessagePublisher implements MessagePublisher {
     }
 
     @Override
-    public void publishMessage(String topic, Object message, Map<String, String> attributes) {        try {
+    public void publishMessage(String topic, Object message, Map<String, String> attributes) {
+        long start = System.nanoTime();
+        try {
             String messageJson = objectMapper.writeValueAsString(message);
             redisTemplate.convertAndSend(topic, messageJson);
+            metrics.recordRedisPublish(topic, start, true);
             log.debug("Published message to Redis topic '{}': {}", topic, messageJson);
                      
         } catch (Exception e) {
+            metrics.recordRedisPublish(topic, start, false);
             log.error("Failed to publish message to Redis topic '{}': {}", topic, e.getMessage(), e);
             throw new RuntimeException("Message publishing failed", e);
         }
@@ -3,8 +3,14 @@ package com.taskapp.messaging.redis;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskapp.messaging.config.MessagingProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -38,16 +44,47 @@ public class RedisMessagingConfig {
         template.afterPropertiesSet();
         log.info("Configured Redis template for pub/sub messaging");
         return template;
-    }    @Bean
+    }
+
+    /**
+     * Servlet pods consume notifications here; reactive stream pods use ReactiveRedisNotificationRelay.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = "messaging.provider", havingValue = "redis", matchIfMissing = true)
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             RedisMessageConsumer messageConsumer,
-            MessagingProperties messagingProperties) {
-        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            SystemEventConsumer systemEventConsumer,
+            UserDirectoryConsumer userDirectoryConsumer,
+            MessagingProperties messagingProperties,
+            Environment environment) {
+        // With lazy startup LazyListenerStarter subscribes, so startup does not wait on Redis
+        boolean autoStartup = !messagingProperties.isLazyListenerStartup();
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return autoStartup;
+            }
+
+            @Override
+            public int getPhase() {
+                // Stop only after SseDrainCoordinator (DEFAULT_PHASE) has finished, so streams still
+                // open while the drain closes them in waves keep receiving events
+                return SmartLifecycle.DEFAULT_PHASE - 1;
+            }
+        };
         container.setConnectionFactory(connectionFactory);
         
         // Configure container for optimal pub/sub performance with better error handling
-        container.setTaskExecutor(null); // Use default thread pool
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // Dispatch each message on its own virtual thread instead of a new platform thread
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("redis-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            container.setTaskExecutor(listenerExecutor);
+        } else {
+            container.setTaskExecutor(null); // Use default thread pool
+        }
         container.setSubscriptionExecutor(null); // Use default subscription executor
         
         // Configure recovery and error handling
@@ -58,6 +95,14 @@ public class RedisMessagingConfig {
         String topic = messagingProperties.getTopics().getUserNotifications();
         container.addMessageListener(messageConsumer, new ChannelTopic(topic));
         
+        // Pod heartbeats for the cluster view
+        container.addMessageListener(systemEventConsumer,
+                new ChannelTopic(messagingProperties.getTopics().getSystemEvents()));
+        
+        // Registrations for the user directory
+        container.addMessageListener(userDirectoryConsumer,
+                new ChannelTopic(messagingProperties.getTopics().getUserDirectory()));
+        
         log.info("Configured Redis message listener container with recovery settings and topic: {}", topic);
         return container;
     }
@@ -0,0 +1,63 @@
+package com.taskapp.messaging.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.config.SseProperties;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.messaging.ReplayBufferStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis-backed replay buffer handoff. Each user's buffer is one JSON value that expires
+ * after app.sse.drain.handoff-ttl, long enough for drained clients to reconnect elsewhere.
+ */
+@Service
+@ConditionalOnProperty(name = "messaging.provider", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RedisReplayBufferStore implements ReplayBufferStore {
+    
+    private static final String KEY_PREFIX = "sse:replay:";
+    private static final TypeReference<List<NotificationEvent>> EVENT_LIST = new TypeReference<>() {};
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseProperties sseProperties;
+    
+    @Override
+    public void save(Map<String, List<NotificationEvent>> buffers) {
+        int saved = 0;
+        for (Map.Entry<String, List<NotificationEvent>> buffer : buffers.entrySet()) {
+            if (buffer.getValue().isEmpty()) {
+                continue;
+            }
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + buffer.getKey(),
+                        objectMapper.writeValueAsString(buffer.getValue()),
+                        sseProperties.getDrain().getHandoffTtl());
+                saved++;
+            } catch (Exception e) {
+                log.warn("Failed to hand off replay buffer for user {}: {}", buffer.getKey(), e.getMessage());
+            }
+        }
+        log.debug("Handed off {} replay buffers to Redis", saved);
+    }
+    
+    @Override
+    public List<NotificationEvent> load(String username) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + username);
+            return json != null ? objectMapper.readValue(json, EVENT_LIST) : List.of();
+        } catch (Exception e) {
+            log.warn("Failed to load handed-off replay buffer for user {}: {}", username, e.getMessage());
+            return List.of();
+        }
+    }
+}
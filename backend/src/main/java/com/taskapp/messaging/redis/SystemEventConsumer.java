@@ -0,0 +1,36 @@
+package com.taskapp.messaging.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.dto.PodHeartbeat;
+import com.taskapp.service.ClusterView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis consumer for the system-events topic. Feeds pod heartbeats into the ClusterView.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SystemEventConsumer implements MessageListener {
+    
+    private final ClusterView clusterView;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            PodHeartbeat heartbeat = objectMapper.readValue(message.getBody(), PodHeartbeat.class);
+            if (heartbeat.getPodId() == null || heartbeat.getPodId().trim().isEmpty()) {
+                log.warn("Received system event without podId, skipping");
+                return;
+            }
+            clusterView.onHeartbeat(heartbeat);
+        } catch (Exception e) {
+            log.error("Error processing system event: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskapp.messaging.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.dto.UserRegisteredEvent;
+import com.taskapp.service.UserDirectory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis consumer for the user-directory topic. Adds registered users to this pod's UserDirectory.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserDirectoryConsumer implements MessageListener {
+
+    private final UserDirectory userDirectory;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            UserRegisteredEvent event = objectMapper.readValue(message.getBody(), UserRegisteredEvent.class);
+            if (event.getId() == null || event.getUsername() == null) {
+                log.warn("Received user registration without id or username, skipping");
+                return;
+            }
+            userDirectory.add(event.getId(), event.getUsername());
+        } catch (Exception e) {
+            log.error("Error processing user registration: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -3,10 +3,210 @@ package com.taskapp.repository;
 import com.taskapp.entity.Task;
 import com.taskapp.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByAssignedTo(User assignedTo);
     List<Task> findByCreatedBy(User createdBy);
     List<Task> findByAssignedToOrCreatedBy(User assignedTo, User createdBy);
+
+    /**
+     * Tasks by id with their creator and assignee, in one query
+     */
+    @Query("SELECT t FROM Task t JOIN FETCH t.createdBy JOIN FETCH t.assignedTo WHERE t.id IN :ids")
+    List<Task> findAllWithUsersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * The user's tasks written after a feed position, in (change_xid, change_version) order: one
+     * range scan per (user column, change_xid, change_version) index, each stopping at the limit
+     */
+    @Query(value = """
+            SELECT * FROM (
+                (SELECT * FROM tasks WHERE assigned_to = :userId
+                 AND (change_xid, change_version) > (:sinceXid, :sinceVersion)
+                 ORDER BY change_xid, change_version LIMIT :limit)
+                UNION
+                (SELECT * FROM tasks WHERE created_by = :userId
+                 AND (change_xid, change_version) > (:sinceXid, :sinceVersion)
+                 ORDER BY change_xid, change_version LIMIT :limit)
+            ) changed
+            ORDER BY change_xid, change_version
+            LIMIT :limit""", nativeQuery = true)
+    List<Task> findChangedSince(@Param("userId") Long userId, @Param("sinceXid") long sinceXid,
+                                @Param("sinceVersion") long sinceVersion, @Param("limit") int limit);
+
+    /**
+     * Oldest transaction still running: every transaction below it has committed or rolled back,
+     * so changes written below it are final
+     */
+    @Query(value = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint", nativeQuery = true)
+    long findOldestRunningXid();
+
+    /**
+     * Update a task the user created or is assigned, in one statement: null fields are kept unless
+     * replace is set, when a null description clears it, and only the creator can reassign. The
+     * locked pre-image comes back alongside the new row for notifications; empty when the task is
+     * missing or the user may not update it. updated_at and change_version are set by triggers.
+     */
+    @Query(value = """
+            UPDATE tasks t SET
+                title = COALESCE(CAST(:title AS VARCHAR), p.title),
+                description = CASE WHEN :replace THEN CAST(:description AS TEXT)
+                                   ELSE COALESCE(CAST(:description AS TEXT), p.description) END,
+                status = COALESCE(CAST(:status AS VARCHAR), p.status),
+                priority = COALESCE(CAST(:priority AS VARCHAR), p.priority),
+                assigned_to = CASE WHEN p.created_by = p.actor_id
+                                   THEN COALESCE(CAST(:assignedTo AS BIGINT), p.assigned_to)
+                                   ELSE p.assigned_to END,
+                version = p.version + 1
+            FROM (
+                SELECT pt.*, a.id AS actor_id, a.username AS actor_username
+                FROM tasks pt JOIN users a ON a.username = :username
+                WHERE pt.id = :taskId AND (pt.created_by = a.id OR pt.assigned_to = a.id)
+                FOR UPDATE OF pt
+            ) p
+            WHERE t.id = p.id
+            RETURNING t.id AS "id", t.title AS "title", t.description AS "description",
+                t.status AS "status", t.priority AS "priority",
+                t.created_by AS "createdById", (SELECT u.username FROM users u WHERE u.id = t.created_by) AS "createdByUsername",
+                t.assigned_to AS "assignedToId", (SELECT u.username FROM users u WHERE u.id = t.assigned_to) AS "assignedToUsername",
+                t.created_at AS "createdAt", t.updated_at AS "updatedAt", t.version AS "version",
+                p.actor_id AS "actorId", p.actor_username AS "actorUsername",
+                p.title AS "previousTitle", p.description AS "previousDescription",
+                p.status AS "previousStatus", p.priority AS "previousPriority",
+                p.assigned_to AS "previousAssignedToId",
+                (SELECT u.username FROM users u WHERE u.id = p.assigned_to) AS "previousAssignedToUsername",
+                p.updated_at AS "previousUpdatedAt\"""", nativeQuery = true)
+    Optional<UpdatedTask> updateIfPermitted(@Param("taskId") Long taskId, @Param("username") String username,
+                                            @Param("title") String title, @Param("description") String description,
+                                            @Param("replace") boolean replace, @Param("status") String status,
+                                            @Param("priority") String priority, @Param("assignedTo") Long assignedTo);
+
+    /**
+     * Delete a task if the user created it, returning what the notifications need; empty when the
+     * task is missing or the user may not delete it. Tombstones are written by trigger.
+     */
+    @Query(value = """
+            DELETE FROM tasks t USING users a
+            WHERE t.id = :taskId AND a.username = :username AND t.created_by = a.id
+            RETURNING t.id AS "id", t.title AS "title",
+                t.created_by AS "createdById", a.username AS "createdByUsername",
+                t.assigned_to AS "assignedToId",
+                (SELECT u.username FROM users u WHERE u.id = t.assigned_to) AS "assignedToUsername\"""", nativeQuery = true)
+    Optional<DeletedTask> deleteIfPermitted(@Param("taskId") Long taskId, @Param("username") String username);
+
+    /**
+     * One page of the user's tasks matching a web-search style query, best match first, after the
+     * (rank, id) of the previous page's last hit when given. Matches are found per user column
+     * through the (user, search_vector) GIN indexes (db/init/04_task_search.sql); headlines are
+     * only built for the page. Headlines enclose matches in U+0002 and U+0003, removed from the
+     * text beforehand, so that the raw text can be HTML-escaped before the matches are marked.
+     */
+    @Query(value = """
+            WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query),
+            me AS (SELECT id FROM users WHERE username = :username),
+            matches AS (
+                SELECT t.id FROM tasks t, q, me WHERE t.created_by = me.id AND t.search_vector @@ q.query
+                UNION
+                SELECT t.id FROM tasks t, q, me WHERE t.assigned_to = me.id AND t.search_vector @@ q.query
+            ),
+            page AS (
+                SELECT r.id, r.rank FROM (
+                    SELECT t.id, ts_rank_cd(t.search_vector, q.query) AS rank
+                    FROM matches m JOIN tasks t ON t.id = m.id CROSS JOIN q
+                ) r
+                WHERE CAST(:afterRank AS real) IS NULL
+                    OR r.rank < CAST(:afterRank AS real)
+                    OR (r.rank = CAST(:afterRank AS real) AND r.id < CAST(:afterId AS bigint))
+                ORDER BY r.rank DESC, r.id DESC
+                LIMIT :limit
+            )
+            SELECT t.id AS "id", t.title AS "title", t.description AS "description",
+                t.status AS "status", t.priority AS "priority",
+                t.created_by AS "createdById", c.username AS "createdByUsername",
+                t.assigned_to AS "assignedToId", a.username AS "assignedToUsername",
+                t.created_at AS "createdAt", t.updated_at AS "updatedAt", t.version AS "version",
+                p.rank AS "rank",
+                ts_headline('english', translate(t.title, chr(2) || chr(3), ''), q.query,
+                    'HighlightAll=true, StartSel=' || chr(2) || ', StopSel=' || chr(3)) AS "titleHighlight",
+                ts_headline('english', translate(COALESCE(t.description, ''), chr(2) || chr(3), ''), q.query,
+                    'MaxFragments=2, MaxWords=20, MinWords=5, StartSel=' || chr(2) || ', StopSel=' || chr(3))
+                    AS "snippet"
+            FROM page p
+            JOIN tasks t ON t.id = p.id
+            JOIN users c ON c.id = t.created_by
+            JOIN users a ON a.id = t.assigned_to
+            CROSS JOIN q
+            ORDER BY p.rank DESC, p.id DESC""", nativeQuery = true)
+    List<SearchHit> search(@Param("username") String username, @Param("query") String query,
+                           @Param("afterRank") Float afterRank, @Param("afterId") Long afterId,
+                           @Param("limit") int limit);
+
+    /**
+     * Row returned by updateIfPermitted: the task after the update, the acting user and the
+     * fields the update may have changed as they were before it
+     */
+    interface UpdatedTask {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        String getStatus();
+        String getPriority();
+        Long getCreatedById();
+        String getCreatedByUsername();
+        Long getAssignedToId();
+        String getAssignedToUsername();
+        Instant getCreatedAt();
+        Instant getUpdatedAt();
+        long getVersion();
+        Long getActorId();
+        String getActorUsername();
+        String getPreviousTitle();
+        String getPreviousDescription();
+        String getPreviousStatus();
+        String getPreviousPriority();
+        Long getPreviousAssignedToId();
+        String getPreviousAssignedToUsername();
+        Instant getPreviousUpdatedAt();
+    }
+
+    /**
+     * Row returned by deleteIfPermitted
+     */
+    interface DeletedTask {
+        Long getId();
+        String getTitle();
+        Long getCreatedById();
+        String getCreatedByUsername();
+        Long getAssignedToId();
+        String getAssignedToUsername();
+    }
+
+    /**
+     * Row returned by search: the task, its rank and its title and description with the matched
+     * terms marked
+     */
+    interface SearchHit {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        String getStatus();
+        String getPriority();
+        Long getCreatedById();
+        String getCreatedByUsername();
+        Long getAssignedToId();
+        String getAssignedToUsername();
+        Instant getCreatedAt();
+        Instant getUpdatedAt();
+        long getVersion();
+        float getRank();
+        String getTitleHighlight();
+        String getSnippet();
+    }
 }
@@ -0,0 +1,7 @@
+package com.taskapp.repository;
+
+import com.taskapp.entity.TaskSyncHorizon;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TaskSyncHorizonRepository extends JpaRepository<TaskSyncHorizon, Short> {
+}
@@ -0,0 +1,32 @@
+package com.taskapp.repository;
+
+import com.taskapp.entity.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+    /**
+     * The user's tombstones after a feed position, in feed order
+     */
+    @Query("""
+            select t from TaskTombstone t
+            where t.userId = :userId
+              and (t.changeXid > :sinceXid or (t.changeXid = :sinceXid and t.changeVersion > :sinceVersion))
+            order by t.changeXid, t.changeVersion""")
+    List<TaskTombstone> findChangedSince(@Param("userId") Long userId, @Param("sinceXid") long sinceXid,
+                                         @Param("sinceVersion") long sinceVersion, Limit limit);
+
+    @Query("select max(t.changeXid) from TaskTombstone t where t.deletedAt < :cutoff")
+    Optional<Long> findMaxChangeXidDeletedBefore(@Param("cutoff") ZonedDateTime cutoff);
+
+    @Modifying
+    @Query("delete from TaskTombstone t where t.changeXid <= :xid")
+    int deleteThrough(@Param("xid") long xid);
+}
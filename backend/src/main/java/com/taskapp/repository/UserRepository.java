@@ -1,12 +1,40 @@
 package com.taskapp.repository;
 
 import com.taskapp.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+    List<User> findByUsernameIn(Collection<String> usernames);
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    /**
+     * Usernames and ids in id order after afterId; pages through the users table for the directory
+     */
+    @Query("SELECT u.id AS id, u.username AS username FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<DirectoryRow> findDirectoryPage(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Like findDirectoryPage, with emails
+     */
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserRow> findUserPage(@Param("afterId") long afterId, Limit limit);
+
+    interface DirectoryRow {
+        Long getId();
+        String getUsername();
+    }
+
+    interface UserRow extends DirectoryRow {
+        String getEmail();
+    }
 }
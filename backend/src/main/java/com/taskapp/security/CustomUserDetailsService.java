@@ -1,21 +1,24 @@
 package com.taskapp.security;
 
+import com.taskapp.config.AdminProperties;
 import com.taskapp.entity.User;
 import com.taskapp.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final AdminProperties adminProperties;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -25,7 +28,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new org.springframework.security.core.userdetails.User(
             user.getUsername(),
             user.getPasswordHash(),
-            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+            authorities(user.getUsername())
         );
     }
+
+    /**
+     * ROLE_USER, plus ROLE_ADMIN for the users listed in app.admin.usernames
+     */
+    public List<GrantedAuthority> authorities(String username) {
+        if (adminProperties.getUsernames().contains(username)) {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.taskapp.security;
+
+import com.taskapp.config.MetricsScrapeProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Checks the HTTP Basic credential on /actuator/prometheus against app.metrics.scrape. Both web
+ * stacks call it from their authorization rules; the scraper carries no JWT, and the JWT filters
+ * ignore Basic headers.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricsScrapeAuthorization {
+
+    private final MetricsScrapeProperties properties;
+
+    /**
+     * True when the Authorization header carries the configured scrape username and password
+     */
+    public boolean isAuthorized(String authorizationHeader) {
+        String password = properties.getPassword();
+        if (password == null || password.isEmpty()
+                || authorizationHeader == null || !authorizationHeader.startsWith("Basic ")) {
+            return false;
+        }
+        String expected = Base64.getEncoder().encodeToString(
+                (properties.getUsername() + ":" + password).getBytes(StandardCharsets.UTF_8));
+        // Constant time, so the password cannot be guessed byte by byte from response times
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII),
+                authorizationHeader.substring(6).trim().getBytes(StandardCharsets.US_ASCII));
+    }
+}
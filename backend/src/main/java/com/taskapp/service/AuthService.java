@@ -17,6 +17,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +29,7 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
     private final CustomUserDetailsService userDetailsService;
+    private final UserDirectory userDirectory;
     
     // Business event logger for audit trail
     private static final org.slf4j.Logger businessLog = org.slf4j.LoggerFactory.getLogger("business-events");@Transactional
@@ -62,13 +65,32 @@ public class AuthService {
                 savedUser.getUsername(), 
                 savedUser.getEmail()
             );
+            publishRegistrationAfterCommit(savedUser.getId(), savedUser.getUsername());
             
             return new AuthResponse(token, userInfo);
         } catch (Exception e) {
             log.error("Registration failed for user '{}': {}", request.getUsername(), e.getMessage());
             throw new AuthenticationException("Registration failed: " + e.getMessage());
         }
-    }    public AuthResponse login(LoginRequest request) {
+    }
+
+    /**
+     * List the user in the directory once the registration commits, so a rollback publishes nothing
+     */
+    private void publishRegistrationAfterCommit(Long id, String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userDirectory.publishRegistration(id, username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userDirectory.publishRegistration(id, username);
+            }
+        });
+    }
+
+    public AuthResponse login(LoginRequest request) {
         log.debug("Attempting login for user: {}", request.getUsername());
         
         try {
@@ -0,0 +1,115 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.ClusterStatusResponse;
+import com.taskapp.dto.PodHeartbeat;
+import com.taskapp.messaging.config.MessagingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory view of the cluster built from pod heartbeats on the system-events topic.
+ * A pod counts as live while its last heartbeat is younger than three heartbeat intervals.
+ * Reads never query other pods; this pod's own entry is taken from its live counters.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterView {
+
+    private final MessagingProperties messagingProperties;
+    private final SSEConnectionManager sseConnectionManager;
+    private final SseDrainCoordinator sseDrainCoordinator;
+
+    private final ConcurrentHashMap<String, ReceivedHeartbeat> heartbeats = new ConcurrentHashMap<>();
+
+    /**
+     * Record a heartbeat, stamped with the local receive time so pod clock skew does not matter
+     */
+    public void onHeartbeat(PodHeartbeat heartbeat) {
+        heartbeats.compute(heartbeat.getPodId(), (podId, previous) ->
+                new ReceivedHeartbeat(heartbeat, System.currentTimeMillis(), deliveryRate(previous, heartbeat)));
+    }
+
+    /**
+     * Heartbeat describing this pod right now
+     */
+    public PodHeartbeat localHeartbeat() {
+        return PodHeartbeat.builder()
+                .podId(messagingProperties.getPodId())
+                .activeConnections(sseConnectionManager.getActiveConnectionCount())
+                .draining(sseDrainCoordinator.isDraining())
+                .eventsDelivered(sseConnectionManager.getEventsDeliveredCount())
+                .eventsReplayed(sseConnectionManager.getEventsReplayedCount())
+                .deliveryFailures(sseConnectionManager.getDeliveryFailureCount())
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * Latest heartbeat per live pod, keyed by pod ID
+     */
+    public Map<String, PodHeartbeat> getLivePods() {
+        return liveHeartbeats().stream()
+                .collect(Collectors.toMap(received -> received.heartbeat().getPodId(), ReceivedHeartbeat::heartbeat));
+    }
+
+    /**
+     * Per-pod and total statistics for all live pods
+     */
+    public ClusterStatusResponse getClusterStatus() {
+        long now = System.currentTimeMillis();
+        String localPodId = messagingProperties.getPodId();
+        List<ClusterStatusResponse.PodStatus> pods = new ArrayList<>();
+
+        PodHeartbeat local = localHeartbeat();
+        ReceivedHeartbeat lastPublished = heartbeats.get(localPodId);
+        pods.add(podStatus(local, lastPublished != null ? deliveryRate(lastPublished, local) : 0, 0));
+
+        for (ReceivedHeartbeat received : liveHeartbeats()) {
+            if (!received.heartbeat().getPodId().equals(localPodId)) {
+                pods.add(podStatus(received.heartbeat(), received.deliveryRate(), now - received.receivedAt()));
+            }
+        }
+        pods.sort(Comparator.comparing(ClusterStatusResponse.PodStatus::getPodId));
+
+        int totalConnections = pods.stream().mapToInt(ClusterStatusResponse.PodStatus::getActiveConnections).sum();
+        double totalRate = pods.stream().mapToDouble(ClusterStatusResponse.PodStatus::getDeliveryRatePerSecond).sum();
+        return new ClusterStatusResponse(totalConnections, totalRate, pods);
+    }
+
+    private List<ReceivedHeartbeat> liveHeartbeats() {
+        long cutoff = System.currentTimeMillis() - 3 * messagingProperties.getHeartbeatInterval().toMillis();
+        heartbeats.values().removeIf(received -> received.receivedAt() < cutoff);
+        return new ArrayList<>(heartbeats.values());
+    }
+
+    private static ClusterStatusResponse.PodStatus podStatus(PodHeartbeat heartbeat, double deliveryRate, long ageMillis) {
+        return new ClusterStatusResponse.PodStatus(heartbeat.getPodId(), heartbeat.getActiveConnections(),
+                heartbeat.getEventsDelivered(), heartbeat.getEventsReplayed(), heartbeat.getDeliveryFailures(),
+                deliveryRate, ageMillis, heartbeat.isDraining());
+    }
+
+    /**
+     * Events per second between two heartbeats of the same pod; zero across a restart
+     */
+    private static double deliveryRate(ReceivedHeartbeat previous, PodHeartbeat current) {
+        if (previous == null) {
+            return 0;
+        }
+        long elapsedMillis = current.getTimestamp() - previous.heartbeat().getTimestamp();
+        long delivered = current.getEventsDelivered() - previous.heartbeat().getEventsDelivered();
+        if (elapsedMillis <= 0 || delivered < 0) {
+            return 0;
+        }
+        return delivered * 1000.0 / elapsedMillis;
+    }
+
+    private record ReceivedHeartbeat(PodHeartbeat heartbeat, long receivedAt, double deliveryRate) {
+    }
+}
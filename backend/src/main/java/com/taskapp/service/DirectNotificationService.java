@@ -1,11 +1,21 @@
 package com.taskapp.service;
 
+import com.taskapp.config.NotificationProperties;
+import com.taskapp.config.NotificationProperties.Payload;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.dto.TaskResponse;
 import com.taskapp.entity.Task;
 import com.taskapp.entity.User;
+import com.taskapp.jfr.NotificationFanOutEvent;
+import com.taskapp.mapper.TaskMapper;
+import com.taskapp.service.TaskAppMetrics.TaskOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Direct notification service that publishes notifications immediately after DB operations.
  * This service bypasses Spring events and publishes directly to Redis for consistency.
@@ -17,24 +27,41 @@ public class DirectNotificationService {
     
     private final NotificationService notificationService;
     private final NotificationFactory notificationFactory;
+    private final TaskAppMetrics metrics;
+    private final NotificationProperties notificationProperties;
+    private final TaskMapper taskMapper;
+    
+    /**
+     * Whether publishTaskUpdated needs the task's state from before the update
+     */
+    public boolean needsPreviousState() {
+        return notificationProperties.getPayload() == Payload.DELTA;
+    }
     
     /**
      * Publish task created notifications directly to Redis
      */
     public void publishTaskCreated(Task task, User creator, User assignee) {
         log.debug("Publishing TASK_CREATED notifications for task {}", task.getId());
+        NotificationFanOutEvent event = new NotificationFanOutEvent();
+        event.begin();
+        TaskResponse snapshot = snapshot(task);
         
         // Always notify creator
-        var creatorNotification = notificationFactory.createTaskCreatedNotification(task, creator);
+        var creatorNotification = withTask(notificationFactory.createTaskCreatedNotification(task, creator), snapshot);
         log.debug("Sending TASK_CREATED notification to creator: {}", creator.getUsername());
         notificationService.sendNotification(creatorNotification);
+        int sent = 1;
         
         // Notify assignee if different from creator
         if (!assignee.equals(creator)) {
-            var assigneeNotification = notificationFactory.createTaskAssignedNotification(task, assignee);
+            var assigneeNotification = withTask(notificationFactory.createTaskAssignedNotification(task, assignee), snapshot);
             log.debug("Sending TASK_ASSIGNED notification to assignee: {}", assignee.getUsername());
             notificationService.sendNotification(assigneeNotification);
+            sent++;
         }
+        metrics.recordFanOut(TaskOperation.CREATE, sent);
+        commitFanOutEvent(event, TaskOperation.CREATE, task.getId(), sent);
     }
     
     /**
@@ -42,45 +69,176 @@ public class DirectNotificationService {
      */
     public void publishTaskDeleted(Long taskId, String taskTitle, User creator, User assignee) {
         log.debug("Publishing TASK_DELETED notifications for task {}", taskId);
+        NotificationFanOutEvent event = new NotificationFanOutEvent();
+        event.begin();
         
         // Always notify creator
         var creatorNotification = notificationFactory.createTaskDeletedNotification(taskId, taskTitle, creator);
         log.debug("Sending TASK_DELETED notification to creator: {}", creator.getUsername());
         notificationService.sendNotification(creatorNotification);
+        int sent = 1;
         
         // Notify assignee if different from creator
         if (!assignee.equals(creator)) {
             var assigneeNotification = notificationFactory.createTaskDeletedNotification(taskId, taskTitle, assignee);
             log.debug("Sending TASK_DELETED notification to assignee: {}", assignee.getUsername());
             notificationService.sendNotification(assigneeNotification);
+            sent++;
         }
+        metrics.recordFanOut(TaskOperation.DELETE, sent);
+        commitFanOutEvent(event, TaskOperation.DELETE, taskId, sent);
     }
     
     /**
-     * Publish task updated notifications directly to Redis
+     * Publish task updated notifications directly to Redis. previous is the task before the update
+     * when needsPreviousState() asks for it, else null.
      */
-    public void publishTaskUpdated(Task task, User updatedBy, User originalAssignee, boolean statusChanged, boolean assigneeChanged) {
+    public void publishTaskUpdated(Task task, User updatedBy, User originalAssignee, boolean statusChanged, boolean assigneeChanged,
+                                   TaskResponse previous) {
         log.debug("Publishing TASK_UPDATED notifications for task {}", task.getId());
+        NotificationFanOutEvent event = new NotificationFanOutEvent();
+        event.begin();
+        int sent = 0;
+        TaskResponse snapshot = snapshot(task);
+        Map<String, Object> changes = snapshot != null && previous != null ? taskMapper.changes(previous, snapshot) : null;
         
         // Always notify the creator if they're not the one making the update
         if (!task.getCreatedBy().equals(updatedBy)) {
-            var notification = notificationFactory.createTaskUpdatedNotification(task, task.getCreatedBy());
+            var notification = withChanges(notificationFactory.createTaskUpdatedNotification(task, task.getCreatedBy()),
+                    snapshot, changes);
             log.debug("Sending TASK_UPDATED notification to creator: {}", task.getCreatedBy().getUsername());
             notificationService.sendNotification(notification);
+            sent++;
         }
         
         // Send notification to original assignee when task status changes (if not the one updating it)
         if (statusChanged && !originalAssignee.equals(updatedBy)) {
-            var notification = notificationFactory.createTaskUpdatedNotification(task, originalAssignee);
+            var notification = withChanges(notificationFactory.createTaskUpdatedNotification(task, originalAssignee),
+                    snapshot, changes);
             log.debug("Sending TASK_UPDATED notification to assignee: {}", originalAssignee.getUsername());
             notificationService.sendNotification(notification);
+            sent++;
         }
         
         // If assignee changed, notify the new assignee (if different from user)
         if (assigneeChanged && !task.getAssignedTo().equals(updatedBy)) {
-            var notification = notificationFactory.createTaskReassignedNotification(task, task.getAssignedTo());
+            // The new assignee may have no copy to apply changes to
+            var notification = withTask(notificationFactory.createTaskReassignedNotification(task, task.getAssignedTo()),
+                    snapshot);
             log.debug("Sending TASK_REASSIGNED notification to new assignee: {}", task.getAssignedTo().getUsername());
             notificationService.sendNotification(notification);
+            sent++;
+        }
+        metrics.recordFanOut(TaskOperation.UPDATE, sent);
+        commitFanOutEvent(event, TaskOperation.UPDATE, task.getId(), sent);
+    }
+    
+    /**
+     * Publish one TASK_BATCH notification per recipient of a batch, instead of one per operation
+     */
+    public void publishTaskBatch(BatchFanOut fanOut) {
+        log.debug("Publishing TASK_BATCH notifications to {} recipients", fanOut.counts.size());
+        NotificationFanOutEvent event = new NotificationFanOutEvent();
+        event.begin();
+        fanOut.counts.forEach((username, counts) -> notificationService.sendNotification(
+                notificationFactory.createTaskBatchNotification(username, counts[0], counts[1], counts[2])));
+        int sent = fanOut.counts.size();
+        metrics.recordFanOut(TaskOperation.BATCH, sent);
+        commitFanOutEvent(event, TaskOperation.BATCH, null, sent);
+    }
+    
+    /**
+     * Publish one TASK_IMPORT notification per user a bulk import created tasks for, with their count
+     */
+    public void publishTaskImport(Map<String, Long> importedByRecipient) {
+        log.debug("Publishing TASK_IMPORT notifications to {} recipients", importedByRecipient.size());
+        NotificationFanOutEvent event = new NotificationFanOutEvent();
+        event.begin();
+        importedByRecipient.forEach((username, imported) -> notificationService.sendNotification(
+                notificationFactory.createTaskImportNotification(username, imported)));
+        int sent = importedByRecipient.size();
+        metrics.recordFanOut(TaskOperation.IMPORT, sent);
+        commitFanOutEvent(event, TaskOperation.IMPORT, null, sent);
+    }
+    
+    /**
+     * Who a batch's operations would each have notified, with how many tasks were created,
+     * updated and deleted for them. Follows the same rules as the single-task publish methods.
+     */
+    public static final class BatchFanOut {
+        private static final int CREATED = 0;
+        private static final int UPDATED = 1;
+        private static final int DELETED = 2;
+        
+        private final Map<String, int[]> counts = new LinkedHashMap<>();
+        
+        public void created(User creator, User assignee) {
+            add(creator, CREATED);
+            if (!assignee.equals(creator)) {
+                add(assignee, CREATED);
+            }
+        }
+        
+        public void updated(Task task, User updatedBy, User originalAssignee, boolean statusChanged, boolean assigneeChanged) {
+            if (!task.getCreatedBy().equals(updatedBy)) {
+                add(task.getCreatedBy(), UPDATED);
+            }
+            if (statusChanged && !originalAssignee.equals(updatedBy)) {
+                add(originalAssignee, UPDATED);
+            }
+            if (assigneeChanged && !task.getAssignedTo().equals(updatedBy)) {
+                add(task.getAssignedTo(), UPDATED);
+            }
+        }
+        
+        public void deleted(User creator, User assignee) {
+            add(creator, DELETED);
+            if (!assignee.equals(creator)) {
+                add(assignee, DELETED);
+            }
+        }
+        
+        public int recipients() {
+            return counts.size();
+        }
+        
+        private void add(User recipient, int kind) {
+            counts.computeIfAbsent(recipient.getUsername(), username -> new int[3])[kind]++;
+        }
+    }
+    
+    /**
+     * Task state to attach, or null when notifications carry IDs only
+     */
+    private TaskResponse snapshot(Task task) {
+        return notificationProperties.getPayload() == Payload.IDS ? null : taskMapper.toResponse(task);
+    }
+    
+    private static NotificationEvent withTask(NotificationEvent notification, TaskResponse snapshot) {
+        if (snapshot != null) {
+            notification.setTaskVersion(snapshot.getVersion());
+            notification.setTask(snapshot);
+        }
+        return notification;
+    }
+    
+    private static NotificationEvent withChanges(NotificationEvent notification, TaskResponse snapshot,
+                                                 Map<String, Object> changes) {
+        if (changes == null) {
+            return withTask(notification, snapshot);
+        }
+        notification.setTaskVersion(snapshot.getVersion());
+        notification.setChanges(changes);
+        return notification;
+    }
+    
+    private static void commitFanOutEvent(NotificationFanOutEvent event, TaskOperation mutation, Long taskId, int recipients) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.mutation = mutation.name();
+            event.taskId = taskId != null ? taskId : -1;
+            event.recipients = recipients;
+            event.commit();
         }
     }
 }
@@ -5,6 +5,8 @@ import com.taskapp.entity.Task;
 import com.taskapp.entity.User;
 import org.springframework.stereotype.Component;
 
+import java.util.StringJoiner;
+
 @Component
 public class NotificationFactory {
 
@@ -14,6 +16,8 @@ public class NotificationFactory {
         public static final String TASK_UPDATED = "TASK_UPDATED";
         public static final String TASK_REASSIGNED = "TASK_REASSIGNED";
         public static final String TASK_DELETED = "TASK_DELETED";
+        public static final String TASK_BATCH = "TASK_BATCH";
+        public static final String TASK_IMPORT = "TASK_IMPORT";
     }
 
     // Message templates for consistent formatting
@@ -122,4 +126,30 @@ public class NotificationFactory {
     public NotificationEvent createTaskDeletedNotification(Long taskId, String taskTitle, User recipient) {
         return createTaskNotification(NotificationType.TASK_DELETED, taskId, taskTitle, recipient);
     }
+
+    /**
+     * One notification for everything a batch changed for the recipient; it names no task, so
+     * clients reload or sync instead of patching
+     */
+    public NotificationEvent createTaskBatchNotification(String recipient, int created, int updated, int deleted) {
+        StringJoiner counts = new StringJoiner(", ");
+        if (created > 0) {
+            counts.add(created + " created");
+        }
+        if (updated > 0) {
+            counts.add(updated + " updated");
+        }
+        if (deleted > 0) {
+            counts.add(deleted + " deleted");
+        }
+        return NotificationEvent.create(NotificationType.TASK_BATCH, "Tasks changed: " + counts, recipient);
+    }
+
+    /**
+     * One notification for all the tasks a bulk import created for the recipient
+     */
+    public NotificationEvent createTaskImportNotification(String recipient, long imported) {
+        return NotificationEvent.create(NotificationType.TASK_IMPORT,
+                imported + (imported == 1 ? " task imported" : " tasks imported"), recipient);
+    }
 }
@@ -0,0 +1,79 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.dto.NotificationTrace;
+import com.taskapp.messaging.config.MessagingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records per-hop notification latency into taskapp.notification.latency, tagged by stage,
+ * pod and event type. Stages: publish (created to published), transport (published to
+ * received), dispatch (received to queued), write (queued to written) and end_to_end
+ * (created to written). Live deliveries only; replays would skew the write stages.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationLatencyRecorder {
+
+    public static final String METRIC_NAME = "taskapp.notification.latency";
+
+    private final MeterRegistry meterRegistry;
+    private final MessagingProperties messagingProperties;
+
+    // One timer per stage and type, looked up without building meter IDs on the hot path
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Stamp the event as queued for local delivery and record the stages up to it
+     */
+    public void recordQueued(NotificationEvent notification) {
+        NotificationTrace trace = notification.getTrace();
+        if (trace == null) {
+            return;
+        }
+        trace.setQueuedNanos(NotificationTrace.now());
+        record("publish", notification, trace.getCreatedNanos(), trace.getPublishedNanos());
+        record("transport", notification, trace.getPublishedNanos(), trace.getReceivedNanos());
+        record("dispatch", notification, trace.getReceivedNanos(), trace.getQueuedNanos());
+    }
+
+    /**
+     * Stamp a successful write to one stream and record the write and end-to-end stages
+     */
+    public void recordWritten(NotificationEvent notification) {
+        NotificationTrace trace = notification.getTrace();
+        if (trace == null) {
+            return;
+        }
+        trace.setWrittenNanos(NotificationTrace.now());
+        record("write", notification, trace.getQueuedNanos(), trace.getWrittenNanos());
+        record("end_to_end", notification, trace.getCreatedNanos(), trace.getWrittenNanos());
+    }
+
+    private void record(String stage, NotificationEvent notification, long fromNanos, long toNanos) {
+        // Skip hops that were not stamped, e.g. local fallback delivery never passes through Redis
+        if (fromNanos == 0 || toNanos == 0 || toNanos < fromNanos) {
+            return;
+        }
+        String type = notification.getType() != null ? notification.getType() : "UNKNOWN";
+        timers.computeIfAbsent(stage, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(type, key -> Timer.builder(METRIC_NAME)
+                        .description("Notification latency per pipeline stage")
+                        .tag("stage", stage)
+                        .tag("type", type)
+                        .tag("pod", messagingProperties.getPodId())
+                        .publishPercentiles(0.5, 0.99, 0.999)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(50_000))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(meterRegistry))
+                .record(toNanos - fromNanos, TimeUnit.NANOSECONDS);
+    }
+}
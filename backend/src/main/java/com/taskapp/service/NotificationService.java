@@ -1,11 +1,16 @@
 package com.taskapp.service;
 
 import com.taskapp.dto.NotificationEvent;
+import com.taskapp.dto.NotificationTrace;
+import com.taskapp.exception.AuthenticationException;
+import com.taskapp.exception.ConnectionRejectedException;
 import com.taskapp.messaging.MessagePublisher;
 import com.taskapp.messaging.config.MessagingProperties;
+import com.taskapp.messaging.redis.LazyListenerStarter;
 import com.taskapp.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -24,6 +29,10 @@ public class NotificationService {
     private final MessagePublisher messagePublisher;
     private final MessagingProperties messagingProperties;
     private final SSEConnectionManager sseConnectionManager;
+    private final SseDrainCoordinator sseDrainCoordinator;
+    private final SseAdmissionControl sseAdmissionControl;
+    private final SseMemoryAccountant sseMemoryAccountant;
+    private final ObjectProvider<LazyListenerStarter> lazyListenerStarter;
 
     /**
      * Send notification to user with cross-pod distribution via pub/sub
@@ -50,6 +59,9 @@ public class NotificationService {
                 "podId", messagingProperties.getPodId()
             );
             
+            if (notification.getTrace() != null) {
+                notification.getTrace().setPublishedNanos(NotificationTrace.now());
+            }
             messagePublisher.publishMessage(
                 messagingProperties.getTopics().getUserNotifications(),
                 notification,
@@ -71,19 +83,49 @@ public class NotificationService {
      * Create SSE connection for user
      */
     public SseEmitter createConnection(String token, String lastEventId) {
+        // Refuse before any token work when draining or over the memory budget
+        if (sseDrainCoordinator.isDraining()) {
+            sseAdmissionControl.recordRejected("draining");
+            throw new ConnectionRejectedException("Pod is draining", sseDrainCoordinator.nextRetryMillis());
+        }
+        if (sseMemoryAccountant.isOverBudget()) {
+            sseAdmissionControl.recordRejected("memory");
+            throw new ConnectionRejectedException("SSE memory budget exceeded", sseAdmissionControl.nextRetryMillis());
+        }
+        
         // Validate token and extract username
-        String username = jwtTokenProvider.getUsernameFromToken(token);
+        String username;
+        try {
+            username = jwtTokenProvider.getUsernameFromToken(token);
+        } catch (Exception e) {
+            throw new AuthenticationException("Invalid or expired token", e);
+        }
         if (username == null) {
-            log.error("Invalid JWT token provided");
-            throw new IllegalArgumentException("Invalid or expired token");
+            throw new AuthenticationException("Invalid or expired token");
+        }
+        
+        // Charge the connect rate only for authenticated users, so bad tokens cannot drain it
+        if (!sseAdmissionControl.tryAcquireConnectPermit()) {
+            sseAdmissionControl.recordRejected("rate");
+            throw new ConnectionRejectedException("Connect rate exceeded", sseAdmissionControl.nextRetryMillis());
         }
         
         log.debug("Creating SSE connection for user: {} (lastEventId: {})", username, lastEventId);
         
+        // Subscribe before the first stream registers, if fast-start deferred the subscription
+        lazyListenerStarter.ifAvailable(LazyListenerStarter::ensureStarted);
+        
         // Register connection with manager
         return sseConnectionManager.createConnection(username, lastEventId);
     }
 
+    /**
+     * Create a stream that only tells the client when to reconnect
+     */
+    public SseEmitter createRetryOnlyConnection(long retryMillis) {
+        return sseConnectionManager.createRetryOnlyConnection(retryMillis);
+    }
+
     /**
      * Get active connection count for monitoring
      */
@@ -0,0 +1,34 @@
+package com.taskapp.service;
+
+import com.taskapp.dto.PodHeartbeat;
+import com.taskapp.messaging.MessagePublisher;
+import com.taskapp.messaging.config.MessagingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes this pod's heartbeat on the system-events topic every messaging.heartbeat-interval.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@Slf4j
+public class PodHeartbeatPublisher {
+
+    private final MessagePublisher messagePublisher;
+    private final MessagingProperties messagingProperties;
+    private final ClusterView clusterView;
+
+    @Scheduled(fixedRateString = "${messaging.heartbeat-interval:5s}")
+    public void publishHeartbeat() {
+        PodHeartbeat heartbeat = clusterView.localHeartbeat();
+        try {
+            messagePublisher.publishMessage(messagingProperties.getTopics().getSystemEvents(), heartbeat);
+        } catch (Exception e) {
+            log.debug("Failed to publish heartbeat for pod {}: {}", messagingProperties.getPodId(), e.getMessage());
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package com.taskapp.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.config.SseProperties;
 import com.taskapp.dto.NotificationEvent;
+import com.taskapp.exception.ConnectionRejectedException;
+import com.taskapp.jfr.SseReplayEvent;
+import com.taskapp.jfr.SseWriteEvent;
+import com.taskapp.messaging.ReplayBufferStore;
 import com.taskapp.messaging.config.MessagingProperties;
+import com.taskapp.service.TaskAppMetrics.SseSendResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -10,10 +16,16 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 /**
  * Manages SSE connections for this specific pod instance.
@@ -26,13 +38,30 @@ public class SSEConnectionManager {
     
     private final ObjectMapper objectMapper;
     private final MessagingProperties messagingProperties;
+    private final SseHeartbeatWheel heartbeatWheel;
+    private final SseEmitterWriter emitterWriter;
+    private final ReplayBufferStore replayBufferStore;
+    private final SseAdmissionControl admissionControl;
+    private final SseProperties sseProperties;
+    private final NotificationLatencyRecorder latencyRecorder;
+    private final TaskAppMetrics metrics;
     
     // Store SSE connections by username for this pod
     private final ConcurrentHashMap<String, CopyOnWriteArrayList<SseEmitter>> userConnections = new ConcurrentHashMap<>();
     
-    // Store recent notifications for Last-Event-ID support (keep last 100 per user)
+    // Liveness tracking per emitter (last successful write, heartbeat state)
+    private final ConcurrentHashMap<SseEmitter, SseHeartbeatWheel.Connection> heartbeats = new ConcurrentHashMap<>();
+    
+    // Store recent notifications for Last-Event-ID support (keep app.sse.replay-buffer-size per user)
     private final ConcurrentHashMap<String, CopyOnWriteArrayList<NotificationEvent>> recentNotifications = new ConcurrentHashMap<>();
-    private static final int MAX_RECENT_NOTIFICATIONS = 100;
+    
+    // Open streams, reserved atomically against the pod cap before a stream registers
+    private final AtomicInteger openConnections = new AtomicInteger();
+    
+    // Pod counters, O(1) to update and read under contention
+    private final LongAdder eventsDelivered = new LongAdder();
+    private final LongAdder eventsReplayed = new LongAdder();
+    private final LongAdder deliveryFailures = new LongAdder();
     
     /**
      * Create a new SSE connection for a user
@@ -41,38 +70,79 @@ public class SSEConnectionManager {
         log.debug("Creating SSE connection for user: {} on pod: {} (lastEventId: {})", 
                  username, messagingProperties.getPodId(), lastEventId);
         
-        // Create SSE emitter with no timeout - let browser handle reconnection
-        SseEmitter emitter = new SseEmitter(0L);
-        
-        // Add to user connections
-        userConnections.computeIfAbsent(username, k -> new CopyOnWriteArrayList<>()).add(emitter);
-        
-        // Send missed notifications since lastEventId
-        if (lastEventId != null && !lastEventId.trim().isEmpty()) {
-            sendNotificationsSince(username, emitter, lastEventId);
+        // Reserve the pod slot before anything else, so concurrent connects cannot overshoot the cap;
+        // from here on the slot is released once, by removeConnection or by the failure path below
+        SseProperties.Admission limits = sseProperties.getAdmission();
+        if (openConnections.incrementAndGet() > limits.getMaxConnectionsPerPod()) {
+            openConnections.decrementAndGet();
+            admissionControl.recordRejected("pod_limit");
+            throw new ConnectionRejectedException("Pod connection limit reached", admissionControl.nextRetryMillis());
         }
         
-        // Handle connection lifecycle events
-        emitter.onCompletion(() -> {
-            log.debug("SSE connection completed for user: {} on pod: {}", username, messagingProperties.getPodId());
-            removeConnection(username, emitter);
-        });
-        
-        emitter.onTimeout(() -> {
-            log.debug("SSE connection timed out for user: {} on pod: {}", username, messagingProperties.getPodId());
-            removeConnection(username, emitter);
-        });
-        
-        emitter.onError((throwable) -> {
-            log.debug("SSE connection error for user: {} on pod: {} - {}", 
-                     username, messagingProperties.getPodId(), throwable.getMessage());
-            removeConnection(username, emitter);
-        });
-        
-        log.info("SSE connection established for user: {} on pod: {} (total connections: {})", 
-                username, messagingProperties.getPodId(), userConnections.get(username).size());
-        
-        return emitter;
+        // Create SSE emitter with no timeout - the heartbeat wheel detects dead connections
+        SseEmitter emitter = new SseEmitter(0L);
+        boolean admitted = false;
+        try {
+            // Add to user connections, making room under the per-user cap first. The heartbeat is
+            // registered in the same critical section, so a concurrent connect that evicts this
+            // emitter always finds it and releases its slot.
+            CopyOnWriteArrayList<SseEmitter> connections = userConnections.computeIfAbsent(username, k -> new CopyOnWriteArrayList<>());
+            SseEmitter evicted = null;
+            synchronized (connections) {
+                if (connections.size() >= limits.getMaxConnectionsPerUser()) {
+                    if (limits.getUserLimitPolicy() == SseProperties.UserLimitPolicy.REJECT) {
+                        admissionControl.recordRejected("user_limit");
+                        throw new ConnectionRejectedException("User connection limit reached", admissionControl.nextRetryMillis());
+                    }
+                    evicted = connections.get(0);
+                }
+                heartbeats.put(emitter, heartbeatWheel.register(emitter, () -> {
+                    log.debug("Reaped dead SSE connection for user: {} on pod: {}", username, messagingProperties.getPodId());
+                    removeConnection(username, emitter);
+                }));
+                connections.add(emitter);
+            }
+            if (evicted != null) {
+                log.debug("Evicting oldest SSE connection for user: {} on pod: {} (limit: {})", 
+                         username, messagingProperties.getPodId(), limits.getMaxConnectionsPerUser());
+                removeConnection(username, evicted);
+                admissionControl.recordEvicted();
+                closeWithRetry(evicted, admissionControl.nextRetryMillis());
+            }
+            admissionControl.recordAdmitted();
+            
+            // Send missed notifications since lastEventId
+            if (lastEventId != null && !lastEventId.trim().isEmpty()) {
+                sendNotificationsSince(username, emitter, lastEventId);
+            }
+            
+            // Handle connection lifecycle events
+            emitter.onCompletion(() -> {
+                log.debug("SSE connection completed for user: {} on pod: {}", username, messagingProperties.getPodId());
+                removeConnection(username, emitter);
+            });
+            
+            emitter.onTimeout(() -> {
+                log.debug("SSE connection timed out for user: {} on pod: {}", username, messagingProperties.getPodId());
+                removeConnection(username, emitter);
+            });
+            
+            emitter.onError((throwable) -> {
+                log.debug("SSE connection error for user: {} on pod: {} - {}", 
+                         username, messagingProperties.getPodId(), throwable.getMessage());
+                removeConnection(username, emitter);
+            });
+            
+            log.info("SSE connection established for user: {} on pod: {} (total connections: {})", 
+                    username, messagingProperties.getPodId(), connections.size());
+            admitted = true;
+            return emitter;
+        } finally {
+            if (!admitted && !removeConnection(username, emitter)) {
+                // Failed before the heartbeat was registered, so removeConnection had no slot to release
+                openConnections.decrementAndGet();
+            }
+        }
     }
     
     /**
@@ -89,6 +159,7 @@ public class SSEConnectionManager {
     public void sendToUserLocal(String username, NotificationEvent notification) {
         // Store notification for Last-Event-ID support
         storeRecentNotification(username, notification);
+        latencyRecorder.recordQueued(notification);
         
         // Send to active connections on this pod
         CopyOnWriteArrayList<SseEmitter> connections = userConnections.get(username);
@@ -108,6 +179,7 @@ public class SSEConnectionManager {
         
         for (SseEmitter emitter : connections) {
             if (sendToEmitter(emitter, notification)) {
+                latencyRecorder.recordWritten(notification);
                 successCount++;
             } else {
                 failureCount++;
@@ -116,7 +188,7 @@ public class SSEConnectionManager {
         }
         
         // Remove failed connections
-        failedEmitters.forEach(connections::remove);
+        failedEmitters.forEach(emitter -> removeConnection(username, emitter));
         
         if (failureCount > 0) {
             log.debug("Notification delivery for user {} on pod {}: {} successful, {} failed", 
@@ -134,36 +206,75 @@ public class SSEConnectionManager {
      * Send notifications since a specific event ID to a specific emitter
      */
     private void sendNotificationsSince(String username, SseEmitter emitter, String lastEventId) {
-        CopyOnWriteArrayList<NotificationEvent> userNotifications = recentNotifications.get(username);
-        if (userNotifications == null || userNotifications.isEmpty()) {
-            return;
-        }
+        List<NotificationEvent> userNotifications = recentNotifications.getOrDefault(username, new CopyOnWriteArrayList<>());
         
         log.debug("Checking for notifications since eventId: {} for user: {} on pod: {}", 
                  lastEventId, username, messagingProperties.getPodId());
+        SseReplayEvent replayEvent = new SseReplayEvent();
+        replayEvent.begin();
+        String source = "local";
         
-        // Find notifications after the lastEventId
-        boolean foundLastEvent = false;
-        int sentCount = 0;
+        List<NotificationEvent> missed = eventsAfter(userNotifications, lastEventId);
+        if (missed == null) {
+            // Unknown here, e.g. this pod started after the event: try the buffer a drained pod handed off
+            missed = eventsAfter(replayBufferStore.load(username), lastEventId);
+            if (missed == null) {
+                commitReplayEvent(replayEvent, username, lastEventId, "none", 0, 0);
+                return;
+            }
+            source = "handoff";
+            Set<String> handedOffIds = missed.stream().map(NotificationEvent::getId).collect(Collectors.toSet());
+            userNotifications.stream()
+                    .filter(notification -> !handedOffIds.contains(notification.getId()))
+                    .forEach(missed::add);
+        }
         
-        for (NotificationEvent notification : userNotifications) {
-            if (foundLastEvent) {
-                if (sendToEmitter(emitter, notification)) {
-                    sentCount++;
-                } else {
-                    break; // Stop if connection fails
-                }
-            } else if (lastEventId.equals(notification.getId())) {
-                foundLastEvent = true;
+        metrics.recordReplaySize(missed.size());
+        int sentCount = 0;
+        for (NotificationEvent notification : missed) {
+            if (sendToEmitter(emitter, notification)) {
+                sentCount++;
+            } else {
+                break; // Stop if connection fails
             }
         }
         
+        eventsReplayed.add(sentCount);
+        commitReplayEvent(replayEvent, username, lastEventId, source, missed.size(), sentCount);
         if (sentCount > 0) {
             log.debug("Sent {} missed notifications to user: {} on pod: {}", 
                      sentCount, username, messagingProperties.getPodId());
         }
     }
     
+    private static void commitReplayEvent(SseReplayEvent event, String username, String lastEventId,
+                                          String source, int missed, int sent) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.username = username;
+            event.lastEventId = lastEventId;
+            event.source = source;
+            event.missed = missed;
+            event.sent = sent;
+            event.commit();
+        }
+    }
+    
+    /**
+     * Events after lastEventId, or null when lastEventId is not in the list
+     */
+    private List<NotificationEvent> eventsAfter(List<NotificationEvent> notifications, String lastEventId) {
+        List<NotificationEvent> missed = null;
+        for (NotificationEvent notification : notifications) {
+            if (missed != null) {
+                missed.add(notification);
+            } else if (lastEventId.equals(notification.getId())) {
+                missed = new ArrayList<>();
+            }
+        }
+        return missed;
+    }
+    
     /**
      * Store notification for Last-Event-ID replay support
      */
@@ -174,24 +285,42 @@ public class SSEConnectionManager {
         userNotifications.add(notification);
         
         // Keep only the most recent notifications
-        if (userNotifications.size() > MAX_RECENT_NOTIFICATIONS) {
-            userNotifications.subList(0, userNotifications.size() - MAX_RECENT_NOTIFICATIONS).clear();
+        int maxRecent = sseProperties.getReplayBufferSize();
+        if (userNotifications.size() > maxRecent) {
+            userNotifications.subList(0, userNotifications.size() - maxRecent).clear();
         }
     }
     
     /**
-     * Send notification to a specific SSE emitter
+     * Send notification to a specific SSE emitter, counting the outcome
      */
     private boolean sendToEmitter(SseEmitter emitter, NotificationEvent notification) {
+        SseWriteEvent writeEvent = new SseWriteEvent();
+        writeEvent.begin();
+        SseSendResult result = writeNotification(emitter, notification, writeEvent);
+        writeEvent.end();
+        if (writeEvent.shouldCommit()) {
+            writeEvent.notificationId = notification.getId();
+            writeEvent.notificationType = notification.getType();
+            writeEvent.result = result.name();
+            writeEvent.commit();
+        }
+        metrics.recordSseSend(result);
+        boolean sent = result == SseSendResult.SENT;
+        (sent ? eventsDelivered : deliveryFailures).increment();
+        return sent;
+    }
+    
+    private SseSendResult writeNotification(SseEmitter emitter, NotificationEvent notification, SseWriteEvent writeEvent) {
         try {
             // Create JSON data
-            String jsonData = objectMapper.writeValueAsString(notification);
+            String jsonData = objectMapper.writerWithView(NotificationEvent.Views.Client.class).writeValueAsString(notification);
             log.debug("Sending SSE notification on pod {}: {}", messagingProperties.getPodId(), jsonData);
             
             // Validate data
             if (jsonData == null || jsonData.trim().isEmpty() || jsonData.equals("{}")) {
                 log.error("JSON data is empty or invalid for notification: {}", notification);
-                return false;
+                return SseSendResult.INVALID_PAYLOAD;
             }
             
             // Send as SSE event with ID for Last-Event-ID support
@@ -200,32 +329,131 @@ public class SSEConnectionManager {
                     .name("notification")
                     .data(jsonData);
             
-            emitter.send(event);
+            emitterWriter.send(emitter, event);
+            if (writeEvent.isEnabled()) {
+                writeEvent.bytes = SseWriteEvent.utf8Length(jsonData);
+            }
+            SseHeartbeatWheel.Connection heartbeat = heartbeats.get(emitter);
+            if (heartbeat != null) {
+                heartbeatWheel.recordWrite(heartbeat);
+            }
             log.debug("Successfully sent SSE notification with id: {} on pod: {}", 
                      notification.getId(), messagingProperties.getPodId());
-            return true;
+            return SseSendResult.SENT;
             
         } catch (IllegalStateException e) {
             // Connection was closed or recycled
             log.debug("SSE connection was closed for notification {} on pod {}: {}", 
                      notification.getId(), messagingProperties.getPodId(), e.getMessage());
-            return false;
+            return SseSendResult.CLOSED;
         } catch (IOException e) {
             // Network or connection issue
             log.debug("SSE connection IO error for notification {} on pod {}: {}", 
                      notification.getId(), messagingProperties.getPodId(), e.getMessage());
-            return false;
+            return SseSendResult.IO_ERROR;
         } catch (Exception e) {
             log.error("Failed to send notification via SSE on pod {}: {}", 
                      messagingProperties.getPodId(), e.getMessage(), e);
-            return false;
+            return SseSendResult.ERROR;
+        }
+    }
+    
+    /**
+     * Send a jittered reconnect hint and close the stream. EventSource clients reconnect after
+     * the retry delay instead of immediately, which spreads reconnects to other pods over time.
+     */
+    public void closeWithRetry(SseEmitter emitter, long retryMillis) {
+        try {
+            emitterWriter.send(emitter, SseEmitter.event().reconnectTime(retryMillis).comment("reconnect"));
+            emitterWriter.complete(emitter);
+        } catch (Exception e) {
+            log.debug("Could not send reconnect hint on pod {}: {}", messagingProperties.getPodId(), e.getMessage());
+            emitterWriter.completeWithError(emitter, e);
         }
     }
     
     /**
-     * Remove a specific connection
+     * Create a stream that only carries a reconnect hint, for requests this pod will not serve
+     */
+    public SseEmitter createRetryOnlyConnection(long retryMillis) {
+        SseEmitter emitter = new SseEmitter(0L);
+        closeWithRetry(emitter, retryMillis);
+        return emitter;
+    }
+    
+    /**
+     * Snapshot of all open emitters on this pod
+     */
+    public List<SseEmitter> getAllConnections() {
+        return userConnections.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Snapshot of the replay buffers held by this pod, keyed by username
+     */
+    public Map<String, List<NotificationEvent>> getRecentNotificationsSnapshot() {
+        Map<String, List<NotificationEvent>> snapshot = new HashMap<>();
+        recentNotifications.forEach((username, notifications) -> snapshot.put(username, List.copyOf(notifications)));
+        return snapshot;
+    }
+    
+    /**
+     * Read-only view of the replay buffers, keyed by username; not a copy
+     */
+    public Map<String, List<NotificationEvent>> getReplayBuffers() {
+        return Collections.unmodifiableMap(recentNotifications);
+    }
+    
+    /**
+     * Drop the oldest events of a user's replay buffer down to keep; keep 0 removes the buffer.
+     * Returns the number of events removed.
      */
-    private void removeConnection(String username, SseEmitter emitter) {
+    public int trimReplayBuffer(String username, int keep) {
+        CopyOnWriteArrayList<NotificationEvent> buffer = recentNotifications.get(username);
+        if (buffer == null) {
+            return 0;
+        }
+        if (keep <= 0) {
+            recentNotifications.remove(username, buffer);
+            return buffer.size();
+        }
+        int removed = 0;
+        // One element at a time, so a concurrent store into the same buffer cannot break the trim
+        while (buffer.size() > keep) {
+            buffer.remove(0);
+            removed++;
+        }
+        return removed;
+    }
+    
+    /**
+     * Get open stream count for a user on this pod
+     */
+    public int getConnectionCount(String username) {
+        CopyOnWriteArrayList<SseEmitter> connections = userConnections.get(username);
+        return connections != null ? connections.size() : 0;
+    }
+    
+    /**
+     * Open streams of a user on this pod, oldest first
+     */
+    public List<SseEmitter> getConnections(String username) {
+        CopyOnWriteArrayList<SseEmitter> connections = userConnections.get(username);
+        return connections != null ? List.copyOf(connections) : List.of();
+    }
+    
+    /**
+     * Remove a specific connection; returns whether this call released its pod slot
+     */
+    private boolean removeConnection(String username, SseEmitter emitter) {
+        SseHeartbeatWheel.Connection heartbeat = heartbeats.remove(emitter);
+        if (heartbeat != null) {
+            heartbeatWheel.unregister(heartbeat);
+            openConnections.decrementAndGet();
+        }
+        
         CopyOnWriteArrayList<SseEmitter> connections = userConnections.get(username);
         if (connections != null) {
             connections.remove(emitter);
@@ -233,15 +461,35 @@ public class SSEConnectionManager {
                 userConnections.remove(username);
             }
         }
+        return heartbeat != null;
     }
     
     /**
      * Get total active connection count for this pod
      */
     public int getActiveConnectionCount() {
-        return userConnections.values().stream()
-                .mapToInt(CopyOnWriteArrayList::size)
-                .sum();
+        return openConnections.get();
+    }
+    
+    /**
+     * Get notifications written to streams on this pod since startup, replays included
+     */
+    public long getEventsDeliveredCount() {
+        return eventsDelivered.sum();
+    }
+    
+    /**
+     * Get notifications replayed for Last-Event-ID since startup
+     */
+    public long getEventsReplayedCount() {
+        return eventsReplayed.sum();
+    }
+    
+    /**
+     * Get failed notification writes since startup
+     */
+    public long getDeliveryFailureCount() {
+        return deliveryFailures.sum();
     }
     
     /**
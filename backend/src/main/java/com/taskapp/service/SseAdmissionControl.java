@@ -0,0 +1,96 @@
+package com.taskapp.service;
+
+import com.taskapp.config.SseProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Admission control for new SSE streams.
+ *
+ * A pod-wide token bucket paces new connections: requests over the rate are turned away with a
+ * jittered retry hint, so a reconnect storm arrives spread over the retry window instead of all
+ * at once. Per-user and per-pod caps are enforced by SSEConnectionManager; every outcome is
+ * counted under taskapp.sse.connections.* for actuator.
+ */
+@Component
+public class SseAdmissionControl {
+
+    private final SseProperties sseProperties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+    private final Counter admittedCounter;
+    private final Counter evictedCounter;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    @Autowired
+    public SseAdmissionControl(SseProperties sseProperties, MeterRegistry meterRegistry) {
+        this(sseProperties, meterRegistry, System::nanoTime);
+    }
+
+    SseAdmissionControl(SseProperties sseProperties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.sseProperties = sseProperties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.tokens = sseProperties.getAdmission().getConnectBurst();
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.admittedCounter = Counter.builder("taskapp.sse.connections.admitted")
+                .description("SSE streams admitted on this pod")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("taskapp.sse.connections.evicted")
+                .description("Oldest SSE streams closed to make room under the per-user cap")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take one token from the connect-rate bucket; false when the pod is over its connect rate
+     */
+    public synchronized boolean tryAcquireConnectPermit() {
+        SseProperties.Admission admission = sseProperties.getAdmission();
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(admission.getConnectBurst(),
+                tokens + (now - lastRefillNanos) * admission.getConnectRate() / 1_000_000_000d);
+        lastRefillNanos = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Jittered reconnect delay in milliseconds for refused and evicted streams
+     */
+    public long nextRetryMillis() {
+        long min = sseProperties.getAdmission().getMinRetry().toMillis();
+        long max = Math.max(min, sseProperties.getAdmission().getMaxRetry().toMillis());
+        return ThreadLocalRandom.current().nextLong(min, max + 1);
+    }
+
+    public void recordAdmitted() {
+        admittedCounter.increment();
+    }
+
+    public void recordEvicted() {
+        evictedCounter.increment();
+    }
+
+    /**
+     * Count a refused stream; reason is one of rate, user_limit, pod_limit, draining
+     */
+    public void recordRejected(String reason) {
+        rejectionCounters.computeIfAbsent(reason, key -> Counter.builder("taskapp.sse.connections.rejected")
+                        .description("SSE streams refused with a retry hint")
+                        .tag("reason", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
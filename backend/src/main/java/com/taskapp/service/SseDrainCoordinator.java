@@ -0,0 +1,134 @@
+package com.taskapp.service;
+
+import com.taskapp.config.SseProperties;
+import com.taskapp.messaging.ReplayBufferStore;
+import com.taskapp.messaging.config.MessagingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains SSE connections when the pod shuts down or is scaled down.
+ *
+ * Stops first in the shutdown sequence, before the web server's graceful shutdown: the pod
+ * reports REFUSING_TRAFFIC, refuses new streams with a retry hint, hands its replay buffers
+ * to peers and then closes open streams in waves across app.sse.drain.window, each with a
+ * jittered retry: hint so clients do not all reconnect to the remaining pods at once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SseDrainCoordinator implements SmartLifecycle {
+
+    private final SSEConnectionManager sseConnectionManager;
+    private final ReplayBufferStore replayBufferStore;
+    private final SseProperties sseProperties;
+    private final MessagingProperties messagingProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean running;
+    private volatile boolean draining;
+
+    /**
+     * Whether this pod is draining and should refuse new streams
+     */
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * Jittered reconnect delay in milliseconds within the configured retry bounds
+     */
+    public long nextRetryMillis() {
+        long min = sseProperties.getDrain().getMinRetry().toMillis();
+        long max = Math.max(min, sseProperties.getDrain().getMaxRetry().toMillis());
+        return ThreadLocalRandom.current().nextLong(min, max + 1);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        draining = false;
+    }
+
+    @Override
+    public void stop() {
+        stop(() -> {});
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        draining = true;
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        // First handoff covers clients that reconnect to a fresh pod while the drain is still running
+        handOffReplayBuffers();
+
+        List<SseEmitter> open = new ArrayList<>(sseConnectionManager.getAllConnections());
+        if (open.isEmpty()) {
+            running = false;
+            callback.run();
+            return;
+        }
+        Collections.shuffle(open);
+
+        long windowMillis = sseProperties.getDrain().getWindow().toMillis();
+        int waves = Math.max(1, Math.min(sseProperties.getDrain().getWaves(), open.size()));
+        log.info("Draining {} SSE connections on pod {} in {} waves over {} ms",
+                open.size(), messagingProperties.getPodId(), waves, windowMillis);
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int wave = 0; wave < waves; wave++) {
+            List<SseEmitter> batch = open.subList(wave * open.size() / waves, (wave + 1) * open.size() / waves);
+            // Each wave gets its own thread so a client stuck in a blocking write cannot hold up the next one
+            scheduler.schedule(() -> Thread.ofPlatform().daemon().name("sse-drain-wave").start(() ->
+                            batch.forEach(emitter -> sseConnectionManager.closeWithRetry(emitter, nextRetryMillis()))),
+                    wave * windowMillis / waves, TimeUnit.MILLISECONDS);
+        }
+        scheduler.schedule(() -> {
+            handOffReplayBuffers();
+            running = false;
+            log.info("SSE drain finished on pod {} ({} connections left)",
+                    messagingProperties.getPodId(), sseConnectionManager.getActiveConnectionCount());
+            scheduler.shutdown();
+            callback.run();
+        }, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void handOffReplayBuffers() {
+        try {
+            replayBufferStore.save(sseConnectionManager.getRecentNotificationsSnapshot());
+        } catch (Exception e) {
+            log.warn("Replay buffer handoff failed on pod {}: {}", messagingProperties.getPodId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop before the web server's graceful shutdown, the heartbeat wheel and the Redis listener
+        // container, which keeps delivering to the streams not closed yet
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+}
@@ -0,0 +1,144 @@
+package com.taskapp.service;
+
+import com.taskapp.config.SseProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes to and closes servlet SSE emitters without pinning virtual-thread carriers.
+ *
+ * SseEmitter.send and complete are synchronized, so a virtual thread blocked in one on a slow
+ * client holds its carrier. In virtual thread mode a virtual caller hands the call to one of
+ * app.sse.max-writers platform threads and parks until it is done, which frees the carrier. When
+ * every writer is busy the caller parks for a free one. Platform-thread callers, and every caller
+ * outside virtual thread mode, write directly.
+ */
+@Component
+@Slf4j
+public class SseEmitterWriter {
+
+    private final ThreadPoolExecutor writers;
+    private final Semaphore freeWriters;
+
+    @Autowired
+    public SseEmitterWriter(SseProperties sseProperties, Environment environment) {
+        this(Threading.VIRTUAL.isActive(environment) ? sseProperties.getMaxWriters() : 0);
+    }
+
+    /**
+     * maxWriters 0 writes on the calling thread
+     */
+    SseEmitterWriter(int maxWriters) {
+        if (maxWriters <= 0) {
+            this.writers = null;
+            this.freeWriters = null;
+            return;
+        }
+        AtomicLong threadCount = new AtomicLong();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "sse-writer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // Callers take a permit first, so no write ever waits in the queue
+        this.writers = new ThreadPoolExecutor(maxWriters, maxWriters, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        this.writers.allowCoreThreadTimeOut(true);
+        this.freeWriters = new Semaphore(maxWriters);
+    }
+
+    public void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) throws IOException {
+        write(() -> emitter.send(event));
+    }
+
+    public void complete(SseEmitter emitter) {
+        try {
+            write(emitter::complete);
+        } catch (IOException e) {
+            log.debug("Could not complete SSE connection: {}", e.getMessage());
+        }
+    }
+
+    public void completeWithError(SseEmitter emitter, Throwable error) {
+        try {
+            write(() -> emitter.completeWithError(error));
+        } catch (IOException e) {
+            log.debug("Could not complete SSE connection: {}", e.getMessage());
+        }
+    }
+
+    private void write(Write write) throws IOException {
+        if (writers == null || !Thread.currentThread().isVirtual()) {
+            write.run();
+            return;
+        }
+        try {
+            freeWriters.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for an SSE writer");
+        }
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                write.run();
+                return null;
+            } finally {
+                freeWriters.release();
+            }
+        });
+        try {
+            writers.execute(task);
+        } catch (RejectedExecutionException e) {
+            freeWriters.release();
+            throw new IllegalStateException("SSE writers are shut down", e);
+        }
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            // The write itself runs on; only this caller stops waiting for it
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for an SSE write");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writers != null) {
+            writers.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,261 @@
+package com.taskapp.service;
+
+import com.taskapp.config.SseProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Hashed timing wheel that keeps servlet SSE connections alive and reaps dead ones.
+ *
+ * Every connection sits in the slot of its next due tick. A tick only visits its own slot:
+ * connections written to within the interval are pushed back, idle ones get a comment frame,
+ * and connections whose write failed, or whose previous heartbeat is still blocked a full
+ * interval later, are reaped. Work per tick is proportional to the connections falling due.
+ * Writes run on a bounded pool; when it is full the connection is reaped instead of waiting.
+ */
+@Component
+@Slf4j
+public class SseHeartbeatWheel implements SmartLifecycle {
+
+    private final LongSupplier nanoClock;
+    private final Executor writer;
+    private final long tickNanos;
+    private final long intervalNanos;
+    private final int ticksPerInterval;
+    private final Set<Connection>[] slots;
+    private final AtomicLong currentTick = new AtomicLong();
+    private final AtomicLong reapedConnections = new AtomicLong();
+
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public SseHeartbeatWheel(SseProperties sseProperties) {
+        // Writes leave the wheel thread so one blocked client cannot delay the tick. Platform threads on
+        // purpose: SseEmitter.send is synchronized, so a blocked write would pin a virtual thread's carrier.
+        this(sseProperties, System::nanoTime, heartbeatWriter(sseProperties.getHeartbeat().getMaxWriters()));
+    }
+
+    @SuppressWarnings("unchecked")
+    SseHeartbeatWheel(SseProperties sseProperties, LongSupplier nanoClock, Executor writer) {
+        Duration interval = sseProperties.getHeartbeat().getInterval();
+        Duration tick = sseProperties.getHeartbeat().getTick();
+        this.nanoClock = nanoClock;
+        this.writer = writer;
+        this.tickNanos = tick.toNanos();
+        this.intervalNanos = interval.toNanos();
+        this.ticksPerInterval = (int) Math.max(1, (intervalNanos + tickNanos - 1) / tickNanos);
+        // One extra slot so a full interval never wraps onto the slot being drained
+        this.slots = new Set[ticksPerInterval + 1];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = ConcurrentHashMap.newKeySet();
+        }
+    }
+
+    /**
+     * Start tracking a connection; onDead runs once when the connection is reaped
+     */
+    public Connection register(SseEmitter emitter, Runnable onDead) {
+        Connection connection = new Connection(emitter, onDead, nanoClock.getAsLong());
+        schedule(connection, ticksPerInterval);
+        return connection;
+    }
+
+    /**
+     * Stop tracking a connection that was closed elsewhere
+     */
+    public void unregister(Connection connection) {
+        connection.closed.set(true);
+        slots[connection.slot].remove(connection);
+    }
+
+    /**
+     * Record a successful write so the connection's next heartbeat is pushed back
+     */
+    public void recordWrite(Connection connection) {
+        connection.lastWriteNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Get number of connections reaped since startup
+     */
+    public long getReapedConnectionCount() {
+        return reapedConnections.get();
+    }
+
+    /**
+     * Advance the wheel by one slot. Called by the ticker thread only.
+     */
+    void tick() {
+        long tick = currentTick.incrementAndGet();
+        long now = nanoClock.getAsLong();
+        Iterator<Connection> due = slots[(int) (tick % slots.length)].iterator();
+
+        while (due.hasNext()) {
+            Connection connection = due.next();
+            due.remove();
+            if (connection.closed.get()) {
+                continue;
+            }
+
+            if (connection.heartbeatInFlight) {
+                log.debug("SSE heartbeat stalled for a full interval, reaping connection");
+                reap(connection);
+                continue;
+            }
+
+            long idleNanos = now - connection.lastWriteNanos;
+            if (idleNanos < intervalNanos) {
+                schedule(connection, ticksUntil(intervalNanos - idleNanos));
+                continue;
+            }
+
+            connection.heartbeatInFlight = true;
+            schedule(connection, ticksPerInterval);
+            try {
+                writer.execute(() -> sendHeartbeat(connection));
+            } catch (RejectedExecutionException e) {
+                log.debug("All SSE heartbeat writers busy, reaping connection");
+                reap(connection);
+            }
+        }
+    }
+
+    private void sendHeartbeat(Connection connection) {
+        try {
+            connection.emitter.send(SseEmitter.event().comment("heartbeat"));
+            recordWrite(connection);
+            connection.heartbeatInFlight = false;
+        } catch (Exception e) {
+            log.debug("SSE heartbeat failed, reaping connection: {}", e.getMessage());
+            reap(connection);
+        }
+    }
+
+    private void reap(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return;
+        }
+        slots[connection.slot].remove(connection);
+        reapedConnections.incrementAndGet();
+        connection.onDead.run();
+
+        // complete() shares the emitter monitor with a stalled send, so never call it on the wheel thread
+        try {
+            writer.execute(() -> {
+                try {
+                    connection.emitter.complete();
+                } catch (Exception e) {
+                    log.debug("Could not complete reaped SSE connection: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Already out of every registry; the container closes the socket once the client goes
+            log.debug("All SSE heartbeat writers busy, leaving reaped connection to the container");
+        }
+    }
+
+    private void schedule(Connection connection, int ticksAhead) {
+        int slot = (int) ((currentTick.get() + ticksAhead) % slots.length);
+        connection.slot = slot;
+        slots[slot].add(connection);
+    }
+
+    private int ticksUntil(long nanos) {
+        return (int) Math.min(ticksPerInterval, Math.max(1, (nanos + tickNanos - 1) / tickNanos));
+    }
+
+    /**
+     * maxWriters threads with as many writes queued behind them; past that, execute() throws
+     * RejectedExecutionException and the caller reaps instead
+     */
+    private static ExecutorService heartbeatWriter(int maxWriters) {
+        AtomicLong threadCount = new AtomicLong();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxWriters, maxWriters, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxWriters), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                tick();
+            } catch (Exception e) {
+                log.error("SSE heartbeat tick failed: {}", e.getMessage(), e);
+            }
+        }, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        log.info("SSE heartbeat wheel started ({} slots, tick {} ms)", slots.length,
+                TimeUnit.NANOSECONDS.toMillis(tickNanos));
+    }
+
+    @Override
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+        if (writer instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ticker != null;
+    }
+
+    @Override
+    public int getPhase() {
+        // Keep heartbeats going while SseDrainCoordinator closes streams in waves
+        return SmartLifecycle.DEFAULT_PHASE - 512;
+    }
+
+    /**
+     * Liveness state of one tracked emitter
+     */
+    public static final class Connection {
+        private final SseEmitter emitter;
+        private final Runnable onDead;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long lastWriteNanos;
+        private volatile boolean heartbeatInFlight;
+        private volatile int slot;
+
+        private Connection(SseEmitter emitter, Runnable onDead, long nowNanos) {
+            this.emitter = emitter;
+            this.onDead = onDead;
+            this.lastWriteNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.taskapp.service;
+
+import com.taskapp.config.SseProperties;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.dto.TaskResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * Estimates the heap held by SSE state on this pod and enforces a budget on it.
+ *
+ * Each pass walks the replay buffers and connection lists and estimates retained bytes from
+ * field sizes: notification events, per-user buffer overhead, and a configured per-stream
+ * overhead for the emitter, Tomcat request and async context. Over budget it first trims the
+ * heaviest replay buffers (dropping those of users not connected here), then closes streams
+ * of the users holding the most, and refuses new streams until the estimate is back under.
+ */
+@Component
+@Slf4j
+public class SseMemoryAccountant {
+
+    // Compressed oops, 8-byte alignment: header 12 + 13 references
+    private static final long EVENT_SHALLOW_BYTES = 64;
+    // LocalDateTime with its LocalDate and LocalTime
+    private static final long TIMESTAMP_BYTES = 72;
+    // NotificationTrace: header 12 + 5 longs
+    private static final long TRACE_BYTES = 56;
+    // TaskResponse: header 12 + 12 references, with three boxed Longs
+    private static final long TASK_SHALLOW_BYTES = 64 + 3 * 16;
+    // ZonedDateTime with its LocalDateTime; the zone is shared
+    private static final long ZONED_TIMESTAMP_BYTES = 96;
+    // Changes map: LinkedHashMap with its default 16-slot table (an update changes at most 8
+    // fields), plus one entry per field; the key strings are constants
+    private static final long CHANGES_MAP_BYTES = 56 + 16 + 4 * 16;
+    private static final long CHANGE_ENTRY_BYTES = 40;
+    // Map node, key String, CopyOnWriteArrayList with its lock and array header
+    private static final long BUFFER_OVERHEAD_BYTES = 128;
+
+    private final SSEConnectionManager sseConnectionManager;
+    private final SseAdmissionControl sseAdmissionControl;
+    private final SseProperties sseProperties;
+    private final LongSupplier maxHeap;
+    private final Counter trimmedCounter;
+    private final Counter shedCounter;
+
+    private volatile Report report = Report.EMPTY;
+    private volatile boolean overBudget;
+
+    @Autowired
+    public SseMemoryAccountant(SSEConnectionManager sseConnectionManager, SseAdmissionControl sseAdmissionControl,
+                               SseProperties sseProperties, MeterRegistry meterRegistry) {
+        this(sseConnectionManager, sseAdmissionControl, sseProperties, meterRegistry, Runtime.getRuntime()::maxMemory);
+    }
+
+    SseMemoryAccountant(SSEConnectionManager sseConnectionManager, SseAdmissionControl sseAdmissionControl,
+                        SseProperties sseProperties, MeterRegistry meterRegistry, LongSupplier maxHeap) {
+        this.sseConnectionManager = sseConnectionManager;
+        this.sseAdmissionControl = sseAdmissionControl;
+        this.sseProperties = sseProperties;
+        this.maxHeap = maxHeap;
+
+        Gauge.builder("taskapp.sse.memory.bytes", this, accountant -> accountant.report.eventBytes())
+                .description("Estimated bytes retained by SSE state").tag("structure", "replay_events")
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("taskapp.sse.memory.bytes", this, accountant -> accountant.report.bufferBytes())
+                .description("Estimated bytes retained by SSE state").tag("structure", "replay_buffers")
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("taskapp.sse.memory.bytes", this, accountant -> accountant.report.connectionBytes())
+                .description("Estimated bytes retained by SSE state").tag("structure", "connections")
+                .baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("taskapp.sse.memory.budget", this, accountant -> accountant.report.budgetBytes())
+                .description("Budget for SSE state on this pod").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("taskapp.sse.memory.replay.events", this, accountant -> accountant.report.bufferedEvents())
+                .description("Notifications held in replay buffers").register(meterRegistry);
+        // Ranked rather than tagged by username, so the series count stays at topUsers
+        for (int rank = 1; rank <= sseProperties.getMemory().getTopUsers(); rank++) {
+            int index = rank - 1;
+            Gauge.builder("taskapp.sse.memory.top.user.bytes", this, accountant -> accountant.report.topUserBytes(index))
+                    .description("Estimated bytes held for the n-th heaviest user; names in /actuator/ssememory")
+                    .tag("rank", String.valueOf(rank)).baseUnit("bytes").register(meterRegistry);
+        }
+        this.trimmedCounter = Counter.builder("taskapp.sse.memory.trimmed")
+                .description("Replay events dropped to stay within the SSE memory budget")
+                .register(meterRegistry);
+        this.shedCounter = Counter.builder("taskapp.sse.memory.shed")
+                .description("SSE streams closed to stay within the SSE memory budget")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the last pass left SSE state over budget; new streams are refused while it is
+     */
+    public boolean isOverBudget() {
+        return overBudget;
+    }
+
+    /**
+     * Latest accounting pass
+     */
+    public Report getReport() {
+        return report;
+    }
+
+    @Scheduled(fixedDelayString = "${app.sse.memory.interval:10s}", initialDelayString = "${app.sse.memory.interval:10s}")
+    public void account() {
+        Report current = measure();
+        if (current.totalBytes() > current.budgetBytes()) {
+            log.warn("SSE state estimated at {} bytes, over the {} byte budget; trimming replay buffers",
+                    current.totalBytes(), current.budgetBytes());
+            enforce(current);
+            current = measure();
+        }
+        report = current;
+        overBudget = current.totalBytes() > current.budgetBytes();
+    }
+
+    private Report measure() {
+        SseProperties.Memory memory = sseProperties.getMemory();
+        long connectionOverhead = memory.getConnectionOverhead().toBytes();
+        int topUsers = memory.getTopUsers();
+        PriorityQueue<UserUsage> heaviest = new PriorityQueue<>(Comparator.comparingLong(UserUsage::bytes));
+
+        long eventBytes = 0;
+        long bufferBytes = 0;
+        long bufferedEvents = 0;
+        Map<String, List<NotificationEvent>> buffers = sseConnectionManager.getReplayBuffers();
+        for (Map.Entry<String, List<NotificationEvent>> buffer : buffers.entrySet()) {
+            long userEventBytes = 0;
+            List<NotificationEvent> events = buffer.getValue();
+            for (NotificationEvent event : events) {
+                userEventBytes += estimateBytes(event);
+            }
+            long userBufferBytes = BUFFER_OVERHEAD_BYTES + 4L * events.size();
+            int connections = sseConnectionManager.getConnectionCount(buffer.getKey());
+            eventBytes += userEventBytes;
+            bufferBytes += userBufferBytes;
+            bufferedEvents += events.size();
+            offer(heaviest, topUsers, new UserUsage(buffer.getKey(),
+                    userEventBytes + userBufferBytes + connections * connectionOverhead, events.size(), connections));
+        }
+        // Users with streams here but nothing buffered yet
+        for (String username : sseConnectionManager.getConnectedUsers()) {
+            if (!buffers.containsKey(username)) {
+                int connections = sseConnectionManager.getConnectionCount(username);
+                offer(heaviest, topUsers, new UserUsage(username, connections * connectionOverhead, 0, connections));
+            }
+        }
+
+        int openConnections = sseConnectionManager.getActiveConnectionCount();
+        List<UserUsage> top = new ArrayList<>(heaviest);
+        top.sort(Comparator.comparingLong(UserUsage::bytes).reversed());
+        return new Report(eventBytes, bufferBytes, openConnections * connectionOverhead, bufferedEvents,
+                openConnections, budgetBytes(), top);
+    }
+
+    private void enforce(Report current) {
+        SseProperties.Memory memory = sseProperties.getMemory();
+        long excess = current.totalBytes() - current.budgetBytes();
+
+        // Trim replay buffers, heaviest first; disconnected users lose theirs entirely
+        List<Map.Entry<String, Long>> bufferSizes = new ArrayList<>();
+        sseConnectionManager.getReplayBuffers().forEach((username, events) -> {
+            // Events plus their array slots
+            long bytes = 4L * events.size();
+            for (NotificationEvent event : events) {
+                bytes += estimateBytes(event);
+            }
+            bufferSizes.add(Map.entry(username, bytes));
+        });
+        bufferSizes.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        long trimmed = 0;
+        for (Map.Entry<String, Long> buffer : bufferSizes) {
+            if (excess <= 0) {
+                break;
+            }
+            String username = buffer.getKey();
+            int size = sseConnectionManager.getRecentNotificationCount(username);
+            int keep = sseConnectionManager.hasConnection(username) ? memory.getTrimTo() : 0;
+            int removed = sseConnectionManager.trimReplayBuffer(username, keep);
+            if (removed > 0 && size > 0) {
+                excess -= buffer.getValue() * removed / size + (keep == 0 ? BUFFER_OVERHEAD_BYTES : 0);
+                trimmed += removed;
+            }
+        }
+        trimmedCounter.increment(trimmed);
+
+        // Still over: close streams of the users holding the most connections
+        long connectionOverhead = memory.getConnectionOverhead().toBytes();
+        int shed = 0;
+        if (excess > 0) {
+            List<String> users = new ArrayList<>(sseConnectionManager.getConnectedUsers());
+            users.sort(Comparator.comparingInt(sseConnectionManager::getConnectionCount).reversed());
+            for (String username : users) {
+                if (excess <= 0 || shed >= memory.getMaxShedPerPass()) {
+                    break;
+                }
+                for (SseEmitter emitter : sseConnectionManager.getConnections(username)) {
+                    if (excess <= 0 || shed >= memory.getMaxShedPerPass()) {
+                        break;
+                    }
+                    sseConnectionManager.closeWithRetry(emitter, sseAdmissionControl.nextRetryMillis());
+                    excess -= connectionOverhead;
+                    shed++;
+                }
+            }
+            shedCounter.increment(shed);
+        }
+        log.warn("SSE memory budget enforcement trimmed {} replay events and closed {} streams", trimmed, shed);
+    }
+
+    private long budgetBytes() {
+        SseProperties.Memory memory = sseProperties.getMemory();
+        if (memory.getBudget() != null) {
+            return memory.getBudget().toBytes();
+        }
+        return (long) (maxHeap.getAsLong() * memory.getHeapFraction());
+    }
+
+    private static void offer(PriorityQueue<UserUsage> heaviest, int limit, UserUsage usage) {
+        if (limit <= 0) {
+            return;
+        }
+        if (heaviest.size() < limit) {
+            heaviest.add(usage);
+        } else if (usage.bytes() > heaviest.peek().bytes()) {
+            heaviest.poll();
+            heaviest.add(usage);
+        }
+    }
+
+    /**
+     * Estimated retained size of one buffered notification, assuming Latin-1 compact strings
+     */
+    static long estimateBytes(NotificationEvent event) {
+        return EVENT_SHALLOW_BYTES
+                + stringBytes(event.getId())
+                + stringBytes(event.getType())
+                + stringBytes(event.getMessage())
+                + stringBytes(event.getTaskId())
+                + stringBytes(event.getTaskTitle())
+                + stringBytes(event.getUsername())
+                + stringBytes(event.getCreatorUsername())
+                + stringBytes(event.getAssignedUsername())
+                + (event.getTimestamp() != null ? TIMESTAMP_BYTES : 0)
+                + (event.getTrace() != null ? TRACE_BYTES : 0)
+                + (event.getTaskVersion() != null ? 16 : 0)
+                + taskBytes(event.getTask())
+                + changesBytes(event.getChanges());
+    }
+
+    // Snapshots are shared by a task's recipients but counted per event, erring high
+    private static long taskBytes(TaskResponse task) {
+        if (task == null) {
+            return 0;
+        }
+        return TASK_SHALLOW_BYTES
+                + stringBytes(task.getTitle())
+                + stringBytes(task.getDescription())
+                + stringBytes(task.getStatus())
+                + stringBytes(task.getPriority())
+                + stringBytes(task.getCreatedByUsername())
+                + stringBytes(task.getAssignedToUsername())
+                + (task.getCreatedAt() != null ? ZONED_TIMESTAMP_BYTES : 0)
+                + (task.getUpdatedAt() != null ? ZONED_TIMESTAMP_BYTES : 0);
+    }
+
+    private static long changesBytes(Map<String, Object> changes) {
+        if (changes == null) {
+            return 0;
+        }
+        long bytes = CHANGES_MAP_BYTES;
+        for (Object value : changes.values()) {
+            bytes += CHANGE_ENTRY_BYTES + (value instanceof String text ? stringBytes(text)
+                    : value instanceof Long ? 16 : value != null ? ZONED_TIMESTAMP_BYTES : 0);
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String value) {
+        // String object plus its byte[] (16-byte header), each 8-byte aligned
+        return value == null ? 0 : 24 + ((16L + value.length() + 7) & ~7L);
+    }
+
+    /**
+     * Estimated retained bytes for one user on this pod
+     */
+    public record UserUsage(String username, long bytes, int bufferedEvents, int connections) {
+    }
+
+    /**
+     * Result of one accounting pass
+     */
+    public record Report(long eventBytes, long bufferBytes, long connectionBytes, long bufferedEvents,
+                         int connections, long budgetBytes, List<UserUsage> topUsers) {
+
+        static final Report EMPTY = new Report(0, 0, 0, 0, 0, 0, List.of());
+
+        public long totalBytes() {
+            return eventBytes + bufferBytes + connectionBytes;
+        }
+
+        long topUserBytes(int index) {
+            return index < topUsers.size() ? topUsers.get(index).bytes() : 0;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskapp.service;
+
+import com.taskapp.config.SseProperties;
+import com.taskapp.dto.PodHeartbeat;
+import com.taskapp.messaging.config.MessagingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves SSE load off overloaded pods after scale-out.
+ *
+ * Every round compares this pod's open streams with the mean of the live, non-draining pods
+ * in the ClusterView. Above the tolerance band it closes the excess, at most
+ * max-closes-per-second times the round interval, each with a jittered retry hint; the
+ * load balancer then places the reconnects on the less loaded pods.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class SseRebalancer {
+
+    private final SSEConnectionManager sseConnectionManager;
+    private final ClusterView clusterView;
+    private final SseDrainCoordinator sseDrainCoordinator;
+    private final SseAdmissionControl sseAdmissionControl;
+    private final SseProperties sseProperties;
+    private final MessagingProperties messagingProperties;
+    private final Counter closedCounter;
+
+    public SseRebalancer(SSEConnectionManager sseConnectionManager, ClusterView clusterView,
+                         SseDrainCoordinator sseDrainCoordinator, SseAdmissionControl sseAdmissionControl,
+                         SseProperties sseProperties, MessagingProperties messagingProperties,
+                         MeterRegistry meterRegistry) {
+        this.sseConnectionManager = sseConnectionManager;
+        this.clusterView = clusterView;
+        this.sseDrainCoordinator = sseDrainCoordinator;
+        this.sseAdmissionControl = sseAdmissionControl;
+        this.sseProperties = sseProperties;
+        this.messagingProperties = messagingProperties;
+        this.closedCounter = Counter.builder("taskapp.sse.rebalance.closed")
+                .description("SSE streams closed to move load to less loaded pods")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.sse.rebalance.interval:10s}",
+            initialDelayString = "${app.sse.rebalance.interval:10s}")
+    public void rebalance() {
+        SseProperties.Rebalance rebalance = sseProperties.getRebalance();
+        if (!rebalance.isEnabled() || sseDrainCoordinator.isDraining()) {
+            return;
+        }
+
+        String podId = messagingProperties.getPodId();
+        int local = sseConnectionManager.getActiveConnectionCount();
+        List<Integer> peerLoads = new ArrayList<>();
+        for (Map.Entry<String, PodHeartbeat> pod : clusterView.getLivePods().entrySet()) {
+            if (!pod.getKey().equals(podId) && !pod.getValue().isDraining()) {
+                peerLoads.add(pod.getValue().getActiveConnections());
+            }
+        }
+
+        int budget = (int) Math.max(1, rebalance.getMaxClosesPerSecond() * rebalance.getInterval().toSeconds());
+        int toClose = connectionsToShed(local, peerLoads, rebalance.getTolerance(), budget);
+        if (toClose == 0) {
+            return;
+        }
+
+        List<SseEmitter> open = sseConnectionManager.getAllConnections();
+        Collections.shuffle(open);
+        toClose = Math.min(toClose, open.size());
+        for (int i = 0; i < toClose; i++) {
+            sseConnectionManager.closeWithRetry(open.get(i), sseAdmissionControl.nextRetryMillis());
+        }
+        closedCounter.increment(toClose);
+        log.info("Rebalanced {} SSE connections off pod {} (local: {}, peers: {})", toClose, podId, local, peerLoads);
+    }
+
+    /**
+     * Streams to close this round: the excess over mean * (1 + tolerance), capped by the budget.
+     * Zero when there are no peers or the pod is within the band.
+     */
+    static int connectionsToShed(int local, Collection<Integer> peerLoads, double tolerance, int budget) {
+        if (peerLoads.isEmpty()) {
+            return 0;
+        }
+        long total = local + peerLoads.stream().mapToLong(Integer::longValue).sum();
+        double mean = (double) total / (peerLoads.size() + 1);
+        // Small epsilon so e.g. 666.67 * 1.2 lands on 800, not 799.99
+        long ceiling = (long) Math.floor(mean * (1 + tolerance) + 1e-6);
+        if (local <= ceiling) {
+            return 0;
+        }
+        return (int) Math.min(local - ceiling, budget);
+    }
+}
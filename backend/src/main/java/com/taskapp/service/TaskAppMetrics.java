@@ -0,0 +1,142 @@
+package com.taskapp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custom meters for the task service and the notification pipeline.
+ *
+ * Tags are fixed enums or configured topic names, and every meter is registered once and
+ * held by reference, so recording on the hot path is a lookup plus an atomic update with no
+ * meter ID or tag allocation.
+ */
+@Component
+public class TaskAppMetrics {
+
+    public enum TaskOperation { CREATE, LIST, UPDATE, DELETE, CHANGES, BATCH, EXPORT, IMPORT, SEARCH }
+
+    public enum ConsumeOutcome { DELIVERED, SKIPPED, FAILED }
+
+    /**
+     * Result of writing one notification to one SSE stream; failures by cause
+     */
+    public enum SseSendResult { SENT, CLOSED, IO_ERROR, INVALID_PAYLOAD, ERROR }
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[][] taskOperations = new Timer[TaskOperation.values().length][2];
+    private final DistributionSummary[] fanOut = new DistributionSummary[TaskOperation.values().length];
+    private final Timer[] redisConsume = new Timer[ConsumeOutcome.values().length];
+    private final Counter[] sseSends = new Counter[SseSendResult.values().length];
+    private final DistributionSummary replaySize;
+    private final DistributionSummary writeGroup;
+
+    // Topic names come from configuration, so publish timers are registered on first use
+    private final ConcurrentHashMap<String, Timer[]> redisPublish = new ConcurrentHashMap<>();
+
+    public TaskAppMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (TaskOperation operation : TaskOperation.values()) {
+            for (int success = 0; success < 2; success++) {
+                taskOperations[operation.ordinal()][success] = Timer.builder("taskapp.task.operation")
+                        .description("TaskService operation time, inside the transaction")
+                        .tag("operation", tagValue(operation))
+                        .tag("outcome", success == 1 ? "success" : "error")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+            }
+            fanOut[operation.ordinal()] = DistributionSummary.builder("taskapp.notification.fanout")
+                    .description("Notifications published per task mutation")
+                    .tag("mutation", tagValue(operation))
+                    .register(meterRegistry);
+        }
+        for (ConsumeOutcome outcome : ConsumeOutcome.values()) {
+            redisConsume[outcome.ordinal()] = Timer.builder("taskapp.redis.consume")
+                    .description("Handling time of a notification received from Redis")
+                    .tag("outcome", tagValue(outcome))
+                    .register(meterRegistry);
+        }
+        for (SseSendResult result : SseSendResult.values()) {
+            sseSends[result.ordinal()] = Counter.builder("taskapp.sse.send")
+                    .description("Notification writes to SSE streams by result")
+                    .tag("result", tagValue(result))
+                    .register(meterRegistry);
+        }
+        replaySize = DistributionSummary.builder("taskapp.sse.replay.size")
+                .description("Missed notifications replayed to a reconnecting stream")
+                .baseUnit("events")
+                .register(meterRegistry);
+        writeGroup = DistributionSummary.builder("taskapp.task.write.group")
+                .description("Task creations committed together by the write combiner")
+                .baseUnit("tasks")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a TaskService operation started at startNanos (System.nanoTime)
+     */
+    public void recordTaskOperation(TaskOperation operation, long startNanos, boolean success) {
+        taskOperations[operation.ordinal()][success ? 1 : 0].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record how many notifications a single task mutation published
+     */
+    public void recordFanOut(TaskOperation mutation, int notifications) {
+        fanOut[mutation.ordinal()].record(notifications);
+    }
+
+    /**
+     * Record a Redis publish started at startNanos
+     */
+    public void recordRedisPublish(String topic, long startNanos, boolean success) {
+        Timer[] timers = redisPublish.get(topic);
+        if (timers == null) {
+            timers = redisPublish.computeIfAbsent(topic, this::registerPublishTimers);
+        }
+        timers[success ? 1 : 0].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record handling of one Redis message started at startNanos
+     */
+    public void recordRedisConsume(ConsumeOutcome outcome, long startNanos) {
+        redisConsume[outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSseSend(SseSendResult result) {
+        sseSends[result.ordinal()].increment();
+    }
+
+    public void recordReplaySize(int events) {
+        replaySize.record(events);
+    }
+
+    /**
+     * Record one group-commit transaction of the write combiner and the creations it held
+     */
+    public void recordWriteGroup(int tasks) {
+        writeGroup.record(tasks);
+    }
+
+    private Timer[] registerPublishTimers(String topic) {
+        Timer[] timers = new Timer[2];
+        for (int success = 0; success < 2; success++) {
+            timers[success] = Timer.builder("taskapp.redis.publish")
+                    .description("Serialization and publish time of a Redis message")
+                    .tag("topic", topic)
+                    .tag("outcome", success == 1 ? "success" : "error")
+                    .register(meterRegistry);
+        }
+        return timers;
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase();
+    }
+}
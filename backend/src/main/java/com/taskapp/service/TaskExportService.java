@@ -0,0 +1,220 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.taskapp.config.TaskExportProperties;
+import com.taskapp.enums.TaskExportFormat;
+import com.taskapp.service.TaskAppMetrics.TaskOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams a user's tasks (created or assigned) as NDJSON or CSV. Rows come from a forward-only
+ * cursor, app.tasks.export.fetch-size at a time, and are encoded one by one into a reused
+ * buffer and written on, optionally gzipped, so memory stays flat however many tasks there are.
+ * The cursor needs a transaction: outside one, PostgreSQL's driver reads the whole result. That
+ * transaction holds a pooled connection for the whole export, so exports run on their own
+ * executor, app.tasks.export.max-concurrent at a time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportService {
+
+    private static final String EXPORT_SQL = """
+            SELECT t.id, t.title, t.description, t.status, t.priority,
+                   t.created_by, c.username AS created_by_username,
+                   t.assigned_to, a.username AS assigned_to_username,
+                   t.created_at, t.updated_at, t.version
+            FROM users u
+            JOIN tasks t ON t.created_by = u.id OR t.assigned_to = u.id
+            JOIN users c ON c.id = t.created_by
+            JOIN users a ON a.id = t.assigned_to
+            WHERE u.username = ?
+            ORDER BY t.id""";
+
+    static final String CSV_HEADER = "id,title,description,status,priority,createdById,createdByUsername,"
+            + "assignedToId,assignedToUsername,createdAt,updatedAt,version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExportProperties properties;
+    private final TaskAppMetrics metrics;
+
+    /**
+     * Write the export to the stream and finish it; the stream itself is left open
+     */
+    @Transactional(readOnly = true)
+    public long export(String username, TaskExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            long rows = doExport(username, format, gzip, out);
+            success = true;
+            log.debug("Exported {} tasks for user '{}' as {}", rows, username, format);
+            return rows;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.EXPORT, start, success);
+        }
+    }
+
+    private long doExport(String username, TaskExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, properties.getBufferSize()) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(compressed != null ? compressed : out,
+                StandardCharsets.UTF_8), properties.getBufferSize());
+        RowWriter rows = new RowWriter(format, writer);
+        if (format == TaskExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try {
+            jdbcTemplate.query(EXPORT_SQL, statement -> {
+                statement.setFetchSize(properties.getFetchSize());
+                statement.setString(1, username);
+            }, rows);
+        } catch (UncheckedIOException e) {
+            // The client went away mid-stream
+            throw e.getCause();
+        }
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        return rows.count;
+    }
+
+    /**
+     * Encodes each row into one reused StringBuilder and hands it to the buffered writer
+     */
+    static final class RowWriter implements RowCallbackHandler {
+
+        private final TaskExportFormat format;
+        private final Writer writer;
+        private final StringBuilder row = new StringBuilder(512);
+        private long count;
+
+        RowWriter(TaskExportFormat format, Writer writer) {
+            this.format = format;
+            this.writer = writer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            row.setLength(0);
+            if (format == TaskExportFormat.CSV) {
+                csvRow(rs);
+            } else {
+                jsonRow(rs);
+            }
+            row.append('\n');
+            try {
+                writer.append(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count++;
+        }
+
+        private void jsonRow(ResultSet rs) throws SQLException {
+            row.append("{\"id\":").append(rs.getLong("id"));
+            jsonField("title", rs.getString("title"));
+            jsonField("description", rs.getString("description"));
+            jsonField("status", rs.getString("status"));
+            jsonField("priority", rs.getString("priority"));
+            row.append(",\"createdById\":").append(rs.getLong("created_by"));
+            jsonField("createdByUsername", rs.getString("created_by_username"));
+            row.append(",\"assignedToId\":").append(rs.getLong("assigned_to"));
+            jsonField("assignedToUsername", rs.getString("assigned_to_username"));
+            jsonTimestamp("createdAt", rs.getObject("created_at", OffsetDateTime.class));
+            jsonTimestamp("updatedAt", rs.getObject("updated_at", OffsetDateTime.class));
+            row.append(",\"version\":").append(rs.getLong("version")).append('}');
+        }
+
+        private void jsonField(String name, String value) {
+            row.append(",\"").append(name).append("\":");
+            if (value == null) {
+                row.append("null");
+                return;
+            }
+            row.append('"');
+            JsonStringEncoder.getInstance().quoteAsString(value, row);
+            row.append('"');
+        }
+
+        private void jsonTimestamp(String name, OffsetDateTime value) {
+            row.append(",\"").append(name).append("\":");
+            if (value == null) {
+                row.append("null");
+                return;
+            }
+            row.append('"');
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatTo(value, row);
+            row.append('"');
+        }
+
+        private void csvRow(ResultSet rs) throws SQLException {
+            row.append(rs.getLong("id"));
+            csvField(rs.getString("title"));
+            csvField(rs.getString("description"));
+            csvField(rs.getString("status"));
+            csvField(rs.getString("priority"));
+            row.append(',').append(rs.getLong("created_by"));
+            csvField(rs.getString("created_by_username"));
+            row.append(',').append(rs.getLong("assigned_to"));
+            csvField(rs.getString("assigned_to_username"));
+            csvTimestamp(rs.getObject("created_at", OffsetDateTime.class));
+            csvTimestamp(rs.getObject("updated_at", OffsetDateTime.class));
+            row.append(',').append(rs.getLong("version"));
+        }
+
+        /**
+         * RFC 4180: quoted only when it holds a comma, quote or line break, quotes doubled
+         */
+        private void csvField(String value) {
+            row.append(',');
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                row.append(value);
+                return;
+            }
+            row.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    row.append('"');
+                }
+                row.append(c);
+            }
+            row.append('"');
+        }
+
+        private void csvTimestamp(OffsetDateTime value) {
+            row.append(',');
+            if (value != null) {
+                DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatTo(value, row);
+            }
+        }
+    }
+}
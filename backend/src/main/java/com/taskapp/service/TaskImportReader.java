@@ -0,0 +1,192 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.enums.TaskExportFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads import rows one at a time from NDJSON or CSV, in the layout GET /api/tasks/export
+ * writes: one object per line, or a header row naming the columns. Only one record is held at a
+ * time, and records are capped in length so that a runaway line cannot take the heap with it.
+ */
+final class TaskImportReader {
+
+    private final Reader in;
+    private final TaskExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final int maxRecordChars;
+    private final StringBuilder record = new StringBuilder(1024);
+    private final List<String> values = new ArrayList<>();
+    private List<String> header;
+    private long line = 1;
+    private int pushedBack = -1;
+
+    TaskImportReader(Reader in, TaskExportFormat format, ObjectMapper objectMapper, int maxRecordChars) {
+        this.in = in;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    /**
+     * One record: its fields by column name, or why it could not be read
+     */
+    record Row(long line, Map<String, String> fields, String error) {
+    }
+
+    /**
+     * The next record, or null at the end of the input
+     */
+    Row next() throws IOException {
+        return format == TaskExportFormat.CSV ? nextCsv() : nextJson();
+    }
+
+    private Row nextJson() throws IOException {
+        while (true) {
+            long start = line;
+            record.setLength(0);
+            boolean tooLong = false;
+            int c;
+            while ((c = read()) != -1 && c != '\n') {
+                if (record.length() < maxRecordChars) {
+                    record.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            if (c == '\n') {
+                line++;
+            }
+            if (tooLong) {
+                return new Row(start, null, "Line longer than " + maxRecordChars + " characters");
+            }
+            if (!record.toString().isBlank()) {
+                return jsonRow(start);
+            }
+            if (c == -1) {
+                return null;
+            }
+        }
+    }
+
+    private Row jsonRow(long start) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(record.toString());
+        } catch (JsonProcessingException e) {
+            return new Row(start, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return new Row(start, null, "Expected a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>();
+        node.fields().forEachRemaining(field -> {
+            if (!field.getValue().isNull()) {
+                fields.put(field.getKey(), field.getValue().isValueNode()
+                        ? field.getValue().asText() : field.getValue().toString());
+            }
+        });
+        return new Row(start, fields, null);
+    }
+
+    private Row nextCsv() throws IOException {
+        if (header == null) {
+            if (!readCsvRecord()) {
+                return null;
+            }
+            header = List.copyOf(values);
+        }
+        while (true) {
+            long start = line;
+            if (!readCsvRecord()) {
+                return null;
+            }
+            if (values.size() == 1 && values.get(0).isEmpty()) {
+                continue; // Blank line
+            }
+            if (values.size() != header.size()) {
+                return new Row(start, null, "Expected " + header.size() + " columns, found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                if (!values.get(i).isEmpty()) {
+                    fields.put(header.get(i), values.get(i));
+                }
+            }
+            return new Row(start, fields, null);
+        }
+    }
+
+    /**
+     * RFC 4180: fields may be quoted, with "" for a quote and line breaks inside quotes. A record
+     * that runs past the cap, such as after an unbalanced quote, cannot be skipped reliably, so it
+     * ends the import.
+     */
+    private boolean readCsvRecord() throws IOException {
+        values.clear();
+        record.setLength(0);
+        long start = line;
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        boolean quoted = false;
+        int length = 0;
+        while (true) {
+            if (++length > maxRecordChars) {
+                throw new IllegalArgumentException("Record at line " + start + " is longer than " + maxRecordChars
+                        + " characters (unbalanced quote?)");
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quote in record at line " + start);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        record.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = next;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    record.append((char) c);
+                }
+            } else if (c == '"' && record.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(record.toString());
+                record.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                values.add(record.toString());
+                return true;
+            } else if (c != '\r') {
+                record.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -1) {
+            int c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        return in.read();
+    }
+}
@@ -0,0 +1,330 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.config.TaskImportProperties;
+import com.taskapp.dto.TaskImportResponse;
+import com.taskapp.entity.User;
+import com.taskapp.enums.TaskExportFormat;
+import com.taskapp.enums.TaskPriority;
+import com.taskapp.enums.TaskStatus;
+import com.taskapp.exception.UserNotFoundException;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.service.TaskAppMetrics.TaskOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk task import for migrations: streams NDJSON or CSV rows, validates each as POST /api/tasks
+ * would, and loads the valid ones with PostgreSQL COPY, one chunk per transaction. The importing
+ * user is the creator of every task. Bad rows are counted and reported by line rather than
+ * failing the import, and each affected user gets one TASK_IMPORT notification with their count
+ * instead of one per task.
+ *
+ * Assignee IDs are checked against a per-import cache, so each distinct ID costs one lookup.
+ * Task IDs are reserved from tasks_id_seq in the blocks Hibernate's pooled optimizer uses, so
+ * imported rows cannot collide with IDs the application has already drawn.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportService {
+
+    private static final org.slf4j.Logger businessLog = org.slf4j.LoggerFactory.getLogger("business-events");
+
+    private static final String COPY_SQL = "COPY tasks (id, title, description, status, priority, created_by, "
+            + "assigned_to, version) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String ID_INCREMENT_SQL = "SELECT increment_by FROM pg_sequences "
+            + "WHERE schemaname = current_schema() AND sequencename = 'tasks_id_seq'";
+
+    private static final String RESERVE_IDS_SQL = "SELECT nextval('tasks_id_seq') FROM generate_series(1, ?)";
+
+    // Same bounds as TaskRequest
+    private static final int MAX_TITLE_LENGTH = 100;
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final DirectNotificationService directNotificationService;
+    private final ObjectMapper objectMapper;
+    private final TaskImportProperties properties;
+    private final TaskAppMetrics metrics;
+
+    public TaskImportResponse importTasks(String username, TaskExportFormat format, InputStream body) throws IOException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            TaskImportResponse response = doImport(username, format, body);
+            response.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            response.setRowsPerSecond(response.getImported() / Math.max((System.nanoTime() - start) / 1e9, 1e-9));
+            success = response.isCompleted();
+            businessLog.info("TASK_IMPORT: user={}, imported={}, rejected={}, rowsPerSecond={}",
+                    username, response.getImported(), response.getRejected(), Math.round(response.getRowsPerSecond()));
+            return response;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.IMPORT, start, success);
+        }
+    }
+
+    private TaskImportResponse doImport(String username, TaskExportFormat format, InputStream body) throws IOException {
+        User importer = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("username", username));
+        ImportJob job = new ImportJob(importer);
+        TaskImportReader reader = new TaskImportReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024),
+                format, objectMapper, properties.getMaxRecordChars());
+
+        List<ImportedTask> chunk = new ArrayList<>(properties.getChunkSize());
+        try {
+            TaskImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                if (row.error() != null) {
+                    job.reject(row.line(), row.error());
+                    continue;
+                }
+                ImportedTask task = validate(job, row);
+                if (task == null) {
+                    continue;
+                }
+                chunk.add(task);
+                if (chunk.size() == properties.getChunkSize()) {
+                    load(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                load(job, chunk);
+            }
+            job.response.setCompleted(true);
+        } catch (IllegalArgumentException | DataAccessException e) {
+            // Chunks loaded so far stay committed; the response says how far the import got
+            log.warn("Import for user '{}' stopped after {} tasks: {}", username, job.response.getImported(), e.getMessage());
+            job.response.setError(e.getMessage());
+        }
+
+        if (!job.importedByRecipient.isEmpty()) {
+            try {
+                directNotificationService.publishTaskImport(job.importedByRecipient);
+            } catch (RuntimeException e) {
+                log.error("Failed to publish TASK_IMPORT notifications for user '{}': {}", username, e.getMessage(), e);
+            }
+        }
+        return job.response;
+    }
+
+    /**
+     * Check a row the way POST /api/tasks would; null once it has been rejected
+     */
+    private ImportedTask validate(ImportJob job, TaskImportReader.Row row) {
+        Map<String, String> fields = row.fields();
+        String title = fields.get("title");
+        String description = fields.get("description");
+        if (title == null || title.isBlank()) {
+            job.reject(row.line(), "Title is required");
+            return null;
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            job.reject(row.line(), "Title must not exceed " + MAX_TITLE_LENGTH + " characters");
+            return null;
+        }
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            job.reject(row.line(), "Description must not exceed " + MAX_DESCRIPTION_LENGTH + " characters");
+            return null;
+        }
+        try {
+            TaskStatus status = TaskStatus.fromValue(fields.get("status"));
+            TaskPriority priority = TaskPriority.fromValue(fields.get("priority"));
+            String assignedTo = fields.get("assignedToId");
+            Long assigneeId = assignedTo != null ? Long.valueOf(assignedTo.trim()) : job.importer.getId();
+            return new ImportedTask(row.line(), title, description, status, priority, assigneeId);
+        } catch (NumberFormatException e) {
+            job.reject(row.line(), "Invalid assignedToId: " + fields.get("assignedToId"));
+        } catch (IllegalArgumentException e) {
+            job.reject(row.line(), e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the chunk's assignees, reserve IDs and COPY the valid rows, in one transaction
+     */
+    private void load(ImportJob job, List<ImportedTask> chunk) {
+        Map<Long, Long> importedByAssignee = transactionTemplate.execute(status -> {
+            job.resolveAssignees(chunk);
+            List<ImportedTask> valid = new ArrayList<>(chunk.size());
+            for (ImportedTask task : chunk) {
+                if (job.assigneeNames.containsKey(task.assigneeId())) {
+                    valid.add(task);
+                } else {
+                    job.reject(task.line(), "Assignee " + task.assigneeId() + " does not exist");
+                }
+            }
+            if (valid.isEmpty()) {
+                return Map.of();
+            }
+            long[] ids = job.reserveIds(valid.size());
+            copy(job.importer.getId(), valid, ids);
+
+            Map<Long, Long> counts = new HashMap<>();
+            valid.forEach(task -> counts.merge(task.assigneeId(), 1L, Long::sum));
+            return counts;
+        });
+
+        // Committed: count the chunk in and note who to notify, as publishTaskCreated would
+        long imported = 0;
+        for (Map.Entry<Long, Long> assignee : importedByAssignee.entrySet()) {
+            imported += assignee.getValue();
+            if (!assignee.getKey().equals(job.importer.getId())) {
+                job.importedByRecipient.merge(job.assigneeNames.get(assignee.getKey()), assignee.getValue(), Long::sum);
+            }
+        }
+        if (imported > 0) {
+            job.importedByRecipient.merge(job.importer.getUsername(), imported, Long::sum);
+            job.response.setImported(job.response.getImported() + imported);
+            job.response.setChunks(job.response.getChunks() + 1);
+            log.debug("Imported chunk of {} tasks for user '{}'", imported, job.importer.getUsername());
+        }
+    }
+
+    private void copy(Long creatorId, List<ImportedTask> tasks, long[] ids) {
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                StringBuilder row = new StringBuilder(1024);
+                for (int i = 0; i < tasks.size(); i++) {
+                    ImportedTask task = tasks.get(i);
+                    row.setLength(0);
+                    row.append(ids[i]).append(',');
+                    quoted(row, task.title()).append(',');
+                    if (task.description() != null) {
+                        quoted(row, task.description());
+                    }
+                    row.append(',').append(task.status().getValue())
+                            .append(',').append(task.priority().getValue())
+                            .append(',').append(creatorId)
+                            .append(',').append(task.assigneeId())
+                            .append(",1\n");
+                    byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+                    copy.writeToCopy(bytes, 0, bytes.length);
+                }
+                return copy.endCopy();
+            } catch (SQLException | RuntimeException e) {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * COPY csv value: always quoted, so that an empty string is not read as NULL
+     */
+    private static StringBuilder quoted(StringBuilder row, String value) {
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        return row.append('"');
+    }
+
+    /**
+     * A row that passed validation, waiting for its chunk
+     */
+    record ImportedTask(long line, String title, String description, TaskStatus status, TaskPriority priority,
+                        Long assigneeId) {
+    }
+
+    /**
+     * State of one import: counts, the user cache and the rest of the current ID block
+     */
+    private final class ImportJob {
+        private final User importer;
+        private final TaskImportResponse response = new TaskImportResponse();
+        private final Map<Long, String> assigneeNames = new HashMap<>();
+        private final Set<Long> missingUsers = new HashSet<>();
+        private final Map<String, Long> importedByRecipient = new LinkedHashMap<>();
+        private long idIncrement;
+
+        ImportJob(User importer) {
+            this.importer = importer;
+            assigneeNames.put(importer.getId(), importer.getUsername());
+        }
+
+        void reject(long line, String message) {
+            response.setRejected(response.getRejected() + 1);
+            if (response.getErrors().size() < properties.getMaxReportedErrors()) {
+                response.getErrors().add(new TaskImportResponse.RowError(line, message));
+            }
+        }
+
+        /**
+         * Look up, in one query, the assignees this import has not seen yet
+         */
+        void resolveAssignees(List<ImportedTask> chunk) {
+            Set<Long> unknown = new HashSet<>();
+            for (ImportedTask task : chunk) {
+                if (!assigneeNames.containsKey(task.assigneeId()) && !missingUsers.contains(task.assigneeId())) {
+                    unknown.add(task.assigneeId());
+                }
+            }
+            if (unknown.isEmpty()) {
+                return;
+            }
+            userRepository.findAllById(unknown).forEach(user -> assigneeNames.put(user.getId(), user.getUsername()));
+            unknown.removeAll(assigneeNames.keySet());
+            missingUsers.addAll(unknown);
+        }
+
+        /**
+         * IDs for the next rows, in whole blocks of the sequence increment: the pooled optimizer
+         * treats each sequence value v as owning (v - increment, v], so reserving the same way
+         * keeps clear of the application's blocks
+         */
+        long[] reserveIds(int count) {
+            if (idIncrement == 0) {
+                Long increment = jdbcTemplate.queryForObject(ID_INCREMENT_SQL, Long.class);
+                idIncrement = increment != null ? Math.max(1, increment) : 1;
+            }
+            long[] ids = new long[count];
+            int filled = 0;
+            int blocks = (int) ((count + idIncrement - 1) / idIncrement);
+            while (filled < count) {
+                for (Long high : jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, blocks)) {
+                    for (long id = Math.max(1, high - idIncrement + 1); id <= high && filled < count; id++) {
+                        ids[filled++] = id;
+                    }
+                }
+                blocks = 1; // A block clipped at 1 came up short
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskapp.service;
+
+import com.taskapp.config.TaskSearchProperties;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.dto.TaskSearchResponse;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.TaskRepository.SearchHit;
+import com.taskapp.service.TaskAppMetrics.TaskOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Full-text search over the titles and descriptions of the tasks a user created or is
+ * assigned. Queries take web-search syntax (quoted phrases, OR, -word) and results come best
+ * match first, a page at a time. Pages are keyset-paginated on (rank, id): the cursor carries
+ * the last hit's position, so a later page costs the same as the first.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchService {
+
+    // Match markers in the headlines built by TaskRepository.search
+    private static final String MATCH_START = "\u0002";
+    private static final String MATCH_END = "\u0003";
+
+    private final TaskRepository taskRepository;
+    private final TaskSearchProperties properties;
+    private final TaskAppMetrics metrics;
+
+    @Transactional(readOnly = true)
+    public TaskSearchResponse search(String username, String query, String cursor, Integer limit) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            TaskSearchResponse response = doSearch(username, query, cursor, limit);
+            success = true;
+            return response;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.SEARCH, start, success);
+        }
+    }
+
+    private TaskSearchResponse doSearch(String username, String query, String cursor, Integer requestedLimit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (query.length() > properties.getMaxQueryLength()) {
+            throw new IllegalArgumentException("Search query must not exceed " + properties.getMaxQueryLength() + " characters");
+        }
+        int limit = requestedLimit == null || requestedLimit <= 0
+                ? properties.getDefaultLimit() : Math.min(requestedLimit, properties.getMaxLimit());
+        Float afterRank = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            Position position = decodeCursor(cursor);
+            afterRank = position.rank();
+            afterId = position.id();
+        }
+
+        // One row past the limit tells whether another page follows
+        List<SearchHit> hits = taskRepository.search(username, query.trim(), afterRank, afterId, limit + 1);
+        log.debug("Search by user '{}' returned {} hits", username, Math.min(hits.size(), limit));
+
+        TaskSearchResponse response = new TaskSearchResponse();
+        for (SearchHit hit : hits.subList(0, Math.min(hits.size(), limit))) {
+            response.getResults().add(toHit(hit));
+        }
+        if (hits.size() > limit) {
+            SearchHit last = hits.get(limit - 1);
+            response.setNextCursor(encodeCursor(last.getRank(), last.getId()));
+        }
+        return response;
+    }
+
+    private static TaskSearchResponse.Hit toHit(SearchHit row) {
+        TaskResponse task = new TaskResponse();
+        task.setId(row.getId());
+        task.setTitle(row.getTitle());
+        task.setDescription(row.getDescription());
+        task.setStatus(row.getStatus());
+        task.setPriority(row.getPriority());
+        task.setCreatedById(row.getCreatedById());
+        task.setCreatedByUsername(row.getCreatedByUsername());
+        task.setAssignedToId(row.getAssignedToId());
+        task.setAssignedToUsername(row.getAssignedToUsername());
+        task.setCreatedAt(zoned(row.getCreatedAt()));
+        task.setUpdatedAt(zoned(row.getUpdatedAt()));
+        task.setVersion(row.getVersion());
+
+        TaskSearchResponse.Hit hit = new TaskSearchResponse.Hit();
+        hit.setTask(task);
+        hit.setRank(row.getRank());
+        hit.setTitleHighlight(highlight(row.getTitleHighlight()));
+        hit.setSnippet(row.getDescription() != null ? highlight(row.getSnippet()) : null);
+        return hit;
+    }
+
+    /**
+     * HTML-escape a headline, then turn its U+0002/U+0003 match markers into mark tags, so the
+     * tags are the only markup in the result
+     */
+    static String highlight(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline, StandardCharsets.UTF_8.name())
+                .replace(MATCH_START, "<mark>")
+                .replace(MATCH_END, "</mark>");
+    }
+
+    /**
+     * Opaque to clients; Float.toString round-trips the rank exactly, so the next page starts
+     * right after this hit
+     */
+    static String encodeCursor(float rank, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((rank + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Position decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length == 2) {
+                return new Position(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+            }
+        } catch (IllegalArgumentException e) {
+            // Bad Base64 or a bad number; reported below like any other malformed cursor
+        }
+        throw new IllegalArgumentException("Invalid search cursor");
+    }
+
+    /**
+     * Where the previous page ended
+     */
+    record Position(float rank, long id) {
+    }
+
+    private static ZonedDateTime zoned(Instant instant) {
+        return instant != null ? instant.atZone(ZoneId.systemDefault()) : null;
+    }
+}
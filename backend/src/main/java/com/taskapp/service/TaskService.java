@@ -1,5 +1,10 @@
 package com.taskapp.service;
 
+import com.taskapp.config.TaskBatchProperties;
+import com.taskapp.dto.TaskBatchOperation;
+import com.taskapp.dto.TaskBatchRequest;
+import com.taskapp.dto.TaskBatchResponse;
+import com.taskapp.dto.TaskPatchRequest;
 import com.taskapp.dto.TaskRequest;
 import com.taskapp.dto.TaskResponse;
 import com.taskapp.entity.Task;
@@ -7,16 +12,35 @@ import com.taskapp.entity.User;
 import com.taskapp.enums.TaskStatus;
 import com.taskapp.enums.TaskPriority;
 import com.taskapp.exception.TaskNotFoundException;
+import com.taskapp.exception.TaskPermissionException;
 import com.taskapp.exception.UserNotFoundException;
+import com.taskapp.jfr.TaskMutationEvent;
 import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.TaskRepository.DeletedTask;
+import com.taskapp.repository.TaskRepository.UpdatedTask;
 import com.taskapp.repository.UserRepository;
 import com.taskapp.mapper.TaskMapper;
+import com.taskapp.service.DirectNotificationService.BatchFanOut;
+import com.taskapp.service.TaskAppMetrics.TaskOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,10 +51,29 @@ public class TaskService {    private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final TaskPermissionHelper permissionHelper;
     private final DirectNotificationService directNotificationService;
+    private final TaskAppMetrics metrics;
+    private final TaskBatchProperties batchProperties;
     
     // Business event logger for audit trail
     private static final org.slf4j.Logger businessLog = org.slf4j.LoggerFactory.getLogger("business-events");    @Transactional
     public TaskResponse createTask(TaskRequest request, String creatorUsername) {
+        long start = System.nanoTime();
+        TaskMutationEvent event = new TaskMutationEvent();
+        event.begin();
+        boolean success = false;
+        Long taskId = null;
+        try {
+            TaskResponse response = doCreateTask(request, creatorUsername);
+            taskId = response.getId();
+            success = true;
+            return response;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.CREATE, start, success);
+            commitMutationEvent(event, TaskOperation.CREATE, taskId, creatorUsername, success);
+        }
+    }
+    
+    private TaskResponse doCreateTask(TaskRequest request, String creatorUsername) {
         log.debug("Creating task '{}' for user '{}'", request.getTitle(), creatorUsername);
         
         User creator = userRepository.findByUsername(creatorUsername)
@@ -45,17 +88,119 @@ public class TaskService {    private final TaskRepository taskRepository;
         Task task = buildTaskFromRequest(request, creator, assignee);
         Task savedTask = taskRepository.save(task);
         
-        // Flush to ensure immediate DB persistence before notifications
+        // The pooled sequence defers the INSERT to commit; flush so a constraint failure surfaces
+        // here, before the create is counted as a success
         taskRepository.flush();
         
         businessLog.info("TASK_CREATED: id={}, title='{}', creator={}, assignee={}",
                 savedTask.getId(), savedTask.getTitle(), creator.getUsername(), assignee.getUsername());
         
-        // Use direct notification service for immediate Redis publishing
-        directNotificationService.publishTaskCreated(savedTask, creator, assignee);
+        // Clients hear of the task only once its row has committed
+        afterCommit(() -> directNotificationService.publishTaskCreated(savedTask, creator, assignee));
         
         return taskMapper.toResponse(savedTask);
-    }private Task buildTaskFromRequest(TaskRequest request, User creator, User assignee) {
+    }
+    
+    /**
+     * Run action once the current transaction commits, so a rollback publishes nothing; runs it
+     * at once when no transaction is active
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    /**
+     * Create a group of tasks in one transaction, for TaskWriteCombiner. Each creation is
+     * validated on its own, and one that fails comes back with its exception and is left out;
+     * the rest are inserted as one batch at commit. Creators and assignees are read in one
+     * query each. Notifications are left to the caller, once the group has committed.
+     */
+    @Transactional
+    public List<GroupedCreateResult> createTaskGroup(List<GroupedCreate> creations) {
+        // One mutation event per creation, as the single-request path records; each spans the group
+        List<TaskMutationEvent> events = new ArrayList<>(creations.size());
+        for (int i = 0; i < creations.size(); i++) {
+            TaskMutationEvent event = new TaskMutationEvent();
+            event.begin();
+            events.add(event);
+        }
+        List<GroupedCreateResult> results = null;
+        try {
+            results = doCreateTaskGroup(creations);
+            return results;
+        } finally {
+            for (int i = 0; i < creations.size(); i++) {
+                GroupedCreateResult result = results != null ? results.get(i) : null;
+                boolean success = result != null && result.error() == null;
+                commitMutationEvent(events.get(i), TaskOperation.CREATE, success ? result.task().getId() : null,
+                        creations.get(i).creatorUsername(), success);
+            }
+        }
+    }
+    
+    private List<GroupedCreateResult> doCreateTaskGroup(List<GroupedCreate> creations) {
+        Set<String> usernames = creations.stream().map(GroupedCreate::creatorUsername).collect(Collectors.toSet());
+        Map<String, User> creators = userRepository.findByUsernameIn(usernames).stream()
+                .collect(Collectors.toMap(User::getUsername, Function.identity()));
+        Set<Long> assigneeIds = creations.stream()
+                .map(creation -> creation.request().getAssignedTo())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, User> assignees = assigneeIds.isEmpty() ? Map.of() : userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        
+        List<GroupedCreateResult> results = new ArrayList<>(creations.size());
+        List<Task> tasks = new ArrayList<>(creations.size());
+        for (GroupedCreate creation : creations) {
+            TaskRequest request = creation.request();
+            try {
+                User creator = creators.get(creation.creatorUsername());
+                if (creator == null) {
+                    throw new UserNotFoundException("username", creation.creatorUsername());
+                }
+                User assignee = request.getAssignedTo() != null ? assignees.get(request.getAssignedTo()) : creator;
+                if (assignee == null) {
+                    throw new UserNotFoundException(request.getAssignedTo());
+                }
+                Task task = buildTaskFromRequest(request, creator, assignee);
+                tasks.add(task);
+                results.add(new GroupedCreateResult(task, creator, assignee, null));
+            } catch (UserNotFoundException | IllegalArgumentException e) {
+                results.add(new GroupedCreateResult(null, null, null, e));
+            }
+        }
+        taskRepository.saveAll(tasks);
+        
+        for (Task task : tasks) {
+            businessLog.info("TASK_CREATED: id={}, title='{}', creator={}, assignee={}",
+                    task.getId(), task.getTitle(), task.getCreatedBy().getUsername(), task.getAssignedTo().getUsername());
+        }
+        return results;
+    }
+    
+    /**
+     * One creation handed to createTaskGroup
+     */
+    public record GroupedCreate(TaskRequest request, String creatorUsername) {
+    }
+    
+    /**
+     * Outcome of one creation in a group: the persisted task and its users, or the error the
+     * single-request path would have thrown
+     */
+    public record GroupedCreateResult(Task task, User creator, User assignee, RuntimeException error) {
+    }
+    
+    private Task buildTaskFromRequest(TaskRequest request, User creator, User assignee) {
         Task task = new Task();
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -66,6 +211,18 @@ public class TaskService {    private final TaskRepository taskRepository;
         task.setCreatedBy(creator);
         task.setAssignedTo(assignee);        return task;
     }    public List<TaskResponse> getTasksForUser(String username) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            List<TaskResponse> tasks = doGetTasksForUser(username);
+            success = true;
+            return tasks;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.LIST, start, success);
+        }
+    }
+    
+    private List<TaskResponse> doGetTasksForUser(String username) {
         log.debug("Retrieving tasks for user '{}'", username);
         
         User user = userRepository.findByUsername(username)
@@ -79,82 +236,346 @@ public class TaskService {    private final TaskRepository taskRepository;
                 .collect(Collectors.toList());
     }    @Transactional
     public TaskResponse updateTask(Long taskId, TaskRequest request, String username) {
+        long start = System.nanoTime();
+        TaskMutationEvent event = new TaskMutationEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            // PUT replaces the description, so a missing one clears it
+            TaskResponse response = doUpdateTask(taskId, username, request.getTitle(), request.getDescription(), true,
+                    request.getStatus(), request.getPriority(), request.getAssignedTo());
+            success = true;
+            return response;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.UPDATE, start, success);
+            commitMutationEvent(event, TaskOperation.UPDATE, taskId, username, success);
+        }
+    }
+
+    @Transactional
+    public TaskResponse patchTask(Long taskId, TaskPatchRequest request, String username) {
+        long start = System.nanoTime();
+        TaskMutationEvent event = new TaskMutationEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            TaskResponse response = doUpdateTask(taskId, username, request.getTitle(), request.getDescription(), false,
+                    request.getStatus(), request.getPriority(), request.getAssignedTo());
+            success = true;
+            return response;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.UPDATE, start, success);
+            commitMutationEvent(event, TaskOperation.UPDATE, taskId, username, success);
+        }
+    }
+    
+    private TaskResponse doUpdateTask(Long taskId, String username, String title, String description, boolean replace,
+                                      String status, String priority, Long assignedTo) {
         log.debug("Updating task {} by user '{}'", taskId, username);
         
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserNotFoundException("username", username));
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException(taskId));
-        
-        permissionHelper.validateUpdatePermission(task, user);
-        
-        User originalAssignee = task.getAssignedTo();
-        boolean statusChanged = updateTaskFields(task, request);
-        boolean assigneeChanged = handleAssigneeUpdate(task, request, user);
+        String statusName = status != null ? TaskStatus.valueOf(status).name() : null;
+        String priorityName = priority != null ? TaskPriority.valueOf(priority).name() : null;
         
-        Task updatedTask = taskRepository.save(task);
+        // Permission check, write and the state notifications need, in one statement
+        UpdatedTask row;
+        try {
+            row = taskRepository.updateIfPermitted(taskId, username, title, description, replace, statusName,
+                            priorityName, assignedTo)
+                    .orElseThrow(() -> missingOrForbidden(taskId, username, "update"));
+        } catch (DataIntegrityViolationException e) {
+            if (assignedTo == null) {
+                throw e;
+            }
+            // The new assignee failed the foreign key
+            throw new UserNotFoundException(assignedTo);
+        }
         
-        // Flush to ensure immediate DB persistence before notifications
-        taskRepository.flush();
+        Task updatedTask = toTask(row);
+        User user = user(row.getActorId(), row.getActorUsername());
+        User originalAssignee = user(row.getPreviousAssignedToId(), row.getPreviousAssignedToUsername());
+        TaskResponse previous = directNotificationService.needsPreviousState()
+                ? taskMapper.toResponse(toPreviousTask(row, updatedTask, originalAssignee)) : null;
+        boolean statusChanged = !row.getStatus().equals(row.getPreviousStatus());
+        boolean assigneeChanged = !row.getAssignedToId().equals(row.getPreviousAssignedToId());
         
         businessLog.info("TASK_UPDATED: id={}, title='{}', updatedBy={}, status={}", 
             updatedTask.getId(), updatedTask.getTitle(), username, updatedTask.getStatus());
         
         // Use direct notification service for immediate Redis publishing
-        directNotificationService.publishTaskUpdated(updatedTask, user, originalAssignee, statusChanged, assigneeChanged);
+        directNotificationService.publishTaskUpdated(updatedTask, user, originalAssignee, statusChanged, assigneeChanged,
+                previous);
         
         return taskMapper.toResponse(updatedTask);
-    }private boolean updateTaskFields(Task task, TaskRequest request) {
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        
-        boolean statusChanged = false;
-        if (request.getStatus() != null) {
-            TaskStatus newStatus = TaskStatus.valueOf(request.getStatus());
-            statusChanged = !newStatus.equals(task.getStatus());
-            task.setStatus(newStatus);
+    }
+    
+    /**
+     * A conditional write matched no row: tell a missing task from one the user may not touch
+     */
+    private RuntimeException missingOrForbidden(Long taskId, String username, String operation) {
+        return taskRepository.existsById(taskId)
+                ? new TaskPermissionException(username, taskId, operation)
+                : new TaskNotFoundException(taskId);
+    }
+    
+    /**
+     * Detached task built from the returned row; its users carry only id and username
+     */
+    private static Task toTask(UpdatedTask row) {
+        Task task = new Task();
+        task.setId(row.getId());
+        task.setTitle(row.getTitle());
+        task.setDescription(row.getDescription());
+        task.setStatus(TaskStatus.valueOf(row.getStatus()));
+        task.setPriority(TaskPriority.valueOf(row.getPriority()));
+        task.setCreatedBy(user(row.getCreatedById(), row.getCreatedByUsername()));
+        task.setAssignedTo(user(row.getAssignedToId(), row.getAssignedToUsername()));
+        task.setCreatedAt(zoned(row.getCreatedAt()));
+        task.setUpdatedAt(zoned(row.getUpdatedAt()));
+        task.setVersion(row.getVersion());
+        return task;
+    }
+    
+    private static Task toPreviousTask(UpdatedTask row, Task updatedTask, User originalAssignee) {
+        Task task = new Task();
+        task.setId(row.getId());
+        task.setTitle(row.getPreviousTitle());
+        task.setDescription(row.getPreviousDescription());
+        task.setStatus(TaskStatus.valueOf(row.getPreviousStatus()));
+        task.setPriority(TaskPriority.valueOf(row.getPreviousPriority()));
+        task.setCreatedBy(updatedTask.getCreatedBy());
+        task.setAssignedTo(originalAssignee);
+        task.setCreatedAt(updatedTask.getCreatedAt());
+        task.setUpdatedAt(zoned(row.getPreviousUpdatedAt()));
+        task.setVersion(row.getVersion() - 1);
+        return task;
+    }
+    
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+    
+    private static ZonedDateTime zoned(Instant instant) {
+        return instant != null ? instant.atZone(ZoneId.systemDefault()) : null;
+    }
+
+    @Transactional
+    public void deleteTask(Long taskId, String username) {
+        long start = System.nanoTime();
+        TaskMutationEvent event = new TaskMutationEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            doDeleteTask(taskId, username);
+            success = true;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.DELETE, start, success);
+            commitMutationEvent(event, TaskOperation.DELETE, taskId, username, success);
         }
-        if (request.getPriority() != null) {
-            task.setPriority(TaskPriority.valueOf(request.getPriority()));
+    }
+    
+    private static void commitMutationEvent(TaskMutationEvent event, TaskOperation operation, Long taskId,
+                                            String username, boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.taskId = taskId != null ? taskId : -1;
+            event.username = username;
+            event.success = success;
+            event.commit();
         }
-        return statusChanged;
     }
     
-    private boolean handleAssigneeUpdate(Task task, TaskRequest request, User user) {
-        if (request.getAssignedTo() != null && task.getCreatedBy().equals(user)) {
-            User newAssignee = userRepository.findById(request.getAssignedTo())
-                    .orElseThrow(() -> new UserNotFoundException(request.getAssignedTo()));
-            
-            boolean assigneeChanged = !task.getAssignedTo().equals(newAssignee);
-            task.setAssignedTo(newAssignee);
-            return assigneeChanged;
-        }        return false;
-    }    @Transactional
-    public void deleteTask(Long taskId, String username) {
+    private void doDeleteTask(Long taskId, String username) {
         log.debug("Deleting task {} by user '{}'", taskId, username);
         
+        // Only the creator's delete matches; the returned row is what the notifications need
+        DeletedTask row = taskRepository.deleteIfPermitted(taskId, username)
+                .orElseThrow(() -> missingOrForbidden(taskId, username, "delete"));
+        
+        log.debug("Task {} deleted successfully", taskId);
+        
+        businessLog.info("TASK_DELETED: id={}, title='{}', deletedBy={}", 
+            taskId, row.getTitle(), username);
+        
+        // Use direct notification service for immediate Redis publishing
+        directNotificationService.publishTaskDeleted(taskId, row.getTitle(),
+                user(row.getCreatedById(), row.getCreatedByUsername()),
+                user(row.getAssignedToId(), row.getAssignedToUsername()));
+    }
+
+    @Transactional
+    public TaskBatchResponse applyBatch(TaskBatchRequest request, String username) {
+        long start = System.nanoTime();
+        TaskMutationEvent event = new TaskMutationEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            TaskBatchResponse response = doApplyBatch(request.getOperations(), username);
+            success = true;
+            return response;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.BATCH, start, success);
+            commitMutationEvent(event, TaskOperation.BATCH, null, username, success);
+        }
+    }
+    
+    /**
+     * Apply all operations in one transaction, in request order; any failure rolls back the batch.
+     * Tasks and assignees are read in one query each, and the writes go out in a single flush as
+     * JDBC batches.
+     */
+    private TaskBatchResponse doApplyBatch(List<TaskBatchOperation> operations, String username) {
+        if (operations.size() > batchProperties.getMaxOperations()) {
+            throw new IllegalArgumentException(
+                    "A batch may hold at most " + batchProperties.getMaxOperations() + " operations");
+        }
+        log.debug("Applying batch of {} operations for user '{}'", operations.size(), username);
+        
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("username", username));
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException(taskId));
+        Map<Long, Task> tasks = loadBatchTasks(operations);
+        Map<Long, User> assignees = loadBatchAssignees(operations);
         
-        permissionHelper.validateDeletePermission(task, user);
+        List<Task> created = new ArrayList<>();
+        List<Task> deleted = new ArrayList<>();
+        Set<Long> updated = new HashSet<>();
+        Task[] results = new Task[operations.size()];
+        BatchFanOut fanOut = new BatchFanOut();
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBatchOperation operation = operations.get(i);
+            switch (operation.getOp()) {
+                case CREATE -> {
+                    if (operation.getTitle() == null || operation.getTitle().isBlank()) {
+                        throw new IllegalArgumentException("Operation " + i + ": title is required");
+                    }
+                    User assignee = operation.getAssignedTo() != null ? assignees.get(operation.getAssignedTo()) : user;
+                    Task task = buildTaskFromOperation(operation, user, assignee);
+                    created.add(task);
+                    results[i] = task;
+                    fanOut.created(user, assignee);
+                }
+                case UPDATE -> {
+                    Task task = batchTask(tasks, operation);
+                    permissionHelper.validateUpdatePermission(task, user);
+                    User originalAssignee = task.getAssignedTo();
+                    TaskStatus originalStatus = task.getStatus();
+                    applyOperation(task, operation);
+                    if (operation.getAssignedTo() != null && permissionHelper.canReassign(task, user)) {
+                        task.setAssignedTo(assignees.get(operation.getAssignedTo()));
+                    }
+                    updated.add(task.getId());
+                    results[i] = task;
+                    fanOut.updated(task, user, originalAssignee, task.getStatus() != originalStatus,
+                            !task.getAssignedTo().equals(originalAssignee));
+                }
+                case DELETE -> {
+                    Task task = batchTask(tasks, operation);
+                    permissionHelper.validateDeletePermission(task, user);
+                    tasks.remove(task.getId());
+                    deleted.add(task);
+                    fanOut.deleted(task.getCreatedBy(), task.getAssignedTo());
+                }
+            }
+        }
         
-        // Store task info before deletion for notifications
-        String taskTitle = task.getTitle();
-        User creator = task.getCreatedBy();
-        User assignee = task.getAssignedTo();
+        // IDs come from the pooled sequence at persist time; nothing is written until the flush
+        taskRepository.saveAll(created);
+        taskRepository.deleteAll(deleted);
+        // The one flush of the batch: grouped INSERT, UPDATE and DELETE batches, and @PreUpdate
+        // versions set before the results are mapped
+        taskRepository.flush();
         
-        // Delete the task from database FIRST and flush to ensure it's committed
-        taskRepository.delete(task);
-        taskRepository.flush(); // Ensure the deletion is immediately flushed to the database
+        TaskBatchResponse response = new TaskBatchResponse();
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBatchResponse.Result result = new TaskBatchResponse.Result();
+            result.setOp(operations.get(i).getOp());
+            result.setId(results[i] != null ? results[i].getId() : operations.get(i).getId());
+            result.setTask(results[i] != null ? taskMapper.toResponse(results[i]) : null);
+            response.getResults().add(result);
+        }
         
-        log.debug("Task {} deleted successfully", taskId);
+        businessLog.info("TASK_BATCH: user={}, created={}, updated={}, deleted={}",
+                username, created.size(), updated.size(), deleted.size());
         
-        businessLog.info("TASK_DELETED: id={}, title='{}', deletedBy={}", 
-            taskId, taskTitle, username);
+        // One notification per recipient for the whole batch
+        directNotificationService.publishTaskBatch(fanOut);
         
-        // Use direct notification service for immediate Redis publishing after DB commit
-        directNotificationService.publishTaskDeleted(taskId, taskTitle, creator, assignee);
+        return response;
+    }
+    
+    private Map<Long, Task> loadBatchTasks(List<TaskBatchOperation> operations) {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBatchOperation operation = operations.get(i);
+            if (operation.getOp() != TaskBatchOperation.Op.CREATE) {
+                if (operation.getId() == null) {
+                    throw new IllegalArgumentException("Operation " + i + ": id is required");
+                }
+                ids.add(operation.getId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return taskRepository.findAllWithUsersByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+    
+    private Map<Long, User> loadBatchAssignees(List<TaskBatchOperation> operations) {
+        Set<Long> ids = operations.stream()
+                .map(TaskBatchOperation::getAssignedTo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (Long id : ids) {
+            if (!users.containsKey(id)) {
+                throw new UserNotFoundException(id);
+            }
+        }
+        return users;
+    }
+    
+    /**
+     * The task an update or delete targets; deleted earlier in the batch counts as missing
+     */
+    private static Task batchTask(Map<Long, Task> tasks, TaskBatchOperation operation) {
+        Task task = tasks.get(operation.getId());
+        if (task == null) {
+            throw new TaskNotFoundException(operation.getId());
+        }
+        return task;
+    }
+    
+    private static Task buildTaskFromOperation(TaskBatchOperation operation, User creator, User assignee) {
+        Task task = new Task();
+        applyOperation(task, operation);
+        task.setCreatedBy(creator);
+        task.setAssignedTo(assignee);
+        return task;
+    }
+    
+    /**
+     * Set the fields the operation carries, keeping the rest
+     */
+    private static void applyOperation(Task task, TaskBatchOperation operation) {
+        if (operation.getTitle() != null) {
+            task.setTitle(operation.getTitle());
+        }
+        if (operation.getDescription() != null) {
+            task.setDescription(operation.getDescription());
+        }
+        if (operation.getStatus() != null) {
+            task.setStatus(TaskStatus.valueOf(operation.getStatus()));
+        }
+        if (operation.getPriority() != null) {
+            task.setPriority(TaskPriority.valueOf(operation.getPriority()));
+        }
     }
 }
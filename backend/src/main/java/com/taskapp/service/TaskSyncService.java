@@ -0,0 +1,210 @@
+package com.taskapp.service;
+
+import com.taskapp.config.TaskChangesProperties;
+import com.taskapp.dto.TaskChangesResponse;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskSyncHorizon;
+import com.taskapp.entity.TaskTombstone;
+import com.taskapp.entity.User;
+import com.taskapp.exception.UserNotFoundException;
+import com.taskapp.mapper.TaskMapper;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.TaskSyncHorizonRepository;
+import com.taskapp.repository.TaskTombstoneRepository;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.service.TaskAppMetrics.TaskOperation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Delta sync: the tasks a user created or is assigned that changed after a feed position, and the
+ * ones that left their view, in feed order. Every task write and tombstone records the
+ * transaction that wrote it and a version from one database sequence (db/init/02_task_changes.sql);
+ * the feed is ordered by (transaction, version), so a reconnecting client reads O(changes) rows
+ * instead of its whole list.
+ * <p>
+ * A change only becomes visible when its transaction commits, and transactions commit in any
+ * order. The feed therefore stops below the oldest transaction still running: everything under it
+ * is final, and anything written later sorts after it. Taking that horizon from the database's own
+ * snapshot makes it independent of how long write transactions run and of clock skew.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSyncService {
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskSyncHorizonRepository horizonRepository;
+    private final UserRepository userRepository;
+    private final TaskMapper taskMapper;
+    private final TaskChangesProperties properties;
+    private final TaskAppMetrics metrics;
+
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getChanges(String username, String since, Integer limit) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            TaskChangesResponse response = doGetChanges(username, since, limit);
+            success = true;
+            return response;
+        } finally {
+            metrics.recordTaskOperation(TaskOperation.CHANGES, start, success);
+        }
+    }
+
+    private TaskChangesResponse doGetChanges(String username, String since, Integer requestedLimit) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("username", username));
+        int limit = requestedLimit == null || requestedLimit <= 0
+                ? properties.getDefaultLimit() : Math.min(requestedLimit, properties.getMaxLimit());
+
+        TaskChangesResponse response = new TaskChangesResponse();
+        response.setNextSince(since == null || since.isEmpty() ? FeedPosition.START.toString() : since);
+        FeedPosition position = FeedPosition.parse(since);
+        long purgedThroughXid = horizonRepository.findById(TaskSyncHorizon.ID)
+                .map(TaskSyncHorizon::getPurgedThroughXid)
+                .orElse(0L);
+        if (position == null || (!position.isStart() && position.xid() <= purgedThroughXid)) {
+            log.debug("Change feed reset for user '{}': since {} is before purged transaction {}", username, since,
+                    purgedThroughXid);
+            response.setResetRequired(true);
+            return response;
+        }
+
+        // Read first: changes below it are final whatever this transaction's later snapshots see
+        long horizon = taskRepository.findOldestRunningXid();
+        // Both in feed order; one row past the limit tells whether more remain
+        List<Task> tasks = taskRepository.findChangedSince(user.getId(), position.xid(), position.version(), limit + 1);
+        List<TaskTombstone> tombstones = tombstoneRepository.findChangedSince(user.getId(), position.xid(),
+                position.version(), Limit.of(limit + 1));
+        merge(response, tasks, tombstones, limit, horizon);
+        return response;
+    }
+
+    /**
+     * Walk both lists in feed order up to the limit, stopping at the first change written by a
+     * transaction at or above the horizon. A task changed several times in the range ends up in
+     * one list, by its last change.
+     */
+    private void merge(TaskChangesResponse response, List<Task> tasks, List<TaskTombstone> tombstones, int limit,
+                       long horizon) {
+        Map<Long, TaskResponse> upserts = new LinkedHashMap<>();
+        Set<Long> deletions = new LinkedHashSet<>();
+        int nextTask = 0;
+        int nextTombstone = 0;
+        int taken = 0;
+        while (nextTask < tasks.size() || nextTombstone < tombstones.size()) {
+            if (taken == limit) {
+                response.setHasMore(true);
+                break;
+            }
+            FeedPosition taskPosition = nextTask < tasks.size() ? FeedPosition.of(tasks.get(nextTask)) : null;
+            FeedPosition tombstonePosition = nextTombstone < tombstones.size()
+                    ? FeedPosition.of(tombstones.get(nextTombstone)) : null;
+            boolean isTask = tombstonePosition == null
+                    || (taskPosition != null && taskPosition.compareTo(tombstonePosition) < 0);
+            FeedPosition next = isTask ? taskPosition : tombstonePosition;
+            if (next.xid() >= horizon) {
+                response.setPending(true);
+                break;
+            }
+            if (isTask) {
+                Task task = tasks.get(nextTask++);
+                deletions.remove(task.getId());
+                upserts.remove(task.getId());
+                upserts.put(task.getId(), taskMapper.toResponse(task));
+            } else {
+                TaskTombstone tombstone = tombstones.get(nextTombstone++);
+                upserts.remove(tombstone.getTaskId());
+                deletions.add(tombstone.getTaskId());
+            }
+            response.setNextSince(next.toString());
+            taken++;
+        }
+        response.setUpserts(new ArrayList<>(upserts.values()));
+        response.setDeletions(new ArrayList<>(deletions));
+    }
+
+    /**
+     * Drop tombstones past their retention and move the horizon up to them
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.changes.purge-interval:1h}",
+            initialDelayString = "${app.tasks.changes.purge-interval:1h}")
+    @Transactional
+    public void purgeTombstones() {
+        ZonedDateTime cutoff = ZonedDateTime.now().minus(properties.getTombstoneRetention());
+        tombstoneRepository.findMaxChangeXidDeletedBefore(cutoff).ifPresent(xid -> {
+            TaskSyncHorizon horizon = horizonRepository.findById(TaskSyncHorizon.ID).orElseGet(() -> {
+                TaskSyncHorizon created = new TaskSyncHorizon();
+                created.setId(TaskSyncHorizon.ID);
+                return created;
+            });
+            horizon.setPurgedThroughXid(Math.max(horizon.getPurgedThroughXid(), xid));
+            horizonRepository.save(horizon);
+            int purged = tombstoneRepository.deleteThrough(xid);
+            log.info("Purged {} task tombstones through transaction {}", purged, xid);
+        });
+    }
+
+    /**
+     * A position in the feed, written "xid:version" for clients; "0" is the start. Anything else,
+     * such as a bare change version from before the feed was ordered by transaction, parses to null.
+     */
+    record FeedPosition(long xid, long version) implements Comparable<FeedPosition> {
+
+        static final FeedPosition START = new FeedPosition(0, 0);
+
+        static FeedPosition of(Task task) {
+            return new FeedPosition(task.getChangeXid(), task.getChangeVersion());
+        }
+
+        static FeedPosition of(TaskTombstone tombstone) {
+            return new FeedPosition(tombstone.getChangeXid(), tombstone.getChangeVersion());
+        }
+
+        static FeedPosition parse(String value) {
+            if (value == null || value.isEmpty() || value.equals("0")) {
+                return START;
+            }
+            int colon = value.indexOf(':');
+            if (colon < 0) {
+                return null;
+            }
+            try {
+                return new FeedPosition(Long.parseLong(value.substring(0, colon)), Long.parseLong(value.substring(colon + 1)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        boolean isStart() {
+            return xid == 0 && version == 0;
+        }
+
+        @Override
+        public int compareTo(FeedPosition other) {
+            int byXid = Long.compare(xid, other.xid);
+            return byXid != 0 ? byXid : Long.compare(version, other.version);
+        }
+
+        @Override
+        public String toString() {
+            return isStart() ? "0" : xid + ":" + version;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.taskapp.service;
+
+import com.taskapp.config.TaskWriteCombinerProperties;
+import com.taskapp.dto.TaskRequest;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.mapper.TaskMapper;
+import com.taskapp.service.TaskAppMetrics.TaskOperation;
+import com.taskapp.service.TaskService.GroupedCreate;
+import com.taskapp.service.TaskService.GroupedCreateResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group commit for task creation (app.tasks.write-combiner.enabled). Creations arriving within
+ * the linger window, or until a group is full, share one transaction and one batched insert,
+ * so a burst pays one commit and fsync per group instead of one per request. Callers wait for
+ * their own task, or for the exception the single-request path would have thrown.
+ *
+ * One writer thread forms and commits the groups: while a group commits, the next one fills.
+ * Requests wait outside any transaction, so a waiting request holds no connection. When the
+ * combiner is off, stopped or its queue is full, creations go straight to TaskService, and
+ * likewise once the writer has died. A caller waits at most app.tasks.write-combiner.await-timeout.
+ */
+@Service
+@Slf4j
+public class TaskWriteCombiner implements SmartLifecycle {
+
+    private final TaskService taskService;
+    private final DirectNotificationService directNotificationService;
+    private final TaskMapper taskMapper;
+    private final TaskAppMetrics metrics;
+    private final TaskWriteCombinerProperties properties;
+    private final BlockingQueue<PendingCreate> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public TaskWriteCombiner(TaskService taskService, DirectNotificationService directNotificationService,
+                             TaskMapper taskMapper, TaskAppMetrics metrics, TaskWriteCombinerProperties properties) {
+        this.taskService = taskService;
+        this.directNotificationService = directNotificationService;
+        this.taskMapper = taskMapper;
+        this.metrics = metrics;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    /**
+     * Create a task, in a shared transaction when the combiner is running
+     */
+    public TaskResponse createTask(TaskRequest request, String creatorUsername) {
+        if (!running) {
+            return taskService.createTask(request, creatorUsername);
+        }
+        PendingCreate pending = new PendingCreate(new GroupedCreate(request, creatorUsername), System.nanoTime());
+        // Stopped in between: take it back unless the writer already has it
+        if (!queue.offer(pending) || (!running && queue.remove(pending))) {
+            return taskService.createTask(request, creatorUsername);
+        }
+        long timeoutNanos = properties.getAwaitTimeout().toNanos();
+        try {
+            return pending.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Task creation failed", e.getCause());
+        } catch (TimeoutException e) {
+            // Never picked up: safe to run here. Otherwise the writer has it and the outcome is unknown
+            if (queue.remove(pending)) {
+                return taskService.createTask(request, creatorUsername);
+            }
+            throw new IllegalStateException("Task creation did not complete within " + properties.getAwaitTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for task creation", e);
+        }
+    }
+
+    private void runWriter() {
+        try {
+            formGroups();
+        } finally {
+            // However the writer ends, new requests go straight to TaskService and none is left waiting
+            running = false;
+            PendingCreate left;
+            while ((left = queue.poll()) != null) {
+                runAlone(left);
+            }
+        }
+    }
+
+    private void formGroups() {
+        long lingerNanos = properties.getLinger().toNanos();
+        int maxBatch = Math.max(1, properties.getMaxBatch());
+        List<PendingCreate> group = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (group.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                commit(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Throwable e) {
+                log.error("Task write combiner failed on a group of {}: {}", group.size(), e.getMessage(), e);
+                if (e instanceof Error) {
+                    // The writer cannot be trusted past an Error: stop taking requests before failing the group
+                    running = false;
+                }
+                group.forEach(pending -> pending.result.completeExceptionally(e));
+                if (e instanceof Error error) {
+                    throw error;
+                }
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    void commit(List<PendingCreate> group) {
+        List<GroupedCreate> creations = group.stream().map(PendingCreate::creation).toList();
+        List<GroupedCreateResult> results;
+        try {
+            results = taskService.createTaskGroup(creations);
+        } catch (RuntimeException e) {
+            // The shared transaction failed as a whole; each caller gets its own and its own outcome
+            log.warn("Group of {} task creations failed ({}), retrying each on its own", group.size(), e.getMessage());
+            group.forEach(this::runAlone);
+            return;
+        }
+        metrics.recordWriteGroup(group.size());
+
+        for (int i = 0; i < group.size(); i++) {
+            PendingCreate pending = group.get(i);
+            GroupedCreateResult result = results.get(i);
+            if (result.error() != null) {
+                metrics.recordTaskOperation(TaskOperation.CREATE, pending.startNanos, false);
+                pending.result.completeExceptionally(result.error());
+                continue;
+            }
+            try {
+                directNotificationService.publishTaskCreated(result.task(), result.creator(), result.assignee());
+            } catch (RuntimeException e) {
+                // Committed already; a lost notification must not fail the creation
+                log.error("Failed to publish TASK_CREATED for task {}: {}", result.task().getId(), e.getMessage(), e);
+            }
+            metrics.recordTaskOperation(TaskOperation.CREATE, pending.startNanos, true);
+            pending.result.complete(taskMapper.toResponse(result.task()));
+        }
+    }
+
+    private void runAlone(PendingCreate pending) {
+        try {
+            pending.result.complete(taskService.createTask(pending.creation.request(), pending.creation.creatorUsername()));
+        } catch (Throwable e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().daemon().name("task-write-combiner").start(this::runWriter);
+        log.info("Task write combiner started (linger {} ms, max batch {})",
+                properties.getLinger().toMillis(), properties.getMaxBatch());
+    }
+
+    @Override
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        // New requests go straight to TaskService; the writer finishes what is queued
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            writer.interrupt();
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop only after the web server's graceful shutdown has let in-flight requests finish
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    record PendingCreate(GroupedCreate creation, long startNanos, CompletableFuture<TaskResponse> result) {
+        PendingCreate(GroupedCreate creation, long startNanos) {
+            this(creation, startNanos, new CompletableFuture<>());
+        }
+    }
+}
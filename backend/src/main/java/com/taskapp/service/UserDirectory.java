@@ -0,0 +1,237 @@
+package com.taskapp.service;
+
+import com.taskapp.config.UserDirectoryProperties;
+import com.taskapp.dto.UserRegisteredEvent;
+import com.taskapp.messaging.MessagePublisher;
+import com.taskapp.messaging.config.MessagingProperties;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.repository.UserRepository.DirectoryRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Per-pod index of every username and id, sorted case-insensitively so that the users matching a
+ * prefix are one contiguous run found by binary search. It is loaded from the database before the
+ * web server starts and kept current by the registrations published on the user-directory topic,
+ * this pod's own included. Reads take the current snapshot without locking; a registration
+ * replaces it with a copy one entry longer.
+ * <p>
+ * Users are never renamed or deleted. A reload every app.users.directory.reload-interval adds any
+ * registration whose message this pod missed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserDirectory implements SmartLifecycle {
+
+    private final UserRepository userRepository;
+    private final MessagePublisher messagePublisher;
+    private final MessagingProperties messagingProperties;
+    private final UserDirectoryProperties properties;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        load();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Load before the web server starts taking requests
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Scheduled(fixedDelayString = "${app.users.directory.reload-interval:10m}",
+            initialDelayString = "${app.users.directory.reload-interval:10m}")
+    public void reload() {
+        try {
+            load();
+        } catch (Exception e) {
+            log.warn("User directory reload failed, keeping {} users: {}", size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Add a newly registered user here and tell the other pods
+     */
+    public void publishRegistration(Long id, String username) {
+        add(id, username);
+        try {
+            messagePublisher.publishMessage(messagingProperties.getTopics().getUserDirectory(),
+                    new UserRegisteredEvent(id, username));
+        } catch (Exception e) {
+            // Other pods list the user after their next reload
+            log.warn("Failed to publish registration of user '{}': {}", username, e.getMessage());
+        }
+    }
+
+    /**
+     * Add a user unless already listed
+     */
+    public synchronized void add(long id, String username) {
+        Snapshot current = snapshot;
+        int index = current.lowerBound(key(username), username);
+        if (index < current.size() && current.usernames[index].equals(username)) {
+            return;
+        }
+        snapshot = current.insert(index, id, username);
+    }
+
+    /**
+     * Up to limit users whose username starts with prefix, ignoring case, that sort after the
+     * username afterUsername (null for the first page)
+     */
+    public List<Entry> page(String prefix, String afterUsername, int limit) {
+        Snapshot current = snapshot;
+        String prefixKey = key(prefix);
+        int from = current.lowerBound(prefixKey, "");
+        if (afterUsername != null) {
+            int after = current.lowerBound(key(afterUsername), afterUsername);
+            if (after < current.size() && current.usernames[after].equals(afterUsername)) {
+                after++;
+            }
+            from = Math.max(from, after);
+        }
+        List<Entry> entries = new ArrayList<>(Math.min(limit, current.size() - from));
+        for (int i = from; i < current.size() && entries.size() < limit && current.keys[i].startsWith(prefixKey); i++) {
+            entries.add(new Entry(current.ids[i], current.usernames[i]));
+        }
+        return entries;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        int pageSize = properties.getLoadPageSize();
+        List<Entry> loaded = new ArrayList<>();
+        long afterId = 0;
+        List<DirectoryRow> rows;
+        do {
+            rows = userRepository.findDirectoryPage(afterId, Limit.of(pageSize));
+            for (DirectoryRow row : rows) {
+                loaded.add(new Entry(row.getId(), row.getUsername()));
+                afterId = row.getId();
+            }
+        } while (rows.size() == pageSize);
+
+        synchronized (this) {
+            // Keep every listed user: registrations are published only after they commit and users
+            // are never deleted, so an entry the load did not return committed after its page was read
+            Snapshot current = snapshot;
+            for (int i = 0; i < current.size(); i++) {
+                loaded.add(new Entry(current.ids[i], current.usernames[i]));
+            }
+            snapshot = Snapshot.of(loaded);
+        }
+        log.info("Loaded {} users into the directory in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    static String key(String username) {
+        // Returns the same instance when already lower case, so most keys cost nothing
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    public record Entry(long id, String username) {
+    }
+
+    /**
+     * Parallel arrays ordered by (lower-case username, username); usernames are unique, so the
+     * order is total and a username alone marks a position
+     */
+    private record Snapshot(String[] keys, String[] usernames, long[] ids) {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new long[0]);
+
+        static Snapshot of(List<Entry> entries) {
+            Entry[] sorted = entries.toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparing((Entry entry) -> key(entry.username()))
+                    .thenComparing(Entry::username));
+            String[] keys = new String[sorted.length];
+            String[] usernames = new String[sorted.length];
+            long[] ids = new long[sorted.length];
+            int size = 0;
+            for (Entry entry : sorted) {
+                if (size > 0 && usernames[size - 1].equals(entry.username())) {
+                    continue;
+                }
+                keys[size] = key(entry.username());
+                usernames[size] = entry.username();
+                ids[size] = entry.id();
+                size++;
+            }
+            return new Snapshot(Arrays.copyOf(keys, size), Arrays.copyOf(usernames, size), Arrays.copyOf(ids, size));
+        }
+
+        int size() {
+            return usernames.length;
+        }
+
+        /**
+         * Index of the first entry at or after (key, username)
+         */
+        int lowerBound(String key, String username) {
+            int low = 0;
+            int high = usernames.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int cmp = keys[mid].compareTo(key);
+                if (cmp == 0) {
+                    cmp = usernames[mid].compareTo(username);
+                }
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        Snapshot insert(int index, long id, String username) {
+            return new Snapshot(inserted(keys, index, key(username)), inserted(usernames, index, username),
+                    inserted(ids, index, id));
+        }
+
+        private static String[] inserted(String[] values, int index, String value) {
+            String[] copy = new String[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, index);
+            copy[index] = value;
+            System.arraycopy(values, index, copy, index + 1, values.length - index);
+            return copy;
+        }
+
+        private static long[] inserted(long[] values, int index, long value) {
+            long[] copy = new long[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, index);
+            copy[index] = value;
+            System.arraycopy(values, index, copy, index + 1, values.length - index);
+            return copy;
+        }
+    }
+}
@@ -1,27 +1,83 @@
 package com.taskapp.service;
 
+import com.taskapp.config.UserDirectoryProperties;
+import com.taskapp.dto.UserDirectoryResponse;
 import com.taskapp.dto.UserResponse;
-import com.taskapp.entity.User;
 import com.taskapp.repository.UserRepository;
+import com.taskapp.repository.UserRepository.UserRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
+    private final UserDirectoryProperties properties;
 
+    /**
+     * The first app.users.directory.legacy-list-limit users by id, with their email
+     *
+     * @deprecated page the directory with getDirectory instead
+     */
+    @Deprecated
+    @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(this::mapToUserResponse)
-                .collect(Collectors.toList());
+        List<UserResponse> users = new ArrayList<>();
+        for (UserRow row : userRepository.findUserPage(0, Limit.of(properties.getLegacyListLimit()))) {
+            users.add(mapToUserResponse(row));
+        }
+        return users;
     }
 
-    private UserResponse mapToUserResponse(User user) {
+    /**
+     * A page of usernames starting with prefix, ignoring case, from this pod's directory
+     */
+    public UserDirectoryResponse getDirectory(String prefix, String cursor, Integer requestedLimit) {
+        int limit = requestedLimit == null || requestedLimit <= 0
+                ? properties.getDefaultLimit() : Math.min(requestedLimit, properties.getMaxLimit());
+        String afterUsername = cursor != null && !cursor.isEmpty() ? decodeCursor(cursor) : null;
+
+        // One entry past the limit tells whether another page follows
+        List<UserDirectory.Entry> entries = userDirectory.page(prefix != null ? prefix.trim() : "", afterUsername, limit + 1);
+
+        UserDirectoryResponse response = new UserDirectoryResponse();
+        for (UserDirectory.Entry entry : entries.subList(0, Math.min(entries.size(), limit))) {
+            response.getUsers().add(new UserDirectoryResponse.Entry(entry.id(), entry.username()));
+        }
+        if (entries.size() > limit) {
+            response.setNextCursor(encodeCursor(entries.get(limit - 1).username()));
+        }
+        return response;
+    }
+
+    /**
+     * The last username of the page; unique, so it alone marks where the next page starts
+     */
+    static String encodeCursor(String username) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(username.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decodeCursor(String cursor) {
+        try {
+            String username = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!username.isEmpty()) {
+                return username;
+            }
+        } catch (IllegalArgumentException e) {
+            // Bad Base64; reported below like any other malformed cursor
+        }
+        throw new IllegalArgumentException("Invalid user cursor");
+    }
+
+    private UserResponse mapToUserResponse(UserRow user) {
         UserResponse response = new UserResponse();
         response.setId(user.getId());
         response.setUsername(user.getUsername());
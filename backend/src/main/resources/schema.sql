@@ -0,0 +1,4 @@
+-- Run by spring.sql.init on every start, before Hibernate checks the task ID sequence against
+-- Task.id's allocationSize. Databases created before db/init/03_task_batch.sql get its
+-- increment here instead of failing to boot; on any other database this changes nothing.
+ALTER SEQUENCE IF EXISTS tasks_id_seq INCREMENT BY 50;
@@ -0,0 +1,120 @@
+package com.taskapp.reactive;
+
+import com.taskapp.config.SseProperties;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.messaging.config.MessagingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ReactiveNotificationStreams replay and live delivery semantics and per-user cleanup.
+ */
+class ReactiveNotificationStreamsTest {
+
+    private ReactiveNotificationStreams streams;
+
+    @BeforeEach
+    void setUp() {
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.setReplayBufferSize(3);
+        streams = new ReactiveNotificationStreams(sseProperties, new MessagingProperties());
+    }
+
+    @Test
+    @DisplayName("Should replay events after Last-Event-ID before live events")
+    void testReplayThenLive() {
+        // Another open stream of the user keeps the buffer on this pod
+        Disposable other = streams.subscribe("user1", null).subscribe();
+        NotificationEvent first = event("user1");
+        NotificationEvent second = event("user1");
+        NotificationEvent third = event("user1");
+        streams.publish("user1", first);
+        streams.publish("user1", second);
+        streams.publish("user1", third);
+
+        NotificationEvent live = event("user1");
+
+        StepVerifier.create(streams.subscribe("user1", first.getId()))
+                .expectNext(second, third)
+                .then(() -> streams.publish("user1", live))
+                .expectNext(live)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+        other.dispose();
+    }
+
+    @Test
+    @DisplayName("Should only deliver live events without Last-Event-ID")
+    void testLiveOnlyWithoutLastEventId() {
+        streams.publish("user1", event("user1"));
+        NotificationEvent live = event("user1");
+
+        StepVerifier.create(streams.subscribe("user1", null))
+                .then(() -> streams.publish("user1", live))
+                .expectNext(live)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should keep users isolated and bound the replay buffer")
+    void testIsolationAndReplayBound() {
+        Disposable user1 = streams.subscribe("user1", null).subscribe();
+        Disposable user2 = streams.subscribe("user2", null).subscribe();
+        for (int i = 0; i < 5; i++) {
+            streams.publish("user1", event("user1"));
+        }
+        streams.publish("user2", event("user2"));
+
+        assertEquals(3, streams.getRecentNotificationCount("user1"));
+        assertEquals(1, streams.getRecentNotificationCount("user2"));
+        assertEquals(0, streams.getRecentNotificationCount("user3"));
+        user1.dispose();
+        user2.dispose();
+    }
+
+    @Test
+    @DisplayName("Should drop a user's sink and buffer once their last stream closes")
+    void testLastStreamReleasesUser() {
+        Disposable first = streams.subscribe("user1", null).subscribe();
+        Disposable second = streams.subscribe("user1", null).subscribe();
+        streams.publish("user1", event("user1"));
+
+        first.dispose();
+        assertEquals(1, streams.getRecentNotificationCount("user1"));
+
+        second.dispose();
+        assertEquals(0, streams.getRecentNotificationCount("user1"));
+        streams.publish("user1", event("user1"));
+        assertEquals(0, streams.getRecentNotificationCount("user1"));
+
+        NotificationEvent live = event("user1");
+        StepVerifier.create(streams.subscribe("user1", null))
+                .then(() -> streams.publish("user1", live))
+                .expectNext(live)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should track open streams and release them on cancel")
+    void testActiveConnectionCount() {
+        StepVerifier.create(streams.subscribe("user1", null))
+                .then(() -> assertEquals(1, streams.getActiveConnectionCount()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(0, streams.getActiveConnectionCount());
+    }
+
+    private NotificationEvent event(String username) {
+        return NotificationEvent.create("TASK_UPDATED", "Task updated: test", username);
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskapp.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.config.CorsProperties;
+import com.taskapp.config.SseProperties;
+import com.taskapp.controller.NotificationController.NotificationStatus;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+
+/**
+ * Notification stream on WebFlux/Reactor Netty, active with the stream-reactive profile.
+ * Same contract as NotificationController: token from the Authorization header or the
+ * token parameter, Last-Event-ID from the header or the lastEventId parameter.
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveNotificationController {
+
+    private final ReactiveNotificationStreams notificationStreams;
+    private final ReactiveRedisNotificationRelay notificationRelay;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CorsProperties corsProperties;
+    private final SseProperties sseProperties;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<String>>> streamNotifications(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "token", required = false) String tokenParam,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+            ServerHttpRequest request) {
+        // Use Last-Event-ID from header first, then from URL parameter
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+
+        String token;
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            token = authHeader.substring(7);
+        } else if (tokenParam != null && !tokenParam.trim().isEmpty()) {
+            token = tokenParam.trim();
+        } else {
+            log.error("Missing token in both Authorization header and URL parameter");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        String username;
+        try {
+            username = jwtTokenProvider.getUsernameFromToken(token);
+        } catch (Exception e) {
+            log.debug("Rejected reactive SSE connection with invalid token: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_EVENT_STREAM);
+        headers.setCacheControl("no-cache");
+        headers.set("X-Accel-Buffering", "no"); // Disable nginx buffering
+
+        // Set CORS headers dynamically based on request origin
+        String origin = request.getHeaders().getOrigin();
+        if (origin != null && Arrays.asList(corsProperties.getAllowedOrigins()).contains(origin)) {
+            headers.set("Access-Control-Allow-Origin", origin);
+            headers.set("Access-Control-Allow-Credentials", String.valueOf(corsProperties.isAllowCredentials()));
+            headers.set("Access-Control-Expose-Headers", "Content-Type");
+        }
+
+        ServerSentEvent<String> connected = ServerSentEvent.<String>builder()
+                .event("connected")
+                .data("{\"status\":\"connected\"}")
+                .build();
+
+        Flux<ServerSentEvent<String>> notifications = notificationStreams.subscribe(username, lastEventId)
+                .handle((notification, sink) -> {
+                    ServerSentEvent<String> event = toEvent(notification);
+                    if (event != null) {
+                        sink.next(event);
+                    }
+                });
+
+        Flux<ServerSentEvent<String>> heartbeats = Flux.interval(sseProperties.getHeartbeat().getInterval())
+                .map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build());
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(Flux.concat(Flux.just(connected), Flux.merge(notifications, heartbeats)));
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<NotificationStatus> getStatus() {
+        return ResponseEntity.ok(new NotificationStatus(
+                notificationStreams.getActiveConnectionCount(), notificationRelay.isHealthy()));
+    }
+
+    private ServerSentEvent<String> toEvent(NotificationEvent notification) {
+        try {
+            return ServerSentEvent.<String>builder()
+                    .id(notification.getId())
+                    .event("notification")
+                    .data(objectMapper.writerWithView(NotificationEvent.Views.Client.class).writeValueAsString(notification))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize notification {}: {}", notification.getId(), e.getMessage());
+            return null;
+        }
+    }
+}
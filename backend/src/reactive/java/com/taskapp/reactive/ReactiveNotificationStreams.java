@@ -0,0 +1,153 @@
+package com.taskapp.reactive;
+
+import com.taskapp.config.SseProperties;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.messaging.config.MessagingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-user notification sinks for the reactive stream endpoint.
+ * Reactive counterpart of SSEConnectionManager: one multicast sink per user fans out to
+ * every open stream of that user, and a bounded replay buffer serves Last-Event-ID.
+ * A user's sink and buffer exist only while the user has a stream open on this pod, so a
+ * reconnect to a pod where the user has no other stream replays nothing.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveNotificationStreams {
+
+    private final SseProperties sseProperties;
+    private final MessagingProperties messagingProperties;
+
+    private final ConcurrentHashMap<String, UserStream> userStreams = new ConcurrentHashMap<>();
+    private final AtomicInteger activeSubscribers = new AtomicInteger();
+
+    /**
+     * Open a stream for a user, replaying buffered events after lastEventId before live ones
+     */
+    public Flux<NotificationEvent> subscribe(String username, String lastEventId) {
+        int bufferSize = sseProperties.getReactive().getSubscriberBufferSize();
+
+        return Flux.defer(() -> {
+            // Counted under the map's lock for this user, so a concurrent last unsubscribe cannot
+            // remove the stream this subscriber is about to join
+            UserStream stream = userStreams.compute(username, (k, existing) -> {
+                UserStream joined = existing != null ? existing : new UserStream();
+                joined.subscribers++;
+                return joined;
+            });
+            ConnectableFlux<NotificationEvent> live = stream.sink.asFlux().publish(bufferSize);
+
+            // Connect and snapshot under the emit lock so nothing falls between replay and live
+            List<NotificationEvent> missed;
+            Disposable connection;
+            synchronized (stream) {
+                connection = live.connect();
+                missed = stream.eventsSince(lastEventId);
+            }
+
+            int total = activeSubscribers.incrementAndGet();
+            log.debug("Reactive SSE stream opened for user: {} on pod: {} (replay: {}, total streams: {})",
+                    username, messagingProperties.getPodId(), missed.size(), total);
+
+            return Flux.concat(Flux.fromIterable(missed), live)
+                    .onBackpressureBuffer(bufferSize,
+                            dropped -> log.debug("Dropped notification {} for slow stream of user {}",
+                                    dropped.getId(), username),
+                            BufferOverflowStrategy.DROP_OLDEST)
+                    .doFinally(signal -> {
+                        connection.dispose();
+                        userStreams.computeIfPresent(username, (k, current) ->
+                                current == stream && --current.subscribers == 0 ? null : current);
+                        activeSubscribers.decrementAndGet();
+                        log.debug("Reactive SSE stream closed for user: {} on pod: {} ({})",
+                                username, messagingProperties.getPodId(), signal);
+                    });
+        });
+    }
+
+    /**
+     * Buffer a notification for replay and push it to the user's open streams on this pod;
+     * dropped when the user has none
+     */
+    public void publish(String username, NotificationEvent notification) {
+        UserStream stream = userStreams.get(username);
+        if (stream == null) {
+            return;
+        }
+        synchronized (stream) {
+            stream.remember(notification, sseProperties.getReplayBufferSize());
+            Sinks.EmitResult result = stream.sink.tryEmitNext(notification);
+            if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                log.debug("Could not emit notification {} to user {}: {}", notification.getId(), username, result);
+            }
+        }
+    }
+
+    /**
+     * Get total open reactive streams on this pod
+     */
+    public int getActiveConnectionCount() {
+        return activeSubscribers.get();
+    }
+
+    /**
+     * Get recent notification count for a specific user
+     */
+    public int getRecentNotificationCount(String username) {
+        UserStream stream = userStreams.get(username);
+        if (stream == null) {
+            return 0;
+        }
+        synchronized (stream) {
+            return stream.recent.size();
+        }
+    }
+
+    private static class UserStream {
+        private final Sinks.Many<NotificationEvent> sink = Sinks.many().multicast().directBestEffort();
+        private final Deque<NotificationEvent> recent = new ArrayDeque<>();
+        // Open streams; changed only inside userStreams.compute and computeIfPresent
+        private int subscribers;
+
+        void remember(NotificationEvent notification, int capacity) {
+            recent.addLast(notification);
+            while (recent.size() > capacity) {
+                recent.removeFirst();
+            }
+        }
+
+        List<NotificationEvent> eventsSince(String lastEventId) {
+            List<NotificationEvent> missed = new ArrayList<>();
+            if (lastEventId == null || lastEventId.trim().isEmpty()) {
+                return missed;
+            }
+            boolean foundLastEvent = false;
+            for (NotificationEvent notification : recent) {
+                if (foundLastEvent) {
+                    missed.add(notification);
+                } else if (lastEventId.equals(notification.getId())) {
+                    foundLastEvent = true;
+                }
+            }
+            return missed;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskapp.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.messaging.config.MessagingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Subscribes to the user-notifications topic with the reactive Redis client and feeds
+ * ReactiveNotificationStreams. Replaces RedisMessageConsumer on reactive stream pods.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveRedisNotificationRelay implements SmartLifecycle {
+
+    private final ReactiveRedisConnectionFactory connectionFactory;
+    private final ReactiveNotificationStreams notificationStreams;
+    private final MessagingProperties messagingProperties;
+    private final ObjectMapper objectMapper;
+
+    private volatile Disposable subscription;
+    private volatile boolean subscribed;
+
+    @Override
+    public void start() {
+        String topic = messagingProperties.getTopics().getUserNotifications();
+
+        // Container creation connects eagerly, so build it per attempt and let retry cover outages
+        subscription = Flux.using(
+                        () -> new ReactiveRedisMessageListenerContainer(connectionFactory),
+                        container -> container.receiveLater(ChannelTopic.of(topic))
+                                .doOnNext(registered -> subscribed = true)
+                                .flatMapMany(messages -> messages),
+                        container -> container.destroyLater().subscribe())
+                .map(ReactiveSubscription.Message::getMessage)
+                .concatMap(this::parse)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(5))
+                        .doBeforeRetry(signal -> subscribed = false)
+                        .doBeforeRetry(signal -> log.warn("Reactive Redis subscription lost, retrying: {}",
+                                signal.failure().getMessage())))
+                .subscribe(notification -> notificationStreams.publish(notification.getUsername(), notification));
+
+        log.info("Reactive notification relay subscribed to topic: {} on pod: {}", topic, messagingProperties.getPodId());
+    }
+
+    private Mono<NotificationEvent> parse(String messageBody) {
+        try {
+            NotificationEvent notification = objectMapper.readValue(messageBody, NotificationEvent.class);
+            if (notification.getUsername() == null || notification.getUsername().trim().isEmpty()) {
+                log.warn("Received notification without username, skipping: {}", notification);
+                return Mono.empty();
+            }
+            return Mono.just(notification);
+        } catch (Exception e) {
+            log.error("Error processing Redis message: {}", e.getMessage(), e);
+            return Mono.empty();
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null && !subscription.isDisposed();
+    }
+
+    /**
+     * Check if the Redis subscription is active
+     */
+    public boolean isHealthy() {
+        return isRunning() && subscribed;
+    }
+}
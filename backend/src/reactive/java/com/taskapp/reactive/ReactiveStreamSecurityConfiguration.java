@@ -0,0 +1,79 @@
+package com.taskapp.reactive;
+
+import com.taskapp.security.CustomUserDetailsService;
+import com.taskapp.security.JwtTokenProvider;
+import com.taskapp.security.MetricsScrapeAuthorization;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Security for reactive stream pods. The stream endpoint authenticates its own token
+ * (header or query parameter); everything else needs a valid bearer JWT. Tokens are
+ * verified by signature and expiry only, so no user lookup blocks the event loop; admins come
+ * from app.admin.usernames.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveStreamSecurityConfiguration {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final MetricsScrapeAuthorization metricsScrapeAuthorization;
+    private final CustomUserDetailsService userDetailsService;
+
+    @Bean
+    public ReactiveAuthenticationManager jwtReactiveAuthenticationManager() {
+        return authentication -> Mono.<Authentication>fromCallable(() -> {
+                    String token = (String) authentication.getCredentials();
+                    String username = jwtTokenProvider.getUsernameFromToken(token);
+                    return new UsernamePasswordAuthenticationToken(
+                            username, token, userDetailsService.authorities(username));
+                })
+                .onErrorMap(e -> new BadCredentialsException("Invalid or expired token", e));
+    }
+
+    @Bean
+    public SecurityWebFilterChain streamSecurityFilterChain(ServerHttpSecurity http,
+                                                            ReactiveAuthenticationManager jwtReactiveAuthenticationManager) {
+        AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(jwtReactiveAuthenticationManager);
+        jwtFilter.setServerAuthenticationConverter(exchange -> {
+            String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (header == null || !header.startsWith("Bearer ")) {
+                return Mono.empty();
+            }
+            String token = header.substring(7);
+            return Mono.just(new UsernamePasswordAuthenticationToken(token, token));
+        });
+
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/api/notifications/stream").permitAll()
+                        .pathMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .pathMatchers("/actuator/jfr", "/actuator/jfr/**", "/actuator/ssememory", "/actuator/ssememory/**").hasRole("ADMIN")
+                        .pathMatchers("/actuator/prometheus").access((authentication, context) -> Mono.just(
+                                new AuthorizationDecision(metricsScrapeAuthorization.isAuthorized(
+                                        context.getExchange().getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION)))))
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskapp.actuator;
+
+import com.taskapp.config.JfrProperties;
+import com.taskapp.jfr.SseWriteEvent;
+import com.taskapp.jfr.TaskMutationEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for JfrRecordingEndpoint start/stop and event thresholds.
+ */
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should record TaskApp events above their thresholds and dump them on stop")
+    void testStartStopRecordsEvents() throws Exception {
+        JfrProperties properties = new JfrProperties();
+        properties.setDirectory(directory.toString());
+        properties.setIncludeJdkDefaults(false);
+        JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint(properties);
+
+        assertEquals("RUNNING", endpoint.start().get("state"));
+
+        TaskMutationEvent mutation = new TaskMutationEvent();
+        mutation.operation = "CREATE";
+        mutation.taskId = 42;
+        mutation.commit();
+
+        // Under the 5 ms default SSE write threshold: dropped
+        SseWriteEvent fastWrite = new SseWriteEvent();
+        fastWrite.begin();
+        fastWrite.notificationId = "fast";
+        fastWrite.commit();
+
+        SseWriteEvent slowWrite = new SseWriteEvent();
+        slowWrite.begin();
+        Thread.sleep(10);
+        slowWrite.notificationId = "slow";
+        slowWrite.bytes = SseWriteEvent.utf8Length("héllo");
+        slowWrite.commit();
+
+        Map<String, Object> stopped = endpoint.stop();
+        assertEquals("NONE", endpoint.status().get("state"));
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of((String) stopped.get("file")));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.taskapp.TaskMutation")
+                && event.getLong("taskId") == 42));
+        List<RecordedEvent> writes = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.taskapp.SseWrite"))
+                .toList();
+        assertEquals(1, writes.size());
+        assertEquals("slow", writes.get(0).getString("notificationId"));
+        assertEquals(6, writes.get(0).getLong("bytes"));
+    }
+}
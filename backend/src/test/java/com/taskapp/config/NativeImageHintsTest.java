@@ -0,0 +1,51 @@
+package com.taskapp.config;
+
+import com.taskapp.entity.Task;
+import com.taskapp.messaging.PubSubMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the native-image reachability hints.
+ */
+class NativeImageHintsTest {
+
+    private final RuntimeHints hints = registeredHints();
+
+    @Test
+    @DisplayName("Should let Jackson construct and call the PubSubMessage builder")
+    void testPubSubMessageBuilder() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(PubSubMessage.PubSubMessageBuilder.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS)
+                .test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register entity fields for Hibernate")
+    void testEntities() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Task.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should only name jjwt classes that exist on the classpath")
+    void testJjwtImplementationsResolve() {
+        for (String type : NativeImageHints.JJWT_IMPLEMENTATIONS) {
+            assertDoesNotThrow(() -> Class.forName(type), type);
+            assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type))
+                    .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints), type);
+        }
+    }
+
+    private static RuntimeHints registeredHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new NativeImageHints.Registrar().registerHints(hints, NativeImageHintsTest.class.getClassLoader());
+        return hints;
+    }
+}
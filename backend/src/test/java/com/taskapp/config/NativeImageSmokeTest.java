@@ -0,0 +1,89 @@
+package com.taskapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.messaging.PubSubMessage;
+import com.taskapp.security.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises the reflective paths the native image depends on. Runs on the JVM with mvn test and
+ * inside a native test image with mvn -PnativeTest test, where a missing hint fails here.
+ */
+@SpringJUnitConfig({JacksonConfig.class, NativeImageHints.class, JwtTokenProvider.class})
+@TestPropertySource(properties = {
+        "jwt.secret=native-smoke-test-secret-that-is-at-least-256-bits-long",
+        "jwt.expiration=60000"
+})
+class NativeImageSmokeTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @DisplayName("Should keep the trace over Redis and drop it for SSE clients")
+    void testNotificationEventViews() throws Exception {
+        NotificationEvent event = NotificationEvent.create("TASK_CREATED", "Task created: Smoke", "alice");
+
+        String internal = objectMapper.writerWithView(NotificationEvent.Views.Internal.class).writeValueAsString(event);
+        NotificationEvent received = objectMapper.readValue(internal, NotificationEvent.class);
+        assertEquals(event.getId(), received.getId());
+        assertNotNull(received.getTrace());
+        assertEquals(event.getTrace().getCreatedNanos(), received.getTrace().getCreatedNanos());
+
+        String client = objectMapper.writerWithView(NotificationEvent.Views.Client.class).writeValueAsString(event);
+        assertFalse(client.contains("\"trace\""));
+        assertTrue(client.contains("\"username\":\"alice\""));
+    }
+
+    @Test
+    @DisplayName("Should deserialize PubSubMessage through its builder")
+    void testPubSubMessageBuilder() throws Exception {
+        PubSubMessage message = objectMapper.readValue("""
+                {"messageId": null, "topicArn": "task-notifications", "subject": "TASK_CREATED",
+                 "message": "{}", "messageAttributes": {"sourcePod": "pod-a"}}
+                """, PubSubMessage.class);
+
+        assertNotNull(message.getMessageId());
+        assertEquals("task-notifications", message.getTopicArn());
+        assertEquals("pod-a", message.getMessageAttributes().get("sourcePod"));
+    }
+
+    @Test
+    @DisplayName("Should round-trip TaskResponse with zoned timestamps")
+    void testTaskResponse() throws Exception {
+        TaskResponse task = new TaskResponse();
+        task.setId(42L);
+        task.setTitle("Smoke");
+        task.setStatus("TODO");
+        task.setCreatedAt(ZonedDateTime.of(2025, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC));
+
+        TaskResponse read = objectMapper.readValue(objectMapper.writeValueAsString(task), TaskResponse.class);
+        assertEquals(task.getId(), read.getId());
+        assertEquals(task.getTitle(), read.getTitle());
+        assertTrue(task.getCreatedAt().isEqual(read.getCreatedAt()));
+    }
+
+    @Test
+    @DisplayName("Should sign and parse a JWT")
+    void testJwtRoundTrip() {
+        String token = jwtTokenProvider.generateToken(new User("alice", "unused", List.of()));
+
+        assertEquals("alice", jwtTokenProvider.getUsernameFromToken(token));
+    }
+}
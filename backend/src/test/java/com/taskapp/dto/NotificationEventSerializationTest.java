@@ -1,6 +1,7 @@
 package com.taskapp.dto;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -269,4 +270,31 @@ class NotificationEventSerializationTest {
             () -> assertNotEquals(event1.getId(), event3.getId())
         );
     }
+    
+    @Test
+    @DisplayName("Should carry the latency trace over Redis but not to SSE clients")
+    void testTraceExcludedFromClientView() throws JsonProcessingException {
+        // Given: A notification with a latency trace
+        NotificationEvent originalEvent = NotificationEvent.create("TASK_CREATED", "Task created", "user123");
+        originalEvent.getTrace().setPublishedNanos(NotificationTrace.now());
+        
+        // When: Serialize for Redis and for the client
+        String redisJson = objectMapper.writeValueAsString(originalEvent);
+        // Spring Boot's ObjectMapper disables default view inclusion
+        String clientJson = objectMapper.copy().disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+            .writerWithView(NotificationEvent.Views.Client.class)
+            .writeValueAsString(originalEvent);
+        NotificationEvent deserializedEvent = objectMapper.readValue(redisJson, NotificationEvent.class);
+        
+        // Then: Only the Redis payload keeps the trace
+        assertAll(
+            () -> assertTrue(redisJson.contains("\"trace\"")),
+            () -> assertFalse(clientJson.contains("\"trace\"")),
+            () -> assertTrue(clientJson.contains("\"id\"")),
+            () -> assertTrue(clientJson.contains("\"message\":\"Task created\"")),
+            () -> assertTrue(clientJson.contains("\"timestamp\"")),
+            () -> assertEquals(originalEvent.getTrace().getCreatedNanos(), deserializedEvent.getTrace().getCreatedNanos()),
+            () -> assertEquals(originalEvent.getTrace().getPublishedNanos(), deserializedEvent.getTrace().getPublishedNanos())
+        );
+    }
 }
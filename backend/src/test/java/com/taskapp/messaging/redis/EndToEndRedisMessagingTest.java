@@ -7,6 +7,8 @@ import com.taskapp.entity.Task;
 import com.taskapp.entity.User;
 import com.taskapp.service.NotificationFactory;
 import com.taskapp.service.SSEConnectionManager;
+import com.taskapp.service.TaskAppMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -44,8 +46,9 @@ class EndToEndRedisMessagingTest {    @Mock
           
         // Create real instances with mocked dependencies
         notificationFactory = new NotificationFactory();
-        publisher = new RedisMessagePublisher(redisTemplate, objectMapper);
-        consumer = new RedisMessageConsumer(sseConnectionManager, objectMapper);
+        TaskAppMetrics metrics = new TaskAppMetrics(new SimpleMeterRegistry());
+        publisher = new RedisMessagePublisher(redisTemplate, objectMapper, metrics);
+        consumer = new RedisMessageConsumer(sseConnectionManager, objectMapper, metrics);
         
         // Set up lenient mocking to avoid unnecessary stubbing exceptions
         lenient().doNothing().when(sseConnectionManager).sendToUserLocal(anyString(), any(NotificationEvent.class));
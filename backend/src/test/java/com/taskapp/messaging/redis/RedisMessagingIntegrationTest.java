@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.taskapp.dto.NotificationEvent;
 import com.taskapp.service.SSEConnectionManager;
+import com.taskapp.service.TaskAppMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -37,8 +39,9 @@ class RedisMessagingIntegrationTest {    private RedisMessagePublisher publisher
         sseConnectionManager = mock(SSEConnectionManager.class);
           
         // Create real instances
-        publisher = new RedisMessagePublisher(redisTemplate, objectMapper);
-        consumer = new RedisMessageConsumer(sseConnectionManager, objectMapper);
+        TaskAppMetrics metrics = new TaskAppMetrics(new SimpleMeterRegistry());
+        publisher = new RedisMessagePublisher(redisTemplate, objectMapper, metrics);
+        consumer = new RedisMessageConsumer(sseConnectionManager, objectMapper, metrics);
     }
     
     @Test
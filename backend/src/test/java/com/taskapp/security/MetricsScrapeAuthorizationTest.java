@@ -0,0 +1,53 @@
+package com.taskapp.security;
+
+import com.taskapp.config.MetricsScrapeProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for MetricsScrapeAuthorization checking the Prometheus scrape credential.
+ */
+class MetricsScrapeAuthorizationTest {
+
+    private MetricsScrapeProperties properties;
+    private MetricsScrapeAuthorization authorization;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MetricsScrapeProperties();
+        properties.setPassword("s3cret");
+        authorization = new MetricsScrapeAuthorization(properties);
+    }
+
+    @Test
+    @DisplayName("Should accept the configured Basic credentials")
+    void testAcceptsConfiguredCredentials() {
+        assertTrue(authorization.isAuthorized(basic("prometheus", "s3cret")));
+    }
+
+    @Test
+    @DisplayName("Should refuse missing, wrong and bearer credentials")
+    void testRefusesOtherCredentials() {
+        assertFalse(authorization.isAuthorized(null));
+        assertFalse(authorization.isAuthorized(basic("prometheus", "wrong")));
+        assertFalse(authorization.isAuthorized(basic("alice", "s3cret")));
+        assertFalse(authorization.isAuthorized("Bearer s3cret"));
+    }
+
+    @Test
+    @DisplayName("Should refuse every scrape while no password is configured")
+    void testRefusesWithoutPassword() {
+        properties.setPassword("");
+        assertFalse(authorization.isAuthorized(basic("prometheus", "")));
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
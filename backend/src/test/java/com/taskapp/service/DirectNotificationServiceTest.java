@@ -0,0 +1,154 @@
+package com.taskapp.service;
+
+import com.taskapp.config.NotificationProperties;
+import com.taskapp.config.NotificationProperties.Payload;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.User;
+import com.taskapp.enums.TaskStatus;
+import com.taskapp.mapper.TaskMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the task state DirectNotificationService attaches in each payload mode.
+ */
+class DirectNotificationServiceTest {
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private NotificationService notificationService;
+    private NotificationProperties notificationProperties;
+    private DirectNotificationService directNotificationService;
+    private User creator;
+    private User assignee;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = mock(NotificationService.class);
+        notificationProperties = new NotificationProperties();
+        directNotificationService = new DirectNotificationService(notificationService, new NotificationFactory(),
+                new TaskAppMetrics(new SimpleMeterRegistry()), notificationProperties, taskMapper);
+
+        creator = user(1L, "creator");
+        assignee = user(2L, "assignee");
+        task = new Task();
+        task.setId(10L);
+        task.setTitle("Write report");
+        task.setCreatedBy(creator);
+        task.setAssignedTo(assignee);
+        task.setCreatedAt(ZonedDateTime.parse("2025-06-01T09:00:00Z"));
+        task.setUpdatedAt(ZonedDateTime.parse("2025-06-01T09:00:00Z"));
+        task.setVersion(1);
+    }
+
+    @Test
+    @DisplayName("Should leave task state out in ids mode")
+    void testIdsMode() {
+        directNotificationService.publishTaskCreated(task, creator, assignee);
+
+        for (NotificationEvent notification : sent(2)) {
+            assertEquals("10", notification.getTaskId());
+            assertNull(notification.getTaskVersion());
+            assertNull(notification.getTask());
+            assertNull(notification.getChanges());
+        }
+        assertFalse(directNotificationService.needsPreviousState());
+    }
+
+    @Test
+    @DisplayName("Should attach the whole task and its version in snapshot mode")
+    void testSnapshotMode() {
+        notificationProperties.setPayload(Payload.SNAPSHOT);
+
+        directNotificationService.publishTaskCreated(task, creator, assignee);
+
+        for (NotificationEvent notification : sent(2)) {
+            assertEquals(1L, notification.getTaskVersion());
+            assertEquals("Write report", notification.getTask().getTitle());
+            assertEquals("assignee", notification.getTask().getAssignedToUsername());
+            assertNull(notification.getChanges());
+        }
+    }
+
+    @Test
+    @DisplayName("Should send only changed fields to holders of the task in delta mode")
+    void testDeltaMode() {
+        notificationProperties.setPayload(Payload.DELTA);
+        assertTrue(directNotificationService.needsPreviousState());
+        TaskResponse previous = taskMapper.toResponse(task);
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setUpdatedAt(ZonedDateTime.parse("2025-06-01T10:00:00Z"));
+        task.setVersion(2);
+
+        // The assignee completes the task: only the creator is told
+        directNotificationService.publishTaskUpdated(task, assignee, assignee, true, false, previous);
+
+        NotificationEvent notification = sent(1).get(0);
+        assertEquals("creator", notification.getUsername());
+        assertEquals(2L, notification.getTaskVersion());
+        assertNull(notification.getTask());
+        assertEquals(Map.of("status", "COMPLETED", "updatedAt", task.getUpdatedAt(), "version", 2L),
+                notification.getChanges());
+    }
+
+    @Test
+    @DisplayName("Should send the whole task to a new assignee in delta mode")
+    void testDeltaModeReassigned() {
+        notificationProperties.setPayload(Payload.DELTA);
+        TaskResponse previous = taskMapper.toResponse(task);
+        User newAssignee = user(3L, "newcomer");
+        task.setAssignedTo(newAssignee);
+        task.setVersion(2);
+
+        directNotificationService.publishTaskUpdated(task, creator, assignee, false, true, previous);
+
+        NotificationEvent notification = sent(1).get(0);
+        assertEquals("newcomer", notification.getUsername());
+        assertEquals("newcomer", notification.getTask().getAssignedToUsername());
+        assertNull(notification.getChanges());
+    }
+
+    @Test
+    @DisplayName("Should send one batch notification per recipient with their counts")
+    void testBatchFanOut() {
+        DirectNotificationService.BatchFanOut fanOut = new DirectNotificationService.BatchFanOut();
+        fanOut.created(creator, assignee);
+        fanOut.created(creator, creator);
+        fanOut.deleted(creator, assignee);
+        fanOut.updated(task, assignee, assignee, true, false);
+
+        directNotificationService.publishTaskBatch(fanOut);
+
+        List<NotificationEvent> notifications = sent(2);
+        assertEquals("creator", notifications.get(0).getUsername());
+        assertEquals("Tasks changed: 2 created, 1 updated, 1 deleted", notifications.get(0).getMessage());
+        assertEquals("assignee", notifications.get(1).getUsername());
+        assertEquals("Tasks changed: 1 created, 1 deleted", notifications.get(1).getMessage());
+        assertEquals(NotificationFactory.NotificationType.TASK_BATCH, notifications.get(1).getType());
+    }
+
+    private List<NotificationEvent> sent(int count) {
+        ArgumentCaptor<NotificationEvent> captor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(notificationService, times(count)).sendNotification(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
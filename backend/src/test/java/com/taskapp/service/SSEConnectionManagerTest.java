@@ -0,0 +1,95 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.config.SseProperties;
+import com.taskapp.exception.ConnectionRejectedException;
+import com.taskapp.messaging.ReplayBufferStore;
+import com.taskapp.messaging.config.MessagingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for SSEConnectionManager admission: pod slots are held exactly as long as a stream is open.
+ */
+class SSEConnectionManagerTest {
+
+    private SseProperties sseProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        sseProperties = new SseProperties();
+        sseProperties.getAdmission().setMaxConnectionsPerPod(2);
+        sseProperties.getAdmission().setMaxConnectionsPerUser(1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should release the pod slot of an evicted stream")
+    void testEvictionReleasesSlot() {
+        SSEConnectionManager manager = manager(new SseHeartbeatWheel(sseProperties),
+                new SseAdmissionControl(sseProperties, meterRegistry));
+
+        manager.createConnection("alice", null);
+        manager.createConnection("alice", null);
+        manager.createConnection("bob", null);
+
+        assertEquals(2, manager.getActiveConnectionCount());
+        assertEquals(1, manager.getConnectionCount("alice"));
+    }
+
+    @Test
+    @DisplayName("Should release the pod slot when a stream is refused over the per-user cap")
+    void testUserLimitRejectReleasesSlot() {
+        sseProperties.getAdmission().setUserLimitPolicy(SseProperties.UserLimitPolicy.REJECT);
+        SSEConnectionManager manager = manager(new SseHeartbeatWheel(sseProperties),
+                new SseAdmissionControl(sseProperties, meterRegistry));
+
+        manager.createConnection("alice", null);
+        assertThrows(ConnectionRejectedException.class, () -> manager.createConnection("alice", null));
+
+        assertEquals(1, manager.getActiveConnectionCount());
+        manager.createConnection("bob", null);
+        assertEquals(2, manager.getActiveConnectionCount());
+    }
+
+    @Test
+    @DisplayName("Should release the pod slot when registration fails before the heartbeat exists")
+    void testFailureBeforeHeartbeatReleasesSlot() {
+        SseHeartbeatWheel heartbeatWheel = mock(SseHeartbeatWheel.class);
+        when(heartbeatWheel.register(any(), any())).thenThrow(new IllegalStateException("wheel stopped"));
+        SSEConnectionManager manager = manager(heartbeatWheel, new SseAdmissionControl(sseProperties, meterRegistry));
+
+        assertThrows(IllegalStateException.class, () -> manager.createConnection("alice", null));
+
+        assertEquals(0, manager.getActiveConnectionCount());
+        assertFalse(manager.hasConnection("alice"));
+    }
+
+    @Test
+    @DisplayName("Should release the pod slot and heartbeat when registration fails after the heartbeat exists")
+    void testFailureAfterHeartbeatReleasesSlot() {
+        SseHeartbeatWheel heartbeatWheel = spy(new SseHeartbeatWheel(sseProperties));
+        SseAdmissionControl admissionControl = spy(new SseAdmissionControl(sseProperties, meterRegistry));
+        doThrow(new IllegalStateException("meter registry closed")).when(admissionControl).recordAdmitted();
+        SSEConnectionManager manager = manager(heartbeatWheel, admissionControl);
+
+        assertThrows(IllegalStateException.class, () -> manager.createConnection("alice", null));
+
+        assertEquals(0, manager.getActiveConnectionCount());
+        assertFalse(manager.hasConnection("alice"));
+        verify(heartbeatWheel).unregister(any());
+    }
+
+    private SSEConnectionManager manager(SseHeartbeatWheel heartbeatWheel, SseAdmissionControl admissionControl) {
+        return new SSEConnectionManager(new ObjectMapper(), new MessagingProperties(), heartbeatWheel,
+                new SseEmitterWriter(0), mock(ReplayBufferStore.class), admissionControl, sseProperties,
+                mock(NotificationLatencyRecorder.class), new TaskAppMetrics(meterRegistry));
+    }
+}
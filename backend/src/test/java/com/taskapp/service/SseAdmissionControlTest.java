@@ -0,0 +1,82 @@
+package com.taskapp.service;
+
+import com.taskapp.config.SseProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SseAdmissionControl connect-rate bucket, retry hints and counters.
+ */
+class SseAdmissionControlTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private SseAdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        SseProperties sseProperties = new SseProperties();
+        sseProperties.getAdmission().setConnectRate(10);
+        sseProperties.getAdmission().setConnectBurst(5);
+        sseProperties.getAdmission().setMinRetry(Duration.ofSeconds(2));
+        sseProperties.getAdmission().setMaxRetry(Duration.ofSeconds(4));
+        meterRegistry = new SimpleMeterRegistry();
+        admissionControl = new SseAdmissionControl(sseProperties, meterRegistry, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should admit the burst and then refuse until tokens refill")
+    void testBurstThenRefill() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(admissionControl.tryAcquireConnectPermit());
+        }
+        assertFalse(admissionControl.tryAcquireConnectPermit());
+
+        // 10 per second: one token every 100 ms
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        assertTrue(admissionControl.tryAcquireConnectPermit());
+        assertFalse(admissionControl.tryAcquireConnectPermit());
+    }
+
+    @Test
+    @DisplayName("Should not accumulate more tokens than the burst")
+    void testBurstCap() {
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        int admitted = 0;
+        while (admissionControl.tryAcquireConnectPermit()) {
+            admitted++;
+        }
+        assertEquals(5, admitted);
+    }
+
+    @Test
+    @DisplayName("Should keep retry hints within the configured bounds")
+    void testRetryHintBounds() {
+        for (int i = 0; i < 100; i++) {
+            long retry = admissionControl.nextRetryMillis();
+            assertTrue(retry >= 2000 && retry <= 4000, "retry out of bounds: " + retry);
+        }
+    }
+
+    @Test
+    @DisplayName("Should count outcomes per rejection reason")
+    void testCounters() {
+        admissionControl.recordAdmitted();
+        admissionControl.recordRejected("rate");
+        admissionControl.recordRejected("rate");
+        admissionControl.recordRejected("user_limit");
+        admissionControl.recordEvicted();
+
+        assertEquals(1, meterRegistry.get("taskapp.sse.connections.admitted").counter().count());
+        assertEquals(2, meterRegistry.get("taskapp.sse.connections.rejected").tag("reason", "rate").counter().count());
+        assertEquals(1, meterRegistry.get("taskapp.sse.connections.rejected").tag("reason", "user_limit").counter().count());
+        assertEquals(1, meterRegistry.get("taskapp.sse.connections.evicted").counter().count());
+    }
+}
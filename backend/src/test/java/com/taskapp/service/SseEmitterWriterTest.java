@@ -0,0 +1,100 @@
+package com.taskapp.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SseEmitterWriter hand-off of virtual-thread writes to platform threads.
+ */
+class SseEmitterWriterTest {
+
+    private final SseEmitterWriter writer = new SseEmitterWriter(2);
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should write on a platform thread when called from a virtual thread")
+    void testVirtualCallerHandsOff() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        onVirtualThread(() -> writer.send(emitter, SseEmitter.event().comment("ping")));
+
+        assertNotNull(emitter.writerThread.get());
+        assertTrue(emitter.writerThread.get().getName().startsWith("sse-writer-"));
+    }
+
+    @Test
+    @DisplayName("Should write directly when called from a platform thread")
+    void testPlatformCallerWritesDirectly() throws IOException {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        writer.send(emitter, SseEmitter.event().comment("ping"));
+
+        assertSame(Thread.currentThread(), emitter.writerThread.get());
+    }
+
+    @Test
+    @DisplayName("Should rethrow a failed write to the virtual caller")
+    void testWriteFailurePropagates() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(new IOException("Broken pipe"));
+
+        IOException error = assertThrows(IOException.class,
+                () -> onVirtualThread(() -> writer.send(emitter, SseEmitter.event().comment("ping"))));
+        assertEquals("Broken pipe", error.getMessage());
+    }
+
+    private static void onVirtualThread(Write write) throws Exception {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                write.run();
+                done.complete(null);
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        });
+        try {
+            done.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void run() throws IOException;
+    }
+
+    /**
+     * Emitter that records the thread it was written on and optionally fails the write
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final AtomicReference<Thread> writerThread = new AtomicReference<>();
+        private final IOException failure;
+
+        private RecordingEmitter(IOException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writerThread.set(Thread.currentThread());
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
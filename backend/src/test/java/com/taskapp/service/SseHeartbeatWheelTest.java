@@ -0,0 +1,138 @@
+package com.taskapp.service;
+
+import com.taskapp.config.SseProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for SseHeartbeatWheel heartbeat scheduling and reaping, driven by a manual clock.
+ */
+class SseHeartbeatWheelTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger deadCallbacks = new AtomicInteger();
+    private SseProperties sseProperties;
+
+    @BeforeEach
+    void setUp() {
+        sseProperties = new SseProperties();
+        sseProperties.getHeartbeat().setInterval(Duration.ofSeconds(3));
+        sseProperties.getHeartbeat().setTick(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should send a heartbeat once a connection has been idle for the interval")
+    void testHeartbeatOnIdleConnection() throws IOException {
+        SseHeartbeatWheel wheel = wheel(Runnable::run);
+        SseEmitter emitter = mock(SseEmitter.class);
+        wheel.register(emitter, deadCallbacks::incrementAndGet);
+
+        advance(wheel, 2);
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+
+        advance(wheel, 1);
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(0, deadCallbacks.get());
+    }
+
+    @Test
+    @DisplayName("Should push the heartbeat back after a successful write")
+    void testWritePostponesHeartbeat() throws IOException {
+        SseHeartbeatWheel wheel = wheel(Runnable::run);
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseHeartbeatWheel.Connection connection = wheel.register(emitter, deadCallbacks::incrementAndGet);
+
+        advance(wheel, 2);
+        wheel.recordWrite(connection);
+        advance(wheel, 1);
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+
+        advance(wheel, 2);
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Should reap a connection whose heartbeat write fails")
+    void testFailedHeartbeatReaps() throws IOException {
+        SseHeartbeatWheel wheel = wheel(Runnable::run);
+        SseEmitter emitter = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        wheel.register(emitter, deadCallbacks::incrementAndGet);
+
+        advance(wheel, 3);
+        assertEquals(1, deadCallbacks.get());
+        assertEquals(1, wheel.getReapedConnectionCount());
+        verify(emitter).complete();
+
+        advance(wheel, 6);
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Should reap a connection whose heartbeat is still blocked a full interval later")
+    void testStalledHeartbeatReaps() {
+        List<Runnable> blockedWrites = new ArrayList<>();
+        SseHeartbeatWheel wheel = wheel(blockedWrites::add);
+        wheel.register(mock(SseEmitter.class), deadCallbacks::incrementAndGet);
+
+        advance(wheel, 3);
+        assertEquals(1, blockedWrites.size());
+        assertEquals(0, deadCallbacks.get());
+
+        advance(wheel, 3);
+        assertEquals(1, deadCallbacks.get());
+    }
+
+    @Test
+    @DisplayName("Should reap a connection whose heartbeat finds every writer busy")
+    void testRejectedHeartbeatReaps() throws IOException {
+        SseHeartbeatWheel wheel = wheel(runnable -> {
+            throw new RejectedExecutionException("writers busy");
+        });
+        SseEmitter emitter = mock(SseEmitter.class);
+        wheel.register(emitter, deadCallbacks::incrementAndGet);
+
+        advance(wheel, 3);
+        assertEquals(1, deadCallbacks.get());
+        assertEquals(1, wheel.getReapedConnectionCount());
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Should stop tracking unregistered connections")
+    void testUnregister() throws IOException {
+        SseHeartbeatWheel wheel = wheel(Runnable::run);
+        SseEmitter emitter = mock(SseEmitter.class);
+        wheel.unregister(wheel.register(emitter, deadCallbacks::incrementAndGet));
+
+        advance(wheel, 9);
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(0, deadCallbacks.get());
+    }
+
+    private SseHeartbeatWheel wheel(Executor writer) {
+        return new SseHeartbeatWheel(sseProperties, clock::get, writer);
+    }
+
+    private void advance(SseHeartbeatWheel wheel, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            wheel.tick();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.config.SseProperties;
+import com.taskapp.dto.NotificationEvent;
+import com.taskapp.messaging.ReplayBufferStore;
+import com.taskapp.messaging.config.MessagingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for SseMemoryAccountant estimates, top-user reporting and budget enforcement.
+ */
+class SseMemoryAccountantTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseProperties sseProperties;
+    private SSEConnectionManager sseConnectionManager;
+    private SseMemoryAccountant accountant;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sseProperties = new SseProperties();
+        sseProperties.getMemory().setTopUsers(2);
+        SseAdmissionControl admissionControl = new SseAdmissionControl(sseProperties, meterRegistry);
+        sseConnectionManager = new SSEConnectionManager(new ObjectMapper(), new MessagingProperties(),
+                mock(SseHeartbeatWheel.class), new SseEmitterWriter(0), mock(ReplayBufferStore.class), admissionControl, sseProperties,
+                mock(NotificationLatencyRecorder.class), new TaskAppMetrics(meterRegistry));
+        accountant = new SseMemoryAccountant(sseConnectionManager, admissionControl, sseProperties,
+                meterRegistry, () -> DataSize.ofMegabytes(512).toBytes());
+
+        for (int i = 0; i < 50; i++) {
+            sseConnectionManager.sendToUserLocal("alice", NotificationEvent.create("TASK_UPDATED", "Task updated: " + i, "alice"));
+        }
+        for (int i = 0; i < 5; i++) {
+            sseConnectionManager.sendToUserLocal("bob", NotificationEvent.create("TASK_CREATED", "Task created: " + i, "bob"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should grow the event estimate with its string content")
+    void testEventEstimate() {
+        NotificationEvent small = NotificationEvent.create("TASK_CREATED", "x", "alice");
+        NotificationEvent large = NotificationEvent.create("TASK_CREATED", "x".repeat(1000), "alice");
+        // Generated IDs vary in length
+        large.setId(small.getId());
+
+        assertTrue(SseMemoryAccountant.estimateBytes(small) > 200);
+        assertEquals(1000, SseMemoryAccountant.estimateBytes(large) - SseMemoryAccountant.estimateBytes(small), 8);
+    }
+
+    @Test
+    @DisplayName("Should report totals and the heaviest users by rank")
+    void testReportAndTopUsers() {
+        accountant.account();
+
+        SseMemoryAccountant.Report report = accountant.getReport();
+        assertEquals(55, report.bufferedEvents());
+        assertEquals(DataSize.ofMegabytes(128).toBytes(), report.budgetBytes());
+        assertFalse(accountant.isOverBudget());
+        assertEquals("alice", report.topUsers().get(0).username());
+        assertEquals("bob", report.topUsers().get(1).username());
+        assertEquals(report.topUsers().get(0).bytes(),
+                meterRegistry.get("taskapp.sse.memory.top.user.bytes").tag("rank", "1").gauge().value());
+        assertEquals(report.eventBytes(),
+                meterRegistry.get("taskapp.sse.memory.bytes").tag("structure", "replay_events").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should drop the heaviest disconnected buffers until back under budget")
+    void testTrimsHeaviestBuffersOverBudget() {
+        accountant.account();
+        long total = accountant.getReport().totalBytes();
+        long bob = accountant.getReport().topUsers().get(1).bytes();
+
+        // Room for bob's buffer but not alice's
+        sseProperties.getMemory().setBudget(DataSize.ofBytes(bob + 64));
+        accountant.account();
+
+        assertTrue(total > bob + 64);
+        assertEquals(0, sseConnectionManager.getRecentNotificationCount("alice"));
+        assertEquals(5, sseConnectionManager.getRecentNotificationCount("bob"));
+        assertEquals(50, meterRegistry.get("taskapp.sse.memory.trimmed").counter().count());
+        assertFalse(accountant.isOverBudget());
+    }
+}
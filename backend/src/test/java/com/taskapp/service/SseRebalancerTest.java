@@ -0,0 +1,40 @@
+package com.taskapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the SseRebalancer shedding computation.
+ */
+class SseRebalancerTest {
+
+    @Test
+    @DisplayName("Should shed the excess above the tolerance band after scale-out")
+    void testShedsExcessAfterScaleOut() {
+        // 1000 + 1000 + 0 -> mean 666, ceiling 800
+        assertEquals(200, SseRebalancer.connectionsToShed(1000, List.of(1000, 0), 0.2, 1000));
+    }
+
+    @Test
+    @DisplayName("Should cap shedding at the round budget")
+    void testBudgetCap() {
+        assertEquals(50, SseRebalancer.connectionsToShed(1000, List.of(0), 0.2, 50));
+    }
+
+    @Test
+    @DisplayName("Should leave a pod within the tolerance band alone")
+    void testWithinBand() {
+        assertEquals(0, SseRebalancer.connectionsToShed(110, List.of(100, 90), 0.2, 1000));
+        assertEquals(0, SseRebalancer.connectionsToShed(0, List.of(500), 0.2, 1000));
+    }
+
+    @Test
+    @DisplayName("Should not shed without live peers")
+    void testNoPeers() {
+        assertEquals(0, SseRebalancer.connectionsToShed(5000, List.of(), 0.2, 1000));
+    }
+}
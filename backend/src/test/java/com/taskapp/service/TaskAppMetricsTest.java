@@ -0,0 +1,55 @@
+package com.taskapp.service;
+
+import com.taskapp.service.TaskAppMetrics.SseSendResult;
+import com.taskapp.service.TaskAppMetrics.TaskOperation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TaskAppMetrics meter registration and tagging.
+ */
+class TaskAppMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TaskAppMetrics metrics = new TaskAppMetrics(registry);
+
+    @Test
+    @DisplayName("Should record task operations under operation and outcome tags")
+    void testTaskOperationTags() {
+        metrics.recordTaskOperation(TaskOperation.CREATE, System.nanoTime(), true);
+        metrics.recordTaskOperation(TaskOperation.CREATE, System.nanoTime(), false);
+        metrics.recordTaskOperation(TaskOperation.CREATE, System.nanoTime(), true);
+
+        assertEquals(2, registry.get("taskapp.task.operation").tags("operation", "create", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("taskapp.task.operation").tags("operation", "create", "outcome", "error").timer().count());
+        assertEquals(0, registry.get("taskapp.task.operation").tags("operation", "delete", "outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count SSE sends by result and summarize fan-out per mutation")
+    void testSendResultsAndFanOut() {
+        metrics.recordSseSend(SseSendResult.SENT);
+        metrics.recordSseSend(SseSendResult.IO_ERROR);
+        metrics.recordFanOut(TaskOperation.UPDATE, 3);
+
+        assertEquals(1, registry.get("taskapp.sse.send").tag("result", "sent").counter().count());
+        assertEquals(1, registry.get("taskapp.sse.send").tag("result", "io_error").counter().count());
+        assertEquals(0, registry.get("taskapp.sse.send").tag("result", "closed").counter().count());
+        assertEquals(3, registry.get("taskapp.notification.fanout").tag("mutation", "update").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should register publish timers once per topic")
+    void testPublishTimerPerTopic() {
+        metrics.recordRedisPublish("user-notifications", System.nanoTime(), true);
+        metrics.recordRedisPublish("user-notifications", System.nanoTime(), true);
+        metrics.recordRedisPublish("system-events", System.nanoTime(), false);
+
+        assertEquals(2, registry.get("taskapp.redis.publish").tags("topic", "user-notifications", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("taskapp.redis.publish").tags("topic", "system-events", "outcome", "error").timer().count());
+        assertEquals(4, registry.find("taskapp.redis.publish").timers().size());
+    }
+}
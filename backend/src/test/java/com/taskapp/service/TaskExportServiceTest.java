@@ -0,0 +1,121 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.config.TaskExportProperties;
+import com.taskapp.enums.TaskExportFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for TaskExportService encoding cursor rows as NDJSON and CSV.
+ */
+class TaskExportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskExportProperties properties;
+    private TaskExportService exportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        properties = new TaskExportProperties();
+        properties.setFetchSize(250);
+        exportService = new TaskExportService(jdbcTemplate, properties, new TaskAppMetrics(new SimpleMeterRegistry()));
+
+        ResultSet rs = row();
+        doAnswer(invocation -> {
+            PreparedStatement statement = mock(PreparedStatement.class);
+            invocation.<PreparedStatementSetter>getArgument(1).setValues(statement);
+            verify(statement).setFetchSize(250);
+            verify(statement).setString(1, "alice");
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line with escaped text")
+    void testNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(2, exportService.export("alice", TaskExportFormat.NDJSON, false, out));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode task = new ObjectMapper().readTree(lines[0]);
+        assertEquals(10L, task.get("id").asLong());
+        assertEquals("Say \"hi\", then\nleave", task.get("title").asText());
+        assertTrue(task.get("description").isNull());
+        assertEquals("bob", task.get("assignedToUsername").asText());
+        assertEquals("2025-06-01T09:00:00Z", task.get("createdAt").asText());
+        assertEquals(3L, task.get("version").asLong());
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote fields only where needed")
+    void testCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export("alice", TaskExportFormat.CSV, false, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith(TaskExportService.CSV_HEADER + "\n"));
+        assertTrue(csv.contains("\n10,\"Say \"\"hi\"\", then\nleave\",,PENDING,HIGH,1,alice,2,bob,"
+                + "2025-06-01T09:00:00Z,2025-06-01T10:00:00Z,3\n"));
+    }
+
+    @Test
+    @DisplayName("Should gzip the whole export when asked")
+    void testGzip() throws Exception {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+
+        exportService.export("alice", TaskExportFormat.NDJSON, false, plain);
+        exportService.export("alice", TaskExportFormat.NDJSON, true, gzipped);
+
+        assertArrayEquals(plain.toByteArray(), gunzip(gzipped.toByteArray()));
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static ResultSet row() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(10L);
+        when(rs.getString("title")).thenReturn("Say \"hi\", then\nleave");
+        when(rs.getString("status")).thenReturn("PENDING");
+        when(rs.getString("priority")).thenReturn("HIGH");
+        when(rs.getLong("created_by")).thenReturn(1L);
+        when(rs.getString("created_by_username")).thenReturn("alice");
+        when(rs.getLong("assigned_to")).thenReturn(2L);
+        when(rs.getString("assigned_to_username")).thenReturn("bob");
+        when(rs.getObject("created_at", OffsetDateTime.class)).thenReturn(OffsetDateTime.parse("2025-06-01T09:00:00Z"));
+        when(rs.getObject("updated_at", OffsetDateTime.class)).thenReturn(OffsetDateTime.parse("2025-06-01T10:00:00Z"));
+        when(rs.getLong("version")).thenReturn(3L);
+        return rs;
+    }
+}
@@ -0,0 +1,149 @@
+package com.taskapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.config.TaskImportProperties;
+import com.taskapp.dto.TaskImportResponse;
+import com.taskapp.entity.User;
+import com.taskapp.enums.TaskExportFormat;
+import com.taskapp.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for TaskImportService validating rows and loading them through COPY in chunks.
+ */
+class TaskImportServiceTest {
+
+    private final ByteArrayOutputStream copied = new ByteArrayOutputStream();
+    private final List<Integer> chunks = new ArrayList<>();
+    private UserRepository userRepository;
+    private DirectNotificationService directNotificationService;
+    private TaskImportProperties properties;
+    private TaskImportService importService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        userRepository = mock(UserRepository.class);
+        directNotificationService = mock(DirectNotificationService.class);
+        properties = new TaskImportProperties();
+        importService = new TaskImportService(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                userRepository, directNotificationService, new ObjectMapper(), properties,
+                new TaskAppMetrics(new SimpleMeterRegistry()));
+
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user(1L, "alice")));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user(2L, "bob")));
+
+        // Sequence increment 50, values 100, 150, ...
+        AtomicLong sequence = new AtomicLong(50);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(50L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenAnswer(invocation -> {
+            List<Long> values = new ArrayList<>();
+            for (int i = 0; i < invocation.<Integer>getArgument(2); i++) {
+                values.add(sequence.addAndGet(50));
+            }
+            return values;
+        });
+
+        CopyIn copyIn = mock(CopyIn.class);
+        doAnswer(invocation -> {
+            copied.write(invocation.<byte[]>getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        CopyManager copyManager = mock(CopyManager.class);
+        when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        Connection connection = mock(Connection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation -> {
+            chunks.add(1);
+            return invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection);
+        });
+    }
+
+    @Test
+    @DisplayName("Should load valid rows and report the bad ones by line")
+    void testNdjsonImport() throws Exception {
+        String input = """
+                {"title":"Plan sprint","priority":"HIGH"}
+                {"title":"Say \\"hi\\"","description":"","assignedToId":2}
+                {"title":"  "}
+                not json
+
+                {"title":"Ship it","status":"DONE"}
+                {"title":"For nobody","assignedToId":99}
+                """;
+
+        TaskImportResponse response = importService.importTasks("alice", TaskExportFormat.NDJSON, stream(input));
+
+        assertTrue(response.isCompleted());
+        assertEquals(2, response.getImported());
+        assertEquals(4, response.getRejected());
+        assertEquals(List.of(3L, 4L, 6L, 7L), response.getErrors().stream().map(TaskImportResponse.RowError::getLine).toList());
+        assertEquals("Invalid task status: DONE", response.getErrors().get(2).getMessage());
+        assertEquals("Assignee 99 does not exist", response.getErrors().get(3).getMessage());
+        assertEquals("""
+                51,"Plan sprint",,PENDING,HIGH,1,1,1
+                52,"Say ""hi""\",\"\",PENDING,MEDIUM,1,2,1
+                """, copied.toString(StandardCharsets.UTF_8));
+        verify(directNotificationService).publishTaskImport(Map.of("alice", 2L, "bob", 1L));
+    }
+
+    @Test
+    @DisplayName("Should COPY in chunks and look each assignee up once")
+    void testCsvChunks() throws Exception {
+        properties.setChunkSize(2);
+        String input = """
+                id,title,description,status,priority,assignedToId
+                7,One,"Line one
+                line two",COMPLETED,LOW,2
+                8,Two,,,,2
+                9,Three,,,,
+                """;
+
+        TaskImportResponse response = importService.importTasks("alice", TaskExportFormat.CSV, stream(input));
+
+        assertEquals(3, response.getImported());
+        assertEquals(0, response.getRejected());
+        assertEquals(2, response.getChunks());
+        assertEquals(2, chunks.size());
+        assertTrue(copied.toString(StandardCharsets.UTF_8).startsWith("51,\"One\",\"Line one\nline two\",COMPLETED,LOW,1,2,1\n"));
+        verify(userRepository, times(1)).findAllById(any());
+        verify(directNotificationService).publishTaskImport(Map.of("alice", 3L, "bob", 2L));
+    }
+
+    private static ByteArrayInputStream stream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
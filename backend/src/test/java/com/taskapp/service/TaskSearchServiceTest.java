@@ -0,0 +1,108 @@
+package com.taskapp.service;
+
+import com.taskapp.config.TaskSearchProperties;
+import com.taskapp.dto.TaskSearchResponse;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.TaskRepository.SearchHit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for TaskSearchService paging through ranked hits with keyset cursors and escaping highlights.
+ */
+class TaskSearchServiceTest {
+
+    private TaskRepository taskRepository;
+    private TaskSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        TaskSearchProperties properties = new TaskSearchProperties();
+        properties.setMaxLimit(2);
+        searchService = new TaskSearchService(taskRepository, properties, new TaskAppMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("Should return a cursor after the last hit when more remain")
+    void testNextPage() {
+        // Hits are built before stubbing the repository, since they are mocks themselves
+        List<SearchHit> firstHits = List.of(hit(30L, 0.5f), hit(20L, 0.25f), hit(10L, 0.25f));
+        List<SearchHit> lastHits = List.of(hit(10L, 0.25f));
+        when(taskRepository.search("alice", "quarterly report", null, null, 3)).thenReturn(firstHits);
+
+        TaskSearchResponse page = searchService.search("alice", " quarterly report ", null, 50);
+
+        assertEquals(2, page.getResults().size());
+        assertEquals("<mark>Quarterly</mark> report", page.getResults().get(0).getTitleHighlight());
+        assertEquals(30L, page.getResults().get(0).getTask().getId());
+        assertEquals("alice", page.getResults().get(0).getTask().getCreatedByUsername());
+        assertEquals(new TaskSearchService.Position(0.25f, 20L), TaskSearchService.decodeCursor(page.getNextCursor()));
+
+        when(taskRepository.search("alice", "quarterly report", 0.25f, 20L, 3)).thenReturn(lastHits);
+
+        TaskSearchResponse last = searchService.search("alice", "quarterly report", page.getNextCursor(), 50);
+
+        assertEquals(1, last.getResults().size());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should round-trip ranks exactly through the cursor")
+    void testCursorRoundTrip() {
+        float rank = 0.1f / 3;
+        TaskSearchService.Position position = TaskSearchService.decodeCursor(TaskSearchService.encodeCursor(rank, 42L));
+
+        assertEquals(Float.floatToIntBits(rank), Float.floatToIntBits(position.rank()));
+        assertEquals(42L, position.id());
+    }
+
+    @Test
+    @DisplayName("Should reject a blank query and a malformed cursor")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("alice", "  ", null, null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("alice", "report", "not-a-cursor", null));
+        verify(taskRepository, never()).search(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should escape markup typed into a task and mark only the matches")
+    void testHighlightEscapesMarkup() {
+        SearchHit hit = hit(10L, 0.5f);
+        when(hit.getTitle()).thenReturn("<script>alert('report')</script>");
+        when(hit.getTitleHighlight()).thenReturn("<script>alert('\u0002report\u0003')</script>");
+        when(hit.getDescription()).thenReturn("<img src=x onerror=alert(1)> report & more");
+        when(hit.getSnippet()).thenReturn("<img src=x onerror=alert(1)> \u0002report\u0003 & more");
+        when(taskRepository.search(any(), any(), any(), any(), anyInt())).thenReturn(List.of(hit));
+
+        TaskSearchResponse.Hit result = searchService.search("alice", "report", null, null).getResults().get(0);
+
+        assertEquals("&lt;script&gt;alert(&#39;<mark>report</mark>&#39;)&lt;/script&gt;", result.getTitleHighlight());
+        assertEquals("&lt;img src=x onerror=alert(1)&gt; <mark>report</mark> &amp; more", result.getSnippet());
+    }
+
+    private static SearchHit hit(Long id, float rank) {
+        SearchHit hit = mock(SearchHit.class);
+        when(hit.getId()).thenReturn(id);
+        when(hit.getTitle()).thenReturn("Quarterly report");
+        when(hit.getStatus()).thenReturn("PENDING");
+        when(hit.getPriority()).thenReturn("MEDIUM");
+        when(hit.getCreatedById()).thenReturn(1L);
+        when(hit.getCreatedByUsername()).thenReturn("alice");
+        when(hit.getAssignedToId()).thenReturn(1L);
+        when(hit.getAssignedToUsername()).thenReturn("alice");
+        when(hit.getCreatedAt()).thenReturn(Instant.parse("2025-06-01T09:00:00Z"));
+        when(hit.getRank()).thenReturn(rank);
+        when(hit.getTitleHighlight()).thenReturn("\u0002Quarterly\u0003 report");
+        return hit;
+    }
+}
@@ -0,0 +1,275 @@
+package com.taskapp.service;
+
+import com.taskapp.config.TaskBatchProperties;
+import com.taskapp.dto.TaskBatchOperation;
+import com.taskapp.dto.TaskBatchRequest;
+import com.taskapp.dto.TaskBatchResponse;
+import com.taskapp.dto.TaskPatchRequest;
+import com.taskapp.dto.TaskRequest;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.User;
+import com.taskapp.enums.TaskStatus;
+import com.taskapp.exception.TaskNotFoundException;
+import com.taskapp.exception.TaskPermissionException;
+import com.taskapp.exception.UserNotFoundException;
+import com.taskapp.mapper.TaskMapper;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.TaskRepository.DeletedTask;
+import com.taskapp.repository.TaskRepository.UpdatedTask;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.service.DirectNotificationService.BatchFanOut;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for TaskService's create path, its single-statement update and delete paths and its batch
+ * operations.
+ */
+class TaskServiceTest {
+
+    private TaskRepository taskRepository;
+    private UserRepository userRepository;
+    private DirectNotificationService directNotificationService;
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        directNotificationService = mock(DirectNotificationService.class);
+        userRepository = mock(UserRepository.class);
+        taskService = new TaskService(taskRepository, userRepository, new TaskMapper(), new TaskPermissionHelper(),
+                directNotificationService, new TaskAppMetrics(new SimpleMeterRegistry()), new TaskBatchProperties());
+    }
+
+    @Test
+    @DisplayName("Should patch in one statement and notify from the returned row")
+    void testPatch() {
+        UpdatedTask row = updatedRow();
+        when(taskRepository.updateIfPermitted(eq(10L), eq("assignee"), isNull(), isNull(), eq(false), eq("COMPLETED"),
+                isNull(), isNull())).thenReturn(Optional.of(row));
+        TaskPatchRequest request = new TaskPatchRequest();
+        request.setStatus("COMPLETED");
+
+        TaskResponse response = taskService.patchTask(10L, request, "assignee");
+
+        assertEquals("COMPLETED", response.getStatus());
+        assertEquals(2L, response.getVersion());
+        ArgumentCaptor<Task> task = ArgumentCaptor.forClass(Task.class);
+        ArgumentCaptor<User> updatedBy = ArgumentCaptor.forClass(User.class);
+        ArgumentCaptor<User> originalAssignee = ArgumentCaptor.forClass(User.class);
+        verify(directNotificationService).publishTaskUpdated(task.capture(), updatedBy.capture(),
+                originalAssignee.capture(), eq(true), eq(false), isNull());
+        assertEquals("creator", task.getValue().getCreatedBy().getUsername());
+        assertEquals(updatedBy.getValue(), originalAssignee.getValue());
+        verify(taskRepository, never()).existsById(any());
+        verify(taskRepository, never()).flush();
+    }
+
+    @Test
+    @DisplayName("Should pass the previous state along when delta notifications need it")
+    void testPatchPreviousState() {
+        UpdatedTask row = updatedRow();
+        when(directNotificationService.needsPreviousState()).thenReturn(true);
+        when(taskRepository.updateIfPermitted(any(), any(), any(), any(), anyBoolean(), any(), any(), any()))
+                .thenReturn(Optional.of(row));
+
+        taskService.patchTask(10L, new TaskPatchRequest(), "assignee");
+
+        ArgumentCaptor<TaskResponse> previous = ArgumentCaptor.forClass(TaskResponse.class);
+        verify(directNotificationService).publishTaskUpdated(any(), any(), any(), anyBoolean(), anyBoolean(),
+                previous.capture());
+        assertEquals(TaskStatus.PENDING.getValue(), previous.getValue().getStatus());
+        assertEquals(1L, previous.getValue().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should flush a created task and notify only after the transaction commits")
+    void testCreateNotifiesAfterCommit() {
+        User creator = user(1L, "creator");
+        when(userRepository.findByUsername("creator")).thenReturn(Optional.of(creator));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(10L);
+            return task;
+        });
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Write report");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            taskService.createTask(request, "creator");
+
+            verify(taskRepository).flush();
+            verifyNoInteractions(directNotificationService);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(directNotificationService).publishTaskCreated(any(Task.class), eq(creator), eq(creator));
+    }
+
+    @Test
+    @DisplayName("Should tell a forbidden task from a missing one when nothing matched")
+    void testNoRowMatched() {
+        when(taskRepository.updateIfPermitted(any(), any(), any(), any(), anyBoolean(), any(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsById(10L)).thenReturn(true);
+
+        assertThrows(TaskPermissionException.class, () -> taskService.patchTask(10L, new TaskPatchRequest(), "stranger"));
+        assertThrows(TaskNotFoundException.class, () -> taskService.patchTask(11L, new TaskPatchRequest(), "stranger"));
+        verifyNoInteractions(directNotificationService);
+    }
+
+    @Test
+    @DisplayName("Should report an unknown assignee as a missing user")
+    void testUnknownAssignee() {
+        when(taskRepository.updateIfPermitted(any(), any(), any(), any(), anyBoolean(), any(), any(), eq(99L)))
+                .thenThrow(new DataIntegrityViolationException("tasks_assigned_to_fkey"));
+        TaskPatchRequest request = new TaskPatchRequest();
+        request.setAssignedTo(99L);
+
+        assertThrows(UserNotFoundException.class, () -> taskService.patchTask(10L, request, "creator"));
+    }
+
+    @Test
+    @DisplayName("Should delete in one statement and notify creator and assignee")
+    void testDelete() {
+        DeletedTask row = mock(DeletedTask.class);
+        when(row.getTitle()).thenReturn("Write report");
+        when(row.getCreatedById()).thenReturn(1L);
+        when(row.getCreatedByUsername()).thenReturn("creator");
+        when(row.getAssignedToId()).thenReturn(2L);
+        when(row.getAssignedToUsername()).thenReturn("assignee");
+        when(taskRepository.deleteIfPermitted(10L, "creator")).thenReturn(Optional.of(row));
+
+        taskService.deleteTask(10L, "creator");
+
+        ArgumentCaptor<User> creator = ArgumentCaptor.forClass(User.class);
+        ArgumentCaptor<User> assignee = ArgumentCaptor.forClass(User.class);
+        verify(directNotificationService).publishTaskDeleted(eq(10L), eq("Write report"), creator.capture(),
+                assignee.capture());
+        assertEquals("creator", creator.getValue().getUsername());
+        assertEquals("assignee", assignee.getValue().getUsername());
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should apply a mixed batch with one flush and one fan-out")
+    void testBatch() {
+        User creator = user(1L, "creator");
+        User assignee = user(2L, "assignee");
+        Task existing = new Task();
+        existing.setId(10L);
+        existing.setTitle("Write report");
+        existing.setCreatedBy(creator);
+        existing.setAssignedTo(creator);
+        Task doomed = new Task();
+        doomed.setId(11L);
+        doomed.setTitle("Old task");
+        doomed.setCreatedBy(creator);
+        doomed.setAssignedTo(assignee);
+        when(userRepository.findByUsername("creator")).thenReturn(Optional.of(creator));
+        when(userRepository.findAllById(any())).thenReturn(List.of(assignee));
+        when(taskRepository.findAllWithUsersByIdIn(any())).thenReturn(List.of(existing, doomed));
+
+        TaskBatchResponse response = taskService.applyBatch(batch(
+                operation(TaskBatchOperation.Op.CREATE, null, "New task", 2L),
+                operation(TaskBatchOperation.Op.UPDATE, 10L, "Write the report", 2L),
+                operation(TaskBatchOperation.Op.DELETE, 11L, null, null)), "creator");
+
+        assertEquals(3, response.getResults().size());
+        assertEquals("assignee", response.getResults().get(0).getTask().getAssignedToUsername());
+        assertEquals("Write the report", response.getResults().get(1).getTask().getTitle());
+        assertEquals(11L, response.getResults().get(2).getId());
+        assertNull(response.getResults().get(2).getTask());
+        verify(taskRepository).deleteAll(List.of(doomed));
+        verify(taskRepository, times(1)).flush();
+        ArgumentCaptor<BatchFanOut> fanOut = ArgumentCaptor.forClass(BatchFanOut.class);
+        verify(directNotificationService).publishTaskBatch(fanOut.capture());
+        assertEquals(2, fanOut.getValue().recipients());
+        verify(directNotificationService, never()).publishTaskCreated(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a batch that touches a task it deleted")
+    void testBatchDeletedTask() {
+        User creator = user(1L, "creator");
+        Task task = new Task();
+        task.setId(10L);
+        task.setCreatedBy(creator);
+        task.setAssignedTo(creator);
+        when(userRepository.findByUsername("creator")).thenReturn(Optional.of(creator));
+        when(taskRepository.findAllWithUsersByIdIn(any())).thenReturn(List.of(task));
+
+        TaskBatchRequest request = batch(operation(TaskBatchOperation.Op.DELETE, 10L, null, null),
+                operation(TaskBatchOperation.Op.UPDATE, 10L, "Again", null));
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.applyBatch(request, "creator"));
+        verify(taskRepository, never()).flush();
+        verifyNoInteractions(directNotificationService);
+    }
+
+    private static TaskBatchRequest batch(TaskBatchOperation... operations) {
+        TaskBatchRequest request = new TaskBatchRequest();
+        request.setOperations(List.of(operations));
+        return request;
+    }
+
+    private static TaskBatchOperation operation(TaskBatchOperation.Op op, Long id, String title, Long assignedTo) {
+        TaskBatchOperation operation = new TaskBatchOperation();
+        operation.setOp(op);
+        operation.setId(id);
+        operation.setTitle(title);
+        operation.setAssignedTo(assignedTo);
+        return operation;
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+
+    /**
+     * The assignee moved the task from pending to completed
+     */
+    private static UpdatedTask updatedRow() {
+        UpdatedTask row = mock(UpdatedTask.class);
+        when(row.getId()).thenReturn(10L);
+        when(row.getTitle()).thenReturn("Write report");
+        when(row.getStatus()).thenReturn("COMPLETED");
+        when(row.getPriority()).thenReturn("MEDIUM");
+        when(row.getCreatedById()).thenReturn(1L);
+        when(row.getCreatedByUsername()).thenReturn("creator");
+        when(row.getAssignedToId()).thenReturn(2L);
+        when(row.getAssignedToUsername()).thenReturn("assignee");
+        when(row.getCreatedAt()).thenReturn(Instant.parse("2025-06-01T09:00:00Z"));
+        when(row.getUpdatedAt()).thenReturn(Instant.parse("2025-06-01T10:00:00Z"));
+        when(row.getVersion()).thenReturn(2L);
+        when(row.getActorId()).thenReturn(2L);
+        when(row.getActorUsername()).thenReturn("assignee");
+        when(row.getPreviousTitle()).thenReturn("Write report");
+        when(row.getPreviousStatus()).thenReturn("PENDING");
+        when(row.getPreviousPriority()).thenReturn("MEDIUM");
+        when(row.getPreviousAssignedToId()).thenReturn(2L);
+        when(row.getPreviousAssignedToUsername()).thenReturn("assignee");
+        when(row.getPreviousUpdatedAt()).thenReturn(Instant.parse("2025-06-01T09:00:00Z"));
+        return row;
+    }
+}
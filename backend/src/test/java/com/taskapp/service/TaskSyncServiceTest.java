@@ -0,0 +1,145 @@
+package com.taskapp.service;
+
+import com.taskapp.config.TaskChangesProperties;
+import com.taskapp.dto.TaskChangesResponse;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.TaskSyncHorizon;
+import com.taskapp.entity.TaskTombstone;
+import com.taskapp.entity.User;
+import com.taskapp.mapper.TaskMapper;
+import com.taskapp.repository.TaskRepository;
+import com.taskapp.repository.TaskSyncHorizonRepository;
+import com.taskapp.repository.TaskTombstoneRepository;
+import com.taskapp.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for TaskSyncService merging of task changes and tombstones.
+ */
+class TaskSyncServiceTest {
+
+    // Oldest transaction still running; changes written at or above it are held back
+    private static final long HORIZON = 1000;
+
+    private TaskRepository taskRepository;
+    private TaskTombstoneRepository tombstoneRepository;
+    private TaskSyncHorizonRepository horizonRepository;
+    private TaskChangesProperties properties;
+    private TaskSyncService taskSyncService;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        tombstoneRepository = mock(TaskTombstoneRepository.class);
+        horizonRepository = mock(TaskSyncHorizonRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        properties = new TaskChangesProperties();
+        taskSyncService = new TaskSyncService(taskRepository, tombstoneRepository, horizonRepository, userRepository,
+                new TaskMapper(), properties, new TaskAppMetrics(new SimpleMeterRegistry()));
+
+        alice = new User();
+        alice.setId(1L);
+        alice.setUsername("alice");
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(horizonRepository.findById(TaskSyncHorizon.ID)).thenReturn(Optional.empty());
+        when(taskRepository.findOldestRunningXid()).thenReturn(HORIZON);
+    }
+
+    @Test
+    @DisplayName("Should merge upserts and deletions in feed order, keeping each task's last change")
+    void testMergesByPosition() {
+        // Transaction 7 drew version 15 before transaction 8 drew 13, but committed first
+        changes(List.of(task(10L, 5, 11), task(11L, 7, 15), task(12L, 8, 13)),
+                List.of(tombstone(11L, 5, 12), tombstone(10L, 8, 14)));
+
+        TaskChangesResponse response = taskSyncService.getChanges("alice", "5:10", null);
+
+        assertEquals(List.of(11L, 12L), response.getUpserts().stream().map(TaskResponse::getId).toList());
+        assertEquals(List.of(10L), response.getDeletions());
+        assertEquals("8:14", response.getNextSince());
+        assertFalse(response.isHasMore());
+        assertFalse(response.isPending());
+        verify(taskRepository).findChangedSince(1L, 5, 10, 501);
+    }
+
+    @Test
+    @DisplayName("Should stop at the limit and report more")
+    void testLimit() {
+        changes(List.of(task(1L, 4, 5), task(2L, 4, 6), task(3L, 4, 7)), List.of());
+
+        TaskChangesResponse response = taskSyncService.getChanges("alice", "0", 2);
+
+        assertEquals(2, response.getUpserts().size());
+        assertEquals("4:6", response.getNextSince());
+        assertTrue(response.isHasMore());
+        verify(taskRepository).findChangedSince(1L, 0, 0, 3);
+    }
+
+    @Test
+    @DisplayName("Should hold back changes from transactions at or above the oldest running one")
+    void testHorizon() {
+        changes(List.of(task(1L, 4, 5), task(2L, HORIZON, 6), task(3L, HORIZON + 1, 7)), List.of());
+
+        TaskChangesResponse response = taskSyncService.getChanges("alice", "0", null);
+
+        assertEquals(List.of(1L), response.getUpserts().stream().map(TaskResponse::getId).toList());
+        assertEquals("4:5", response.getNextSince());
+        assertTrue(response.isPending());
+    }
+
+    @Test
+    @DisplayName("Should ask for a reload when the position predates purged tombstones or is not one")
+    void testResetRequired() {
+        TaskSyncHorizon horizon = new TaskSyncHorizon();
+        horizon.setId(TaskSyncHorizon.ID);
+        horizon.setPurgedThroughXid(100);
+        when(horizonRepository.findById(TaskSyncHorizon.ID)).thenReturn(Optional.of(horizon));
+
+        TaskChangesResponse response = taskSyncService.getChanges("alice", "50:7", null);
+
+        assertTrue(response.isResetRequired());
+        assertEquals("50:7", response.getNextSince());
+        assertTrue(taskSyncService.getChanges("alice", "1234", null).isResetRequired());
+        verifyNoInteractions(taskRepository);
+        assertFalse(taskSyncService.getChanges("alice", "0", null).isResetRequired());
+        assertFalse(taskSyncService.getChanges("alice", "101:3", null).isResetRequired());
+    }
+
+    private void changes(List<Task> tasks, List<TaskTombstone> tombstones) {
+        when(taskRepository.findChangedSince(eq(1L), anyLong(), anyLong(), anyInt())).thenReturn(tasks);
+        when(tombstoneRepository.findChangedSince(eq(1L), anyLong(), anyLong(), any(Limit.class))).thenReturn(tombstones);
+    }
+
+    private Task task(Long id, long changeXid, long changeVersion) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setCreatedBy(alice);
+        task.setAssignedTo(alice);
+        task.setChangeXid(changeXid);
+        task.setChangeVersion(changeVersion);
+        return task;
+    }
+
+    private static TaskTombstone tombstone(Long taskId, long changeXid, long changeVersion) {
+        TaskTombstone tombstone = new TaskTombstone();
+        tombstone.setTaskId(taskId);
+        tombstone.setUserId(1L);
+        tombstone.setChangeXid(changeXid);
+        tombstone.setChangeVersion(changeVersion);
+        return tombstone;
+    }
+}
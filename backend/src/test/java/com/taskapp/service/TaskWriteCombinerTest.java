@@ -0,0 +1,168 @@
+package com.taskapp.service;
+
+import com.taskapp.config.TaskWriteCombinerProperties;
+import com.taskapp.dto.TaskRequest;
+import com.taskapp.dto.TaskResponse;
+import com.taskapp.entity.Task;
+import com.taskapp.entity.User;
+import com.taskapp.exception.UserNotFoundException;
+import com.taskapp.mapper.TaskMapper;
+import com.taskapp.service.TaskService.GroupedCreate;
+import com.taskapp.service.TaskService.GroupedCreateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for TaskWriteCombiner grouping creations and handing each caller its own outcome.
+ */
+class TaskWriteCombinerTest {
+
+    private final AtomicLong ids = new AtomicLong();
+    private TaskService taskService;
+    private DirectNotificationService directNotificationService;
+    private TaskWriteCombinerProperties properties;
+    private TaskWriteCombiner combiner;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        taskService = mock(TaskService.class);
+        directNotificationService = mock(DirectNotificationService.class);
+        properties = new TaskWriteCombinerProperties();
+        properties.setEnabled(true);
+        properties.setLinger(Duration.ofSeconds(5));
+        properties.setMaxBatch(4);
+        combiner = new TaskWriteCombiner(taskService, directNotificationService, new TaskMapper(),
+                new TaskAppMetrics(new SimpleMeterRegistry()), properties);
+
+        alice = new User();
+        alice.setId(1L);
+        alice.setUsername("alice");
+        when(taskService.createTaskGroup(anyList())).thenAnswer(invocation -> {
+            List<GroupedCreate> creations = invocation.getArgument(0);
+            return creations.stream().map(creation -> created(creation.request().getTitle())).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        combiner.stop();
+    }
+
+    @Test
+    @DisplayName("Should commit concurrent creations as one group")
+    void testGroupsConcurrentCreations() throws Exception {
+        combiner.start();
+        List<Future<TaskResponse>> responses = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 4; i++) {
+                String title = "Task " + i;
+                responses.add(callers.submit(() -> combiner.createTask(request(title), "alice")));
+            }
+            for (int i = 0; i < 4; i++) {
+                assertEquals("Task " + i, responses.get(i).get().getTitle());
+            }
+        }
+
+        // A full group commits without waiting out the linger
+        verify(taskService, times(1)).createTaskGroup(argThat(creations -> creations.size() == 4));
+        verify(directNotificationService, times(4)).publishTaskCreated(any(), eq(alice), eq(alice));
+        verify(taskService, never()).createTask(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail only the caller whose creation was invalid")
+    void testPerCallerError() {
+        UserNotFoundException missing = new UserNotFoundException(99L);
+        when(taskService.createTaskGroup(anyList())).thenReturn(List.of(
+                created("Valid"), new GroupedCreateResult(null, null, null, missing)));
+        TaskWriteCombiner.PendingCreate valid = pending("Valid");
+        TaskWriteCombiner.PendingCreate invalid = pending("Invalid");
+
+        combiner.commit(List.of(valid, invalid));
+
+        assertEquals("Valid", valid.result().join().getTitle());
+        assertSame(missing, assertThrows(Exception.class, () -> invalid.result().join()).getCause());
+        verify(directNotificationService, times(1)).publishTaskCreated(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should retry each creation on its own when the shared transaction fails")
+    void testGroupFailureFallsBack() {
+        when(taskService.createTaskGroup(anyList())).thenThrow(new DataAccessResourceFailureException("connection lost"));
+        TaskResponse single = new TaskResponse();
+        single.setTitle("Alone");
+        when(taskService.createTask(any(), eq("alice"))).thenReturn(single);
+        TaskWriteCombiner.PendingCreate first = pending("One");
+        TaskWriteCombiner.PendingCreate second = pending("Two");
+
+        combiner.commit(List.of(first, second));
+
+        assertSame(single, first.result().join());
+        assertSame(single, second.result().join());
+        verify(taskService, times(2)).createTask(any(), eq("alice"));
+        verifyNoInteractions(directNotificationService);
+    }
+
+    @Test
+    @DisplayName("Should fail the group and fall back to direct creation when the writer dies")
+    void testWriterErrorFallsBack() {
+        properties.setLinger(Duration.ofMillis(1));
+        when(taskService.createTaskGroup(anyList())).thenThrow(new OutOfMemoryError("test"));
+        combiner.start();
+
+        assertThrows(OutOfMemoryError.class, () -> combiner.createTask(request("Lost"), "alice"));
+
+        TaskRequest request = request("Direct");
+        combiner.createTask(request, "alice");
+        verify(taskService).createTask(request, "alice");
+    }
+
+    @Test
+    @DisplayName("Should create directly when disabled")
+    void testDisabled() {
+        properties.setEnabled(false);
+        combiner.start();
+        TaskRequest request = request("Direct");
+
+        combiner.createTask(request, "alice");
+
+        verify(taskService).createTask(request, "alice");
+        verify(taskService, never()).createTaskGroup(anyList());
+    }
+
+    private GroupedCreateResult created(String title) {
+        Task task = new Task();
+        task.setId(ids.incrementAndGet());
+        task.setTitle(title);
+        task.setCreatedBy(alice);
+        task.setAssignedTo(alice);
+        return new GroupedCreateResult(task, alice, alice, null);
+    }
+
+    private static TaskWriteCombiner.PendingCreate pending(String title) {
+        return new TaskWriteCombiner.PendingCreate(new GroupedCreate(request(title), "alice"), System.nanoTime());
+    }
+
+    private static TaskRequest request(String title) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        return request;
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskapp.service;
+
+import com.taskapp.config.UserDirectoryProperties;
+import com.taskapp.dto.UserDirectoryResponse;
+import com.taskapp.dto.UserRegisteredEvent;
+import com.taskapp.messaging.MessagePublisher;
+import com.taskapp.messaging.config.MessagingProperties;
+import com.taskapp.repository.UserRepository;
+import com.taskapp.repository.UserRepository.DirectoryRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for UserDirectory prefix lookups and the keyset-paged directory in UserService.
+ */
+class UserDirectoryTest {
+
+    private UserRepository userRepository;
+    private MessagePublisher messagePublisher;
+    private UserDirectoryProperties properties;
+    private UserDirectory directory;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        messagePublisher = mock(MessagePublisher.class);
+        properties = new UserDirectoryProperties();
+        properties.setLoadPageSize(2);
+        directory = new UserDirectory(userRepository, messagePublisher, new MessagingProperties(), properties);
+        userService = new UserService(userRepository, directory, properties);
+
+        // Rows are built before stubbing the repository, since they are mocks themselves
+        List<DirectoryRow> first = List.of(row(1L, "bob"), row(2L, "Alice"));
+        List<DirectoryRow> second = List.of(row(3L, "albert"), row(4L, "carol"));
+        List<DirectoryRow> last = List.of(row(5L, "alex"));
+        when(userRepository.findDirectoryPage(0L, Limit.of(2))).thenReturn(first);
+        when(userRepository.findDirectoryPage(2L, Limit.of(2))).thenReturn(second);
+        when(userRepository.findDirectoryPage(4L, Limit.of(2))).thenReturn(last);
+        directory.start();
+    }
+
+    @Test
+    @DisplayName("Should load every page and match prefixes ignoring case")
+    void testPrefix() {
+        assertEquals(5, directory.size());
+        assertEquals(List.of("albert", "alex", "Alice"), usernames(directory.page("AL", null, 10)));
+        assertEquals(List.of("Alice"), usernames(directory.page("ali", null, 10)));
+        assertTrue(directory.page("dave", null, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should page through matches with a cursor")
+    void testPaging() {
+        UserDirectoryResponse first = userService.getDirectory("al", null, 2);
+
+        assertEquals(List.of("albert", "alex"), first.getUsers().stream().map(UserDirectoryResponse.Entry::getUsername).toList());
+        assertEquals("alex", UserService.decodeCursor(first.getNextCursor()));
+
+        UserDirectoryResponse last = userService.getDirectory("al", first.getNextCursor(), 2);
+
+        assertEquals(List.of(new UserDirectoryResponse.Entry(2L, "Alice")), last.getUsers());
+        assertNull(last.getNextCursor());
+        assertEquals(5, userService.getDirectory(null, null, null).getUsers().size());
+    }
+
+    @Test
+    @DisplayName("Should add registrations once and keep them across a reload")
+    void testRegistration() {
+        directory.publishRegistration(6L, "Alan");
+        directory.add(6L, "Alan");
+
+        assertEquals(List.of("Alan", "albert"), usernames(directory.page("al", null, 2)));
+        verify(messagePublisher).publishMessage(eq("user-directory"), eq(new UserRegisteredEvent(6L, "Alan")));
+
+        directory.reload();
+
+        assertEquals(6, directory.size());
+    }
+
+    private static List<String> usernames(List<UserDirectory.Entry> entries) {
+        return entries.stream().map(UserDirectory.Entry::username).toList();
+    }
+
+    private static DirectoryRow row(Long id, String username) {
+        DirectoryRow row = mock(DirectoryRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getUsername()).thenReturn(username);
+        return row;
+    }
+}
@@ -0,0 +1,84 @@
+-- Change tracking for delta sync (GET /api/tasks/changes?since=<version>).
+-- Idempotent, so it can also be applied to an existing database with psql.
+
+-- One sequence orders task writes and removals alike
+CREATE SEQUENCE IF NOT EXISTS task_change_seq;
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_version BIGINT;
+UPDATE tasks SET change_version = nextval('task_change_seq') WHERE change_version IS NULL;
+ALTER TABLE tasks ALTER COLUMN change_version SET DEFAULT nextval('task_change_seq');
+ALTER TABLE tasks ALTER COLUMN change_version SET NOT NULL;
+
+-- The transaction that wrote each change (pg_current_xact_id as a number). The feed is read in
+-- (change_xid, change_version) order and only below the oldest transaction still running, so a
+-- change can never commit behind a position a client has already read past. Existing rows take
+-- the xid of the transaction applying this script.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+
+-- A user's changes are a range scan on either of their columns
+DROP INDEX IF EXISTS idx_tasks_assigned_to_change;
+DROP INDEX IF EXISTS idx_tasks_created_by_change;
+CREATE INDEX IF NOT EXISTS idx_tasks_assigned_to_change_xid ON tasks(assigned_to, change_xid, change_version);
+CREATE INDEX IF NOT EXISTS idx_tasks_created_by_change_xid ON tasks(created_by, change_xid, change_version);
+
+-- Tasks that left a user's view: deleted, or reassigned away from them
+CREATE TABLE IF NOT EXISTS task_tombstones (
+    change_version BIGINT PRIMARY KEY DEFAULT nextval('task_change_seq'),
+    task_id INTEGER NOT NULL,
+    user_id INTEGER NOT NULL,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint
+);
+ALTER TABLE task_tombstones ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+DROP INDEX IF EXISTS idx_task_tombstones_user_change;
+CREATE INDEX IF NOT EXISTS idx_task_tombstones_user_change_xid ON task_tombstones(user_id, change_xid, change_version);
+CREATE INDEX IF NOT EXISTS idx_task_tombstones_deleted_at ON task_tombstones(deleted_at);
+
+-- Highest transaction whose tombstones were purged; clients synced before it must reload.
+-- Replaces purged_through, which held a change version.
+CREATE TABLE IF NOT EXISTS task_sync_horizon (
+    id SMALLINT PRIMARY KEY,
+    purged_through_xid BIGINT NOT NULL DEFAULT 0
+);
+ALTER TABLE task_sync_horizon ADD COLUMN IF NOT EXISTS purged_through_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_sync_horizon DROP COLUMN IF EXISTS purged_through;
+INSERT INTO task_sync_horizon (id, purged_through_xid) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION bump_task_change_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_xid = pg_current_xact_id()::text::bigint;
+    NEW.change_version = nextval('task_change_seq');
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS bump_tasks_change_version ON tasks;
+CREATE TRIGGER bump_tasks_change_version
+    BEFORE UPDATE ON tasks
+    FOR EACH ROW
+    EXECUTE FUNCTION bump_task_change_version();
+
+CREATE OR REPLACE FUNCTION record_task_tombstones()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO task_tombstones (task_id, user_id) VALUES (OLD.id, OLD.created_by);
+        IF OLD.assigned_to <> OLD.created_by THEN
+            INSERT INTO task_tombstones (task_id, user_id) VALUES (OLD.id, OLD.assigned_to);
+        END IF;
+        RETURN OLD;
+    END IF;
+    -- The previous assignee no longer sees the task unless they created it
+    IF NEW.assigned_to <> OLD.assigned_to AND OLD.assigned_to <> OLD.created_by THEN
+        INSERT INTO task_tombstones (task_id, user_id) VALUES (OLD.id, OLD.assigned_to);
+    END IF;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS record_tasks_tombstones ON tasks;
+CREATE TRIGGER record_tasks_tombstones
+    AFTER DELETE OR UPDATE OF assigned_to ON tasks
+    FOR EACH ROW
+    EXECUTE FUNCTION record_task_tombstones();
@@ -0,0 +1,5 @@
+-- Let the backend allocate task IDs in blocks (Task.id, allocationSize = 50) so that inserts
+-- can be JDBC-batched. Hibernate's pooled optimizer expects the increment to equal the block
+-- size. Plain inserts that take the column default skip ahead by 50 as well.
+-- Idempotent, so it can also be applied to an existing database with psql.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
@@ -0,0 +1,17 @@
+-- Full-text search over task titles and descriptions (GET /api/tasks/search?q=).
+-- Idempotent, so it can also be applied to an existing database with psql.
+
+-- Title matches weigh more than description matches. The 'english' configuration here must
+-- match the one the search query uses.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- A search only ever covers one user's tasks, so the user column leads each index: a common
+-- word is then looked up among that user's tasks rather than across the whole table.
+-- btree_gin lets a GIN index hold the plain integer column.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+CREATE INDEX IF NOT EXISTS idx_tasks_search_created_by ON tasks USING GIN (created_by, search_vector);
+CREATE INDEX IF NOT EXISTS idx_tasks_search_assigned_to ON tasks USING GIN (assigned_to, search_vector);
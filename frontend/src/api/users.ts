@@ -1,7 +1,9 @@
 import { apiClient } from './apiClient';
 import { apiConfig } from '../config';
-import type { User } from '../types/api';
+import type { UserDirectoryPage } from '../types/api';
 
-export const getUsers = async (): Promise<User[]> => {
-  return apiClient.get<User[]>(apiConfig.endpoints.users.base);
+// A page of usernames starting with prefix, ignoring case
+export const searchUsers = async (prefix: string, limit: number): Promise<UserDirectoryPage> => {
+  const params = new URLSearchParams({ prefix, limit: String(limit) });
+  return apiClient.get<UserDirectoryPage>(`${apiConfig.endpoints.users.base}?${params}`);
 };
@@ -0,0 +1,87 @@
+import { useEffect, useState } from 'react';
+import { Autocomplete, CircularProgress, TextField } from '@mui/material';
+import { searchUsers } from '../api/users';
+import { useErrorNotification } from './useErrorNotification';
+import type { UserDirectoryEntry } from '../types/api';
+
+// Usernames shown per lookup; typing more narrows the prefix instead of paging
+const PAGE_SIZE = 20;
+const DEBOUNCE_MS = 250;
+
+interface AssigneePickerProps {
+  value: UserDirectoryEntry | null;
+  onChange: (assignee: UserDirectoryEntry | null) => void;
+  disabled?: boolean;
+}
+
+// Type-ahead over the paged user directory: one small prefix query per pause in typing
+export default function AssigneePicker({ value, onChange, disabled }: AssigneePickerProps) {
+  const { showError } = useErrorNotification();
+  const [open, setOpen] = useState(false);
+  const [inputValue, setInputValue] = useState('');
+  const [options, setOptions] = useState<UserDirectoryEntry[]>([]);
+  const [loading, setLoading] = useState(false);
+
+  useEffect(() => {
+    if (!open) return;
+
+    // Ignore answers to prefixes the user has already typed past
+    let current = true;
+    const timer = setTimeout(async () => {
+      setLoading(true);
+      try {
+        const page = await searchUsers(inputValue.trim(), PAGE_SIZE);
+        if (current) setOptions(page.users);
+      } catch (error) {
+        const message = error instanceof Error ? error.message : 'Failed to load users';
+        console.error('Error loading users:', error);
+        if (current) showError(message);
+      } finally {
+        if (current) setLoading(false);
+      }
+    }, DEBOUNCE_MS);
+
+    return () => {
+      current = false;
+      clearTimeout(timer);
+    };
+  }, [open, inputValue, showError]);
+
+  return (
+    <Autocomplete
+      open={open}
+      onOpen={() => setOpen(true)}
+      onClose={() => setOpen(false)}
+      value={value}
+      onChange={(_, assignee) => onChange(assignee)}
+      inputValue={inputValue}
+      onInputChange={(_, text) => setInputValue(text)}
+      options={value && !options.some(option => option.id === value.id) ? [value, ...options] : options}
+      getOptionLabel={option => option.username}
+      isOptionEqualToValue={(option, selected) => option.id === selected.id}
+      // The server already matched the prefix
+      filterOptions={found => found}
+      loading={loading}
+      disabled={disabled}
+      noOptionsText="No matching users"
+      renderInput={params => (
+        <TextField
+          {...params}
+          label="Assign To (Optional)"
+          placeholder="Type a username"
+          slotProps={{
+            input: {
+              ...params.InputProps,
+              endAdornment: (
+                <>
+                  {loading && <CircularProgress color="inherit" size={20} />}
+                  {params.InputProps.endAdornment}
+                </>
+              ),
+            },
+          }}
+        />
+      )}
+    />
+  );
+}
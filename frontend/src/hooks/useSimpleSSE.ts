@@ -1,8 +1,9 @@
 import { useEffect, useRef, useState } from 'react';
 import { useAuth } from './useAuth';
+import type { TaskNotification } from '../types/api';
 
 interface SimpleSSEHookProps {
-  onTaskUpdate: () => void;
+  onTaskUpdate: (notification: TaskNotification) => void;
 }
 
 export function useSimpleSSE({ onTaskUpdate }: SimpleSSEHookProps) {
@@ -42,9 +43,9 @@ export function useSimpleSSE({ onTaskUpdate }: SimpleSSEHookProps) {
 
     eventSource.addEventListener('notification', (event) => {
       try {
-        const notification = JSON.parse(event.data);
+        const notification: TaskNotification = JSON.parse(event.data);
         if (notification.type && notification.type.includes('TASK_')) {
-          callbackRef.current();
+          callbackRef.current(notification);
         }
       } catch (error) {
         console.error('Error parsing notification:', error);
@@ -11,20 +11,16 @@ import {
   Typography,
   Paper,
   CircularProgress,
-  FormControl,
-  InputLabel,
-  Select,
-  MenuItem,
 } from '@mui/material';
-import type { SelectChangeEvent } from '@mui/material';
 import { Delete as DeleteIcon } from '@mui/icons-material';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../hooks/useAuth';
 import { useSimpleSSE } from '../hooks/useSimpleSSE';
 import { useErrorNotification } from '../components/useErrorNotification';
+import AssigneePicker from '../components/AssigneePicker';
 import { getTasks, createTask, deleteTask } from '../api/tasks';
-import { getUsers } from '../api/users';
-import type { User, Task } from '../types/api';
+import type { Task, TaskNotification, UserDirectoryEntry } from '../types/api';
+import { applyTaskNotification, placeTask } from '../utils/taskNotifications';
 
 // Memoized TaskList component
 const TaskList = ({ 
@@ -74,17 +70,13 @@ export function Tasks() {
   // Form state using refs for uncontrolled components
   const titleRef = useRef<HTMLInputElement>(null);
   const descriptionRef = useRef<HTMLInputElement>(null);
-  const [selectedAssignee, setSelectedAssignee] = useState<number | ''>('');
+  const [selectedAssignee, setSelectedAssignee] = useState<UserDirectoryEntry | null>(null);
   
   // Task state
   const [createdTasks, setCreatedTasks] = useState<Task[]>([]);
   const [assignedTasks, setAssignedTasks] = useState<Task[]>([]);
   const [loading, setLoading] = useState(false);
   const [submitting, setSubmitting] = useState(false);
-  
-  // User state
-  const [users, setUsers] = useState<User[]>([]);
-  const [usersLoading, setUsersLoading] = useState(false);
     // Prevent concurrent API calls
   const operationInProgress = useRef(false);
 
@@ -113,23 +105,6 @@ export function Tasks() {
     }
   }, [user, showError]);
 
-  // Load users
-  const loadUsers = useCallback(async () => {
-    if (operationInProgress.current) return;
-    
-    setUsersLoading(true);
-    
-    try {
-      const fetchedUsers = await getUsers();
-      setUsers(fetchedUsers);
-    } catch (error) {
-      const message = error instanceof Error ? error.message : 'Failed to load users';
-      console.error('Error loading users:', error);
-      showError(message);
-    } finally {
-      setUsersLoading(false);    }
-  }, [showError]);
-
   // Handle auth changes
   useEffect(() => {
     if (!isInitialized) return;
@@ -141,8 +116,7 @@ export function Tasks() {
     
     // Load initial data
     loadTasks();
-    loadUsers();
-  }, [isInitialized, isAuthenticated, navigate, loadTasks, loadUsers]);
+  }, [isInitialized, isAuthenticated, navigate, loadTasks]);
 
   // Handle task creation
   const handleSubmit = useCallback(async (e: React.FormEvent) => {
@@ -164,7 +138,7 @@ export function Tasks() {
       const newTask = await createTask({
         title,
         description,
-        assignedTo: selectedAssignee || undefined,
+        assignedTo: selectedAssignee?.id,
       });
         // Optimistic update
       if (newTask.createdByUsername === user.username) {
@@ -177,7 +151,7 @@ export function Tasks() {
       // Clear form
       titleRef.current.value = '';
       descriptionRef.current.value = '';
-      setSelectedAssignee('');
+      setSelectedAssignee(null);
       
       showSuccess('Task created successfully');
     } catch (error) {
@@ -205,13 +179,28 @@ export function Tasks() {
       showError(message);
     }  }, [showError, showSuccess]);
   
-  // Handle SSE updates  
-  const handleTaskUpdate = useCallback(() => {
-    console.log('SSE notification received - refreshing tasks');
-    // Debounce refresh to avoid excessive API calls
-    setTimeout(loadTasks, 100);
-  }, [loadTasks]);
+  // Latest lists for the SSE handler, which patches them instead of reloading
+  const tasksRef = useRef<Task[]>([]);
+  useEffect(() => {
+    tasksRef.current = [...createdTasks, ...assignedTasks];
+  }, [createdTasks, assignedTasks]);
 
+  // Handle SSE updates
+  const handleTaskUpdate = useCallback((notification: TaskNotification) => {
+    const taskId = Number(notification.taskId);
+    const existing = tasksRef.current.find(task => task.id === taskId);
+    const next = user && notification.taskId ? applyTaskNotification(existing, notification) : undefined;
+    if (!user || next === undefined) {
+      console.log('SSE notification received - refreshing tasks');
+      // Debounce refresh to avoid excessive API calls
+      setTimeout(loadTasks, 100);
+      return;
+    }
+    if (next === existing) return;
+    const username = user.username;
+    setCreatedTasks(prev => placeTask(prev, taskId, next, next?.createdByUsername === username));
+    setAssignedTasks(prev => placeTask(prev, taskId, next, next?.assignedToUsername === username));
+  }, [loadTasks, user]);
   // Setup SSE connection
   const { isConnected } = useSimpleSSE({ onTaskUpdate: handleTaskUpdate });
 
@@ -262,23 +251,11 @@ export function Tasks() {
             fullWidth
             disabled={submitting}
           />
-          <FormControl fullWidth disabled={submitting || usersLoading}>
-            <InputLabel>Assign To (Optional)</InputLabel>
-            <Select
-              value={selectedAssignee}
-              onChange={(e: SelectChangeEvent<number | ''>) => setSelectedAssignee(e.target.value)}
-              label="Assign To (Optional)"
-            >
-              <MenuItem value="">
-                <em>Unassigned</em>
-              </MenuItem>
-              {users.map(user => (
-                <MenuItem key={user.id} value={user.id}>
-                  {user.username} ({user.email})
-                </MenuItem>
-              ))}
-            </Select>
-          </FormControl>
+          <AssigneePicker
+            value={selectedAssignee}
+            onChange={setSelectedAssignee}
+            disabled={submitting}
+          />
           <Button 
             type="submit" 
             variant="contained" 
@@ -9,16 +9,41 @@ export interface Task {
   createdByUsername: string;
   createdAt: string;
   updatedAt: string;
+  version?: number;
   creatorUsername: string; // Added for task creation tracking
   assignedUsername: string; // Added for task assignment tracking
 }
 
+// SSE notification; task or changes are present when the backend sends task state
+export interface TaskNotification {
+  id: string;
+  type: string;
+  message: string;
+  username: string;
+  taskId?: string;
+  taskTitle?: string;
+  taskVersion?: number;
+  task?: Task;
+  changes?: Partial<Task>;
+}
+
 export interface User {
   id: number;
   username: string;
   email: string;
 }
 
+// One entry of the paged user directory (GET /api/users?prefix=)
+export interface UserDirectoryEntry {
+  id: number;
+  username: string;
+}
+
+export interface UserDirectoryPage {
+  users: UserDirectoryEntry[];
+  nextCursor: string | null;
+}
+
 export interface LoginRequest {
   username: string;
   password: string;
@@ -0,0 +1,43 @@
+import type { Task, TaskNotification } from '../types/api';
+
+/**
+ * State of a task after a notification, applied to the local copy:
+ * null when the task was deleted, undefined when the notification carries no
+ * task state to apply and the list has to be reloaded.
+ */
+export function applyTaskNotification(
+  existing: Task | undefined,
+  notification: TaskNotification
+): Task | null | undefined {
+  if (notification.type === 'TASK_DELETED') {
+    return null;
+  }
+  // Older or repeated notification
+  if (existing?.version !== undefined && notification.taskVersion !== undefined
+      && existing.version >= notification.taskVersion) {
+    return existing;
+  }
+  if (notification.task) {
+    return notification.task;
+  }
+  if (notification.changes && existing) {
+    return { ...existing, ...notification.changes };
+  }
+  return undefined;
+}
+
+/**
+ * Replace a task in a list in place, add it at the top, or remove it
+ */
+export function placeTask(tasks: Task[], taskId: number, task: Task | null, belongs: boolean): Task[] {
+  const index = tasks.findIndex(t => t.id === taskId);
+  if (!task || !belongs) {
+    return index >= 0 ? tasks.filter(t => t.id !== taskId) : tasks;
+  }
+  if (index < 0) {
+    return [task, ...tasks];
+  }
+  const next = [...tasks];
+  next[index] = task;
+  return next;
+}